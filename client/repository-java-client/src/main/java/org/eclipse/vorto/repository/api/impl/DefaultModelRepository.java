@@ -57,40 +57,41 @@ public class DefaultModelRepository extends ImplementationBase implements IModel
 		}
 		
 		String url = String.format("%s/%s?expression=%s", getRequestContext().getBaseUrl(), REST_SEARCH_BASE, expression);
-		return requestAndTransform(url, transformToType(new TypeToken<ArrayList<ModelInfo>>() {}.getType()));
+		return requestJson(url, new TypeToken<ArrayList<ModelInfo>>() {}.getType(), false);
 	}
 
 	@Override
 	public CompletableFuture<ModelInfo> getById(ModelId modelId) {
 		String url = String.format("%s/%s/%s", getRequestContext().getBaseUrl(),REST_MODEL_BASE, modelId.getPrettyFormat());
-		return requestAndTransform(url, transformToClass(ModelInfo.class));
+		// model infos change with their state, references and attachments, so they are not cached
+		return requestJson(url, ModelInfo.class, false);
 	}
 
 	@Override
 	public <ModelContent extends IModel> CompletableFuture<ModelContent> getContent(ModelId modelId,
 			Class<ModelContent> resultClass) {
 		String url = String.format("%s/%s/%s/content", getRequestContext().getBaseUrl(),REST_MODEL_BASE, modelId.getPrettyFormat());
-		return requestAndTransform(url, transformToClass(resultClass));
+		return requestJson(url, resultClass, true);
 	}
 
 	@Override
 	public <ModelContent extends IModel> CompletableFuture<ModelContent> getContent(ModelId modelId,
 			Class<ModelContent> resultClass, String targetPlatformKey) {
 		String url = String.format("%s/%s/%s/content/%s", getRequestContext().getBaseUrl(),REST_MODEL_BASE, modelId.getPrettyFormat(),targetPlatformKey);
-		return requestAndTransform(url, transformToClass(resultClass));
+		return requestJson(url, resultClass, true);
 	}
 
 	@Override
 	public <ModelContent extends IModel> CompletableFuture<ModelContent> getContent(ModelId modelId,
 			Class<ModelContent> resultClass, ModelId mappingModelId) {
 		String url = String.format("%s/%s/%s/content/mappings/%s", getRequestContext().getBaseUrl(),REST_MODEL_BASE, modelId.getPrettyFormat(),mappingModelId.getPrettyFormat());
-		return requestAndTransform(url, transformToClass(resultClass));
+		return requestJson(url, resultClass, true);
 	}
 	
 	@Override
 	public CompletableFuture<List<Attachment>> getAttachments(ModelId modelId) {
 		String url = String.format("%s/%s/%s", getRequestContext().getBaseUrl(), REST_ATTACHMENT_BASE, modelId.getPrettyFormat());
-		return requestAndTransform(url, transformToType(new TypeToken<ArrayList<Attachment>>() {}.getType()));
+		return requestJson(url, new TypeToken<ArrayList<Attachment>>() {}.getType(), false);
 	}
 	
 	@Override
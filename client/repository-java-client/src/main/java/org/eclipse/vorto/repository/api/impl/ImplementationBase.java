@@ -15,16 +15,25 @@
 
 package org.eclipse.vorto.repository.api.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
 import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.api.content.BooleanAttributeProperty;
 import org.eclipse.vorto.repository.api.content.EnumAttributeProperty;
@@ -39,7 +48,6 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSyntaxException;
 
 public class ImplementationBase {
 	protected HttpClient httpClient;
@@ -68,33 +76,47 @@ public class ImplementationBase {
 			})
 			.create();
 	
+	/**
+	 * Runs the blocking requests of all clients without an executor of their own. The threads are daemons, so 
+	 * clients need not be closed.
+	 */
+	private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "vorto-repository-client");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	private final ConcurrentMap<String, CompletableFuture<byte[]>> pendingRequests = new ConcurrentHashMap<>();
+	
+	private final ResponseCache responseCache;
+	
 	public ImplementationBase(HttpClient httpClient, RequestContext requestContext) {
 		this.httpClient = httpClient;
 		this.requestContext = requestContext;
+		this.responseCache = requestContext.getResponseCacheSize() > 0
+				? new ResponseCache(requestContext.getResponseCacheSize()) : null;
 	}
 	
 	protected RequestContext getRequestContext() {
 		return requestContext;
 	}
 	
+	protected Executor getExecutor() {
+		return requestContext.getExecutor() != null ? requestContext.getExecutor() : DEFAULT_EXECUTOR;
+	}
+	
 	protected <K> Function<HttpResponse, K> transformToType(Type type) {
 		return response -> {
-			try {
-				return gson.fromJson(IOUtils.toString(response.getEntity().getContent(), "UTF-8"), type);
-			} catch (IOException | JsonSyntaxException e) {
+			try (Reader reader = new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8)) {
+				return gson.fromJson(reader, type);
+			} catch (IOException | JsonParseException e) {
 				throw new RepositoryClientException("Error in converting result to " + type.getTypeName(), e);
 			}
 		};
 	}
 	
 	protected <K> Function<HttpResponse, K> transformToClass(Class<K> modelClass) {
-		return response -> {
-			try {
-				return gson.fromJson(IOUtils.toString(response.getEntity().getContent(), "UTF-8"), modelClass);
-			} catch (IOException | JsonSyntaxException e) {
-				throw new RepositoryClientException("Error in converting result to " + modelClass.getName(), e);
-			}
-		};
+		return transformToType(modelClass);
 	}
 
 	protected <K> CompletableFuture<K> requestAndTransform(String url, Function<HttpResponse, K> successFn) {
@@ -102,11 +124,7 @@ public class ImplementationBase {
 	}
 	
 	protected <K> CompletableFuture<K> requestAndTransform(String url, Function<HttpResponse, K> successFn, Supplier<K> errorSupplier) {
-		HttpGet query = new HttpGet(url);
-		
-		if (requestContext.getRequestConfig() != null) {
-			query.setConfig(requestContext.getRequestConfig());
-		}
+		HttpGet query = createQuery(url);
 		
 		return CompletableFuture.supplyAsync(() -> {
 			try {
@@ -120,6 +138,83 @@ public class ImplementationBase {
 			} catch (IOException e) {
 				throw new RepositoryClientException("Error in executing URL : " + url, e);
 			}
-		});
+		}, getExecutor());
+	}
+	
+	/**
+	 * Requests the JSON resource of the given url and deserializes it to the given type. Concurrent requests for the 
+	 * same resource share one HTTP request, but every caller gets a result deserialized for it alone.
+	 * 
+	 * @param url
+	 * @param type
+	 * @param cacheable whether the response is cached and revalidated with its ETag or Last-Modified header
+	 * @return the deserialized resource or null if it could not be retrieved
+	 */
+	protected <K> CompletableFuture<K> requestJson(String url, Type type, boolean cacheable) {
+		CompletableFuture<byte[]> request = new CompletableFuture<>();
+		CompletableFuture<byte[]> pendingRequest = pendingRequests.putIfAbsent(url, request);
+		if (pendingRequest == null) {
+			pendingRequest = request;
+			CompletableFuture.supplyAsync(() -> executeJson(url, cacheable && responseCache != null),
+					getExecutor()).whenComplete((result, error) -> {
+						pendingRequests.remove(url, request);
+						if (error != null) {
+							request.completeExceptionally(error);
+						} else {
+							request.complete(result);
+						}
+					});
+		}
+		// every caller gets its own future and its own model, so that modifying either does not affect the other callers
+		return pendingRequest.thenApply(content -> content != null ? this.<K>fromJson(content, type) : null);
+	}
+	
+	private <K> K fromJson(byte[] content, Type type) {
+		try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+			return gson.fromJson(reader, type);
+		} catch (IOException | JsonParseException e) {
+			throw new RepositoryClientException("Error in converting result to " + type.getTypeName(), e);
+		}
+	}
+	
+	/**
+	 * @return the response body or null if the resource could not be retrieved
+	 */
+	private byte[] executeJson(String url, boolean cacheable) {
+		HttpGet query = createQuery(url);
+		final ResponseCache.Entry cachedEntry = cacheable ? responseCache.get(url) : null;
+		if (cachedEntry != null) {
+			cachedEntry.addConditionalHeaders(query);
+		}
+		
+		try {
+			return httpClient.execute(query, response -> {
+				int statusCode = response.getStatusLine().getStatusCode();
+				if (statusCode == HttpStatus.SC_NOT_MODIFIED && cachedEntry != null) {
+					return cachedEntry.getContent();
+				} else if (statusCode >= 200 && statusCode < 300) {
+					byte[] content = response.getEntity() != null ? EntityUtils.toByteArray(response.getEntity()) : null;
+					if (cacheable) {
+						responseCache.put(url, response, content);
+					}
+					return content;
+				}
+				if (cacheable) {
+					responseCache.remove(url);
+				}
+				return null;
+			});
+		} catch (IOException e) {
+			throw new RepositoryClientException("Error in executing URL : " + url, e);
+		}
+	}
+	
+	private HttpGet createQuery(String url) {
+		HttpGet query = new HttpGet(url);
+		
+		if (requestContext.getRequestConfig() != null) {
+			query.setConfig(requestContext.getRequestConfig());
+		}
+		return query;
 	}
 }
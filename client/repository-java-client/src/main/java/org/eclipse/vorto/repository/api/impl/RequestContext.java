@@ -15,15 +15,31 @@
 
 package org.eclipse.vorto.repository.api.impl;
 
+import java.util.concurrent.Executor;
+
 import org.apache.http.client.config.RequestConfig;
 
 public class RequestContext {
 	private String baseUrl;
 	private RequestConfig requestConfig;
+	private Executor executor;
+	private int responseCacheSize;
 
 	public RequestContext(String baseUrl, RequestConfig requestConfig) {
+		this(baseUrl, requestConfig, null, 0);
+	}
+	
+	/**
+	 * @param baseUrl
+	 * @param requestConfig
+	 * @param executor executor running the blocking requests, or null to use a shared default executor
+	 * @param responseCacheSize maximum number of cached responses, 0 to disable caching
+	 */
+	public RequestContext(String baseUrl, RequestConfig requestConfig, Executor executor, int responseCacheSize) {
 		this.baseUrl = baseUrl;
 		this.requestConfig = requestConfig;
+		this.executor = executor;
+		this.responseCacheSize = responseCacheSize;
 	}
 
 	public String getBaseUrl() {
@@ -42,4 +58,20 @@ public class RequestContext {
 		this.requestConfig = requestConfig;
 	}
 
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	public int getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	public void setResponseCacheSize(int responseCacheSize) {
+		this.responseCacheSize = responseCacheSize;
+	}
+
 }
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.api.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+
+/**
+ * Caches response bodies together with their ETag and Last-Modified validators, so that a request for an
+ * unchanged resource is answered by the repository with 304 Not Modified instead of the full content. Least recently
+ * used entries are evicted when the cache is full.
+ * 
+ * The raw bodies are cached rather than the deserialized models, so that every caller gets a model of its own.
+ */
+public class ResponseCache {
+
+	private final Map<String, Entry> entries;
+
+	public ResponseCache(final int maxEntries) {
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public synchronized Entry get(String key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Caches the given response body if the response carries an ETag or Last-Modified header
+	 */
+	public synchronized void put(String key, HttpResponse response, byte[] content) {
+		String eTag = getHeader(response, HttpHeaders.ETAG);
+		String lastModified = getHeader(response, HttpHeaders.LAST_MODIFIED);
+		if (eTag != null || lastModified != null) {
+			entries.put(key, new Entry(eTag, lastModified, content));
+		} else {
+			entries.remove(key);
+		}
+	}
+
+	public synchronized void remove(String key) {
+		entries.remove(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private static String getHeader(HttpResponse response, String name) {
+		Header header = response.getFirstHeader(name);
+		return header != null ? header.getValue() : null;
+	}
+
+	public static class Entry {
+		private String eTag;
+		private String lastModified;
+		private byte[] content;
+
+		private Entry(String eTag, String lastModified, byte[] content) {
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+			this.content = content;
+		}
+
+		/**
+		 * Makes the given request conditional on the validators of this entry
+		 */
+		public void addConditionalHeaders(HttpGet request) {
+			if (eTag != null) {
+				request.setHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+			}
+			if (lastModified != null) {
+				request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+			}
+		}
+
+		public byte[] getContent() {
+			return content;
+		}
+	}
+}
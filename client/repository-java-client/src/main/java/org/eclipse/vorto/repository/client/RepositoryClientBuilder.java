@@ -15,10 +15,13 @@
 
 package org.eclipse.vorto.repository.client;
 
+import java.util.concurrent.Executor;
+
 import org.apache.http.HttpHost;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.eclipse.vorto.repository.api.IModelGeneration;
 import org.eclipse.vorto.repository.api.IModelRepository;
 import org.eclipse.vorto.repository.api.impl.DefaultMappingClient;
@@ -31,6 +34,10 @@ public class RepositoryClientBuilder {
 	private String baseUrl = "http://vorto.eclipse.org";
 	private String proxyHost;
 	private int proxyPort = 8080;
+	private int maxConnections = 20;
+	private int maxConnectionsPerRoute = 10;
+	private Executor executor;
+	private int responseCacheSize = 100;
 	
 	public static RepositoryClientBuilder newBuilder() {
 		return new RepositoryClientBuilder();
@@ -53,6 +60,39 @@ public class RepositoryClientBuilder {
 		return this;
 	}
 	
+	/**
+	 * Sets the maximum number of pooled connections to the repository. Default is 20.
+	 */
+	public RepositoryClientBuilder setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of pooled connections per host. Default is 10.
+	 */
+	public RepositoryClientBuilder setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		return this;
+	}
+
+	/**
+	 * Sets the executor running the blocking requests. By default, all clients share one pool of daemon threads.
+	 */
+	public RepositoryClientBuilder setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of model contents which are cached and revalidated with their ETag or 
+	 * Last-Modified header. Default is 100, 0 disables the cache.
+	 */
+	public RepositoryClientBuilder setResponseCacheSize(int responseCacheSize) {
+		this.responseCacheSize = responseCacheSize;
+		return this;
+	}
+	
 	public IModelGeneration buildModelGenerationClient() {
 		return new DefaultModelGeneration(buildHttpClient(), buildRequestContext());
 	}
@@ -66,14 +106,18 @@ public class RepositoryClientBuilder {
 	}
 	
 	private HttpClient buildHttpClient() {
-		return HttpClients.createDefault();
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+		return HttpClients.custom().setConnectionManager(connectionManager).build();
 	}
 	
 	private RequestContext buildRequestContext() {
 		if (hasProxy()) {
-			return new RequestContext(baseUrl, RequestConfig.custom().setProxy(new HttpHost(proxyHost, proxyPort)).build());
+			return new RequestContext(baseUrl, RequestConfig.custom().setProxy(new HttpHost(proxyHost, proxyPort)).build(),
+					executor, responseCacheSize);
 		} else {
-			return new RequestContext(baseUrl, RequestConfig.DEFAULT);
+			return new RequestContext(baseUrl, RequestConfig.DEFAULT, executor, responseCacheSize);
 		}
 	}
 	
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.vorto.repository.api.IModelRepository;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.api.content.FunctionblockModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the client against a local HTTP server, which counts the requests for a model. Like the repository, the 
+ * server sends an ETag for the model content only.
+ */
+public class ModelRepositoryClientCacheTest {
+
+	private static final ModelId MODEL_ID = new ModelId("Switcher", "com.mycompany.fb", "1.0.0");
+
+	private static final String MODEL_INFO = "{\"id\":{\"name\":\"Switcher\",\"namespace\":\"com.mycompany.fb\","
+			+ "\"version\":\"1.0.0\"},\"type\":\"Functionblock\",\"displayName\":\"Switcher\"}";
+
+	private static final String ETAG = "\"1234\"";
+
+	private HttpServer server;
+
+	private AtomicInteger requestCount = new AtomicInteger();
+
+	private AtomicInteger notModifiedCount = new AtomicInteger();
+	
+	private AtomicReference<String> lastIfNoneMatch = new AtomicReference<>();
+
+	private CountDownLatch responseLatch = new CountDownLatch(0);
+
+	@Before
+	public void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/api/v1/models/" + MODEL_ID.getPrettyFormat(), exchange -> {
+			requestCount.incrementAndGet();
+			lastIfNoneMatch.set(exchange.getRequestHeaders().getFirst("If-None-Match"));
+			try {
+				responseLatch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (exchange.getRequestURI().getPath().endsWith("/content")) {
+				if (ETAG.equals(lastIfNoneMatch.get())) {
+					notModifiedCount.incrementAndGet();
+					exchange.getResponseHeaders().add("ETag", ETAG);
+					exchange.sendResponseHeaders(304, -1);
+				} else {
+					exchange.getResponseHeaders().add("ETag", ETAG);
+					sendJson(exchange, MODEL_INFO);
+				}
+			} else {
+				sendJson(exchange, MODEL_INFO);
+			}
+			exchange.close();
+		});
+		server.start();
+	}
+	
+	private static void sendJson(HttpExchange exchange, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(body);
+		}
+	}
+
+	@After
+	public void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	public void testGetContentIsRevalidatedWithETag() throws Exception {
+		IModelRepository modelRepo = newBuilder().buildModelRepositoryClient();
+
+		FunctionblockModel first = modelRepo.getContent(MODEL_ID, FunctionblockModel.class).get();
+		FunctionblockModel second = modelRepo.getContent(MODEL_ID, FunctionblockModel.class).get();
+
+		assertEquals(MODEL_ID, first.getId());
+		assertEquals(MODEL_ID, second.getId());
+		assertNotSame(first, second);
+		assertEquals(ETAG, lastIfNoneMatch.get());
+		assertEquals(2, requestCount.get());
+		assertEquals(1, notModifiedCount.get());
+	}
+	
+	@Test
+	public void testGetByIdIsNotCached() throws Exception {
+		IModelRepository modelRepo = newBuilder().buildModelRepositoryClient();
+
+		ModelInfo first = modelRepo.getById(MODEL_ID).get();
+		ModelInfo second = modelRepo.getById(MODEL_ID).get();
+
+		assertEquals(MODEL_ID, first.getId());
+		assertNotSame(first, second);
+		assertNull(lastIfNoneMatch.get());
+		assertEquals(2, requestCount.get());
+		assertEquals(0, notModifiedCount.get());
+	}
+
+	@Test
+	public void testConcurrentRequestsAreCoalesced() throws Exception {
+		IModelRepository modelRepo = newBuilder().setResponseCacheSize(0).buildModelRepositoryClient();
+		responseLatch = new CountDownLatch(1);
+
+		List<CompletableFuture<ModelInfo>> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			results.add(modelRepo.getById(MODEL_ID));
+		}
+		responseLatch.countDown();
+
+		Set<ModelInfo> models = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (CompletableFuture<ModelInfo> result : results) {
+			assertEquals(MODEL_ID, result.get().getId());
+			models.add(result.get());
+		}
+		// the callers share the request, but not the model
+		assertEquals(10, models.size());
+		assertEquals(1, requestCount.get());
+		assertEquals(0, notModifiedCount.get());
+	}
+
+	private RepositoryClientBuilder newBuilder() {
+		return RepositoryClientBuilder.newBuilder()
+				.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+	}
+}
@@ -57,7 +57,7 @@ public class ProSystGenerator implements IVortoCodeGenerator {
 	@Override
 	public IGenerationResult generate(InformationModel infomodel, InvocationContext ctx,
 			IVortoCodeGenProgressMonitor monitor) throws VortoCodeGeneratorException {
-		GenerationResultZip zipOutputter = new GenerationResultZip(infomodel, getServiceKey());
+		GenerationResultZip zipOutputter = GenerationResultZip.create(infomodel, getServiceKey(), ctx);
 		Set<EObject> visited = new HashSet<>();
 		Set<String> exports = new HashSet<>();
 		for (FunctionblockProperty fbp : infomodel.getProperties()) {
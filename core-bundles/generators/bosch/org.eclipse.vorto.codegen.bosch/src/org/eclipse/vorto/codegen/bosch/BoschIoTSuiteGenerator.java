@@ -31,7 +31,7 @@ public class BoschIoTSuiteGenerator implements IVortoCodeGenerator {
 	public IGenerationResult generate(InformationModel infomodel, InvocationContext invocationContext,
 			IVortoCodeGenProgressMonitor monitor) throws VortoCodeGeneratorException {
 
-		GenerationResultZip output = new GenerationResultZip(infomodel, getServiceKey());
+		GenerationResultZip output = GenerationResultZip.create(infomodel, getServiceKey(), invocationContext);
 
 		GenerationResultBuilder result = GenerationResultBuilder.from(output);
 
@@ -37,7 +37,7 @@ public final class EclipseDittoGenerator implements IVortoCodeGenerator {
 	public IGenerationResult generate(InformationModel infomodel, InvocationContext invocationContext,
 			IVortoCodeGenProgressMonitor monitor) throws VortoCodeGeneratorException {
 
-		GenerationResultZip zipOutputter = new GenerationResultZip(infomodel, getServiceKey());
+		GenerationResultZip zipOutputter = GenerationResultZip.create(infomodel, getServiceKey(), invocationContext);
 
 		ChainedCodeGeneratorTask<InformationModel> generator = new ChainedCodeGeneratorTask<InformationModel>();
 		generator.addTask(new SchemaValidatorTask());
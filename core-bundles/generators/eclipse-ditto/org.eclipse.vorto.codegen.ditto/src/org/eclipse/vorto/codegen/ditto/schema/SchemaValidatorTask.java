@@ -18,6 +18,7 @@ import org.eclipse.vorto.codegen.api.ChainedCodeGeneratorTask;
 import org.eclipse.vorto.codegen.api.ICodeGeneratorTask;
 import org.eclipse.vorto.codegen.api.IGeneratedWriter;
 import org.eclipse.vorto.codegen.api.InvocationContext;
+import org.eclipse.vorto.codegen.api.ParallelCodeGeneratorTask;
 import org.eclipse.vorto.codegen.ditto.schema.tasks.ValidationTaskFactory;
 import org.eclipse.vorto.core.api.model.datatype.Property;
 import org.eclipse.vorto.core.api.model.functionblock.Configuration;
@@ -36,6 +37,7 @@ public final class SchemaValidatorTask implements ICodeGeneratorTask<Information
 	
 	@Override
 	public void generate(InformationModel infomodel, InvocationContext invocationContext, IGeneratedWriter writer) {
+		ParallelCodeGeneratorTask<InformationModel> generator = new ParallelCodeGeneratorTask<InformationModel>();
 		
 		for (FunctionblockProperty fbp : infomodel.getProperties()) {
 			FunctionBlock fb = fbp.getType().getFunctionblock();
@@ -44,8 +46,10 @@ public final class SchemaValidatorTask implements ICodeGeneratorTask<Information
 					fb, invocationContext,
 					TARGET_PATH + "/" + fbp.getType().getNamespace() + "_" + fbp.getType().getName() + "_" + fbp.getType().getVersion(),
 					JSON_SCHEMA_FILE_EXTENSION,
-					writer);
+					generator);
 		}
+		
+		generator.generate(infomodel, invocationContext, writer);
 	}
 	
 	private void generateForFunctionblock(
@@ -53,7 +57,7 @@ public final class SchemaValidatorTask implements ICodeGeneratorTask<Information
 			InvocationContext context,
 			String targetPath, 
 			String jsonFileExt,
-			IGeneratedWriter outputter) {
+			ParallelCodeGeneratorTask<InformationModel> generator) {
 		if (fb == null) {
 			throw new IllegalArgumentException("fb must not be null null");
 		}
@@ -66,49 +70,49 @@ public final class SchemaValidatorTask implements ICodeGeneratorTask<Information
 		Status status = fb.getStatus();
 		Fault fault = fb.getFault();
 		if (configuration != null || status != null || fault != null) {
-			generateTask(fb, context, outputter, ValidationTaskFactory.getPropertiesValidationTask(jsonFileExt, stateTargetPath));
+			generateTask(fb, context, generator, ValidationTaskFactory.getPropertiesValidationTask(jsonFileExt, stateTargetPath));
 		}
-		generateConfiguration(context, jsonFileExt, outputter, stateTargetPath, configuration);
-		generateStatus(context, jsonFileExt, outputter, stateTargetPath, status);
-		generateFault(context, jsonFileExt, outputter, stateTargetPath, fault);
+		generateConfiguration(context, jsonFileExt, generator, stateTargetPath, configuration);
+		generateStatus(context, jsonFileExt, generator, stateTargetPath, status);
+		generateFault(context, jsonFileExt, generator, stateTargetPath, fault);
 		
-		generateEvents(fb, context, jsonFileExt, outputter, eventTargetPath);
-		generateOperations(fb, context, jsonFileExt, outputter, operationTargetPath);
+		generateEvents(fb, context, jsonFileExt, generator, eventTargetPath);
+		generateOperations(fb, context, jsonFileExt, generator, operationTargetPath);
 	}
 	
-	private void generateConfiguration(InvocationContext context, String jsonFileExt, IGeneratedWriter outputter,
+	private void generateConfiguration(InvocationContext context, String jsonFileExt, ParallelCodeGeneratorTask<InformationModel> generator,
 			String stateTargetPath, Configuration configuration) {
 		if (configuration != null) {
-			generateTask(configuration, context, outputter, ValidationTaskFactory.getPropertiesConfigValidationTask(jsonFileExt, stateTargetPath));
+			generateTask(configuration, context, generator, ValidationTaskFactory.getPropertiesConfigValidationTask(jsonFileExt, stateTargetPath));
 			
 			for (Property property : configuration.getProperties()) {
-				generateTask(property, context, outputter, 
+				generateTask(property, context, generator, 
 						ValidationTaskFactory.getPropertiesSinglePropertyValidationTask(
 								"-configuration-" + property.getName() + jsonFileExt, stateTargetPath));
 			}
 		}
 	}
 	
-	private void generateStatus(InvocationContext context, String jsonFileExt, IGeneratedWriter outputter,
+	private void generateStatus(InvocationContext context, String jsonFileExt, ParallelCodeGeneratorTask<InformationModel> generator,
 			String stateTargetPath, Status status) {
 		if (status != null) {
-			generateTask(status, context, outputter, ValidationTaskFactory.getPropertiesStatusValidationTask(jsonFileExt, stateTargetPath));
+			generateTask(status, context, generator, ValidationTaskFactory.getPropertiesStatusValidationTask(jsonFileExt, stateTargetPath));
 			
 			for (Property property : status.getProperties()) {
-				generateTask(property, context, outputter, 
+				generateTask(property, context, generator, 
 						ValidationTaskFactory.getPropertiesSinglePropertyValidationTask(
 								"-status-" + property.getName() + jsonFileExt, stateTargetPath));
 			}
 		}
 	}
 	
-	private void generateFault(InvocationContext context, String jsonFileExt, IGeneratedWriter outputter,
+	private void generateFault(InvocationContext context, String jsonFileExt, ParallelCodeGeneratorTask<InformationModel> generator,
 			String stateTargetPath, Fault fault) {
 		if (fault != null) {
-			generateTask(fault, context, outputter, ValidationTaskFactory.getPropertiesFaultValidationTask(jsonFileExt, stateTargetPath));
+			generateTask(fault, context, generator, ValidationTaskFactory.getPropertiesFaultValidationTask(jsonFileExt, stateTargetPath));
 			
 			for (Property property : fault.getProperties()) {
-				generateTask(property, context, outputter, 
+				generateTask(property, context, generator, 
 						ValidationTaskFactory.getPropertiesSinglePropertyValidationTask(
 								"-fault-" + property.getName() + jsonFileExt, stateTargetPath));
 			}
@@ -116,31 +120,35 @@ public final class SchemaValidatorTask implements ICodeGeneratorTask<Information
 	}
 	
 	private void generateEvents(FunctionBlock fb, InvocationContext context, String jsonFileExt,
-			IGeneratedWriter outputter, String eventTargetPath) {
+			ParallelCodeGeneratorTask<InformationModel> generator, String eventTargetPath) {
 		if (fb.getEvents() != null) {
 			for (Event event : fb.getEvents()) {
-				generateTask(event, context, outputter, ValidationTaskFactory.getEventValidationTask(jsonFileExt, eventTargetPath));
+				generateTask(event, context, generator, ValidationTaskFactory.getEventValidationTask(jsonFileExt, eventTargetPath));
 			}
 		}
 	}
 
 	private void generateOperations(FunctionBlock fb, InvocationContext context, String jsonFileExt,
-			IGeneratedWriter outputter, String operationTargetPath) {
+			ParallelCodeGeneratorTask<InformationModel> generator, String operationTargetPath) {
 		if (fb.getOperations() != null) {
 			for (Operation op : fb.getOperations()) {
-				generateTask(op, context, outputter, 
+				generateTask(op, context, generator, 
 						ValidationTaskFactory.getOperationParametersValidationTask(jsonFileExt, operationTargetPath),
 						ValidationTaskFactory.getOperationReturnTypeValidationTask(jsonFileExt, operationTargetPath));
 			}
 		}
 	}
 
+	/**
+	 * Adds the given tasks for the element as a single task to the generator. The schemas of different elements are 
+	 * independent of each other and are rendered in parallel.
+	 */
 	@SafeVarargs
-	private final <K> void generateTask(K element, InvocationContext context, IGeneratedWriter outputter, ICodeGeneratorTask<K>... tasks) {
-		ChainedCodeGeneratorTask<K> generator = new ChainedCodeGeneratorTask<K>();
+	private final <K> void generateTask(K element, InvocationContext context, ParallelCodeGeneratorTask<InformationModel> generator, ICodeGeneratorTask<K>... tasks) {
+		ChainedCodeGeneratorTask<K> chain = new ChainedCodeGeneratorTask<K>();
 		for(ICodeGeneratorTask<K> task : tasks) {
-			generator.addTask(task);
+			chain.addTask(task);
 		}
-		generator.generate(element, context, outputter);
+		generator.addTask((infomodel, invocationContext, writer) -> chain.generate(element, context, writer));
 	}
 }
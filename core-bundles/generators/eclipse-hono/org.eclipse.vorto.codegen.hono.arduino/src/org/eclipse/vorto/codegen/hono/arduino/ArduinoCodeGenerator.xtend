@@ -15,9 +15,11 @@ package org.eclipse.vorto.codegen.hono.arduino
 import org.eclipse.vorto.codegen.api.GenerationResultZip
 import org.eclipse.vorto.codegen.api.GeneratorInfo
 import org.eclipse.vorto.codegen.api.GeneratorTaskFromFileTemplate
+import org.eclipse.vorto.codegen.api.IGeneratedWriter
 import org.eclipse.vorto.codegen.api.IVortoCodeGenProgressMonitor
 import org.eclipse.vorto.codegen.api.IVortoCodeGenerator
 import org.eclipse.vorto.codegen.api.InvocationContext
+import org.eclipse.vorto.codegen.api.ParallelCodeGeneratorTask
 import org.eclipse.vorto.codegen.api.VortoCodeGeneratorException
 import org.eclipse.vorto.codegen.utils.Utils
 import org.eclipse.vorto.core.api.model.informationmodel.FunctionblockProperty
@@ -27,50 +29,52 @@ class ArduinoCodeGenerator implements IVortoCodeGenerator {
 
 	override generate(InformationModel infomodel, InvocationContext context, IVortoCodeGenProgressMonitor monitor) throws VortoCodeGeneratorException {
 
-		var output = new GenerationResultZip(infomodel,getServiceKey());
+		var output = GenerationResultZip.create(infomodel,getServiceKey(),context);
+		var generator = new ParallelCodeGeneratorTask<InformationModel>()
 		
-		var imHeaderTemplateGen = new GeneratorTaskFromFileTemplate(new ArduinoImHeaderTemplate())
-		imHeaderTemplateGen.generate(infomodel,context,output)
-		
-		var imSourceTemplateGen = new GeneratorTaskFromFileTemplate(new ArduinoImSourceTemplate())
-		imSourceTemplateGen.generate(infomodel,context,output)
-		
-		var sketchTemplateGen = new GeneratorTaskFromFileTemplate(new ArduinoSketchTemplate())
-		sketchTemplateGen.generate(infomodel,context,output)
+		generator.addTask(new GeneratorTaskFromFileTemplate(new ArduinoImHeaderTemplate()))
+		generator.addTask(new GeneratorTaskFromFileTemplate(new ArduinoImSourceTemplate()))
+		generator.addTask(new GeneratorTaskFromFileTemplate(new ArduinoSketchTemplate()))
 		
 		for (FunctionblockProperty fbProperty : infomodel.properties) {
-			var fbHeaderTemplate = new ArduinoFbHeaderTemplate();
-			fbHeaderTemplate.rootPath = infomodel.name + "App";
-			var fbHeaderTemplateGen = new GeneratorTaskFromFileTemplate(fbHeaderTemplate)
-			fbHeaderTemplateGen.generate(fbProperty.type,context,output)
-			
-			var fbSourceTemplate = new ArduinoFbSourceTemplate();
-			fbSourceTemplate.rootPath = infomodel.name + "App";
-			var fbSourceTemplateGen = new GeneratorTaskFromFileTemplate(fbSourceTemplate);
-			fbSourceTemplateGen.generate(fbProperty.type,context,output)
-			
-			for(enumProperty : Utils.getReferencedEnums(fbProperty.type.functionblock)) {
-				var enumHeaderTemplate = new ArduinoEnumHeaderTemplate;
-				enumHeaderTemplate.rootPath = infomodel.name + "App";
-				var enumHeaderTemplateGen = new GeneratorTaskFromFileTemplate(enumHeaderTemplate); 
-				enumHeaderTemplateGen.generate(enumProperty,context,output)
-			}
-			
-            for(entityProperty : Utils.getReferencedEntities(fbProperty.type.functionblock)) {
-                var entityHeaderTemplate = new ArduinoEntityHeaderTemplate;
-                entityHeaderTemplate.rootPath = infomodel.name + "App";
-                var entityHeaderTemplateGen = new GeneratorTaskFromFileTemplate(entityHeaderTemplate); 
-                entityHeaderTemplateGen.generate(entityProperty,context,output)
-                
-                var entitySourceTemplate = new ArduinoEntitySoureTemplate;
-                entitySourceTemplate.rootPath = infomodel.name + "App";
-                var entitySourceTemplateGen = new GeneratorTaskFromFileTemplate(entitySourceTemplate); 
-                entitySourceTemplateGen.generate(entityProperty,context,output)
-            }
+			generator.addTask([model, ctx, writer | generateForFunctionblock(model, fbProperty, ctx, writer)])
 		}
 		
+		generator.generate(infomodel,context,output)
+		
 		return output
 	}
+	
+	private def generateForFunctionblock(InformationModel infomodel, FunctionblockProperty fbProperty, InvocationContext context, IGeneratedWriter output) {
+		var fbHeaderTemplate = new ArduinoFbHeaderTemplate();
+		fbHeaderTemplate.rootPath = infomodel.name + "App";
+		var fbHeaderTemplateGen = new GeneratorTaskFromFileTemplate(fbHeaderTemplate)
+		fbHeaderTemplateGen.generate(fbProperty.type,context,output)
+		
+		var fbSourceTemplate = new ArduinoFbSourceTemplate();
+		fbSourceTemplate.rootPath = infomodel.name + "App";
+		var fbSourceTemplateGen = new GeneratorTaskFromFileTemplate(fbSourceTemplate);
+		fbSourceTemplateGen.generate(fbProperty.type,context,output)
+		
+		for(enumProperty : Utils.getReferencedEnums(fbProperty.type.functionblock)) {
+			var enumHeaderTemplate = new ArduinoEnumHeaderTemplate;
+			enumHeaderTemplate.rootPath = infomodel.name + "App";
+			var enumHeaderTemplateGen = new GeneratorTaskFromFileTemplate(enumHeaderTemplate); 
+			enumHeaderTemplateGen.generate(enumProperty,context,output)
+		}
+		
+        for(entityProperty : Utils.getReferencedEntities(fbProperty.type.functionblock)) {
+            var entityHeaderTemplate = new ArduinoEntityHeaderTemplate;
+            entityHeaderTemplate.rootPath = infomodel.name + "App";
+            var entityHeaderTemplateGen = new GeneratorTaskFromFileTemplate(entityHeaderTemplate); 
+            entityHeaderTemplateGen.generate(entityProperty,context,output)
+            
+            var entitySourceTemplate = new ArduinoEntitySoureTemplate;
+            entitySourceTemplate.rootPath = infomodel.name + "App";
+            var entitySourceTemplateGen = new GeneratorTaskFromFileTemplate(entitySourceTemplate); 
+            entitySourceTemplateGen.generate(entityProperty,context,output)
+        }
+	}
 		
 	override getServiceKey() {
 		return "arduinocodegenerator";
@@ -14,7 +14,6 @@
  */
 package org.eclipse.vorto.codegen.hono.java;
 
-import org.eclipse.vorto.codegen.api.ChainedCodeGeneratorTask;
 import org.eclipse.vorto.codegen.api.GenerationResultZip;
 import org.eclipse.vorto.codegen.api.GeneratorInfo;
 import org.eclipse.vorto.codegen.api.GeneratorTaskFromFileTemplate;
@@ -23,6 +22,7 @@ import org.eclipse.vorto.codegen.api.IGenerationResult;
 import org.eclipse.vorto.codegen.api.IVortoCodeGenProgressMonitor;
 import org.eclipse.vorto.codegen.api.IVortoCodeGenerator;
 import org.eclipse.vorto.codegen.api.InvocationContext;
+import org.eclipse.vorto.codegen.api.ParallelCodeGeneratorTask;
 import org.eclipse.vorto.codegen.api.VortoCodeGeneratorException;
 import org.eclipse.vorto.codegen.hono.java.model.FunctionblockTemplate;
 import org.eclipse.vorto.codegen.hono.java.model.InformationModelTemplate;
@@ -49,7 +49,7 @@ public class EclipseHonoJavaGenerator implements IVortoCodeGenerator {
 	@Override
 	public IGenerationResult generate(InformationModel model, InvocationContext context,
 			IVortoCodeGenProgressMonitor monitor) throws VortoCodeGeneratorException {
-		GenerationResultZip output = new GenerationResultZip(model, getServiceKey());
+		GenerationResultZip output = GenerationResultZip.create(model, getServiceKey(), context);
 
 		GenerationResultBuilder result = GenerationResultBuilder.from(output);
 		result.append(generateJava(model, context, monitor));
@@ -61,7 +61,7 @@ public class EclipseHonoJavaGenerator implements IVortoCodeGenerator {
 	private IGenerationResult generateJava(InformationModel infomodel, InvocationContext context,
 			IVortoCodeGenProgressMonitor monitor) {
 		GenerationResultZip output = new GenerationResultZip(infomodel, getServiceKey());
-		ChainedCodeGeneratorTask<InformationModel> generator = new ChainedCodeGeneratorTask<InformationModel>();
+		ParallelCodeGeneratorTask<InformationModel> generator = new ParallelCodeGeneratorTask<InformationModel>();
 
 		generator.addTask(new GeneratorTaskFromFileTemplate<InformationModel>(new PomFileTemplate()));
 		generator.addTask(new GeneratorTaskFromFileTemplate<InformationModel>(new Log4jTemplate()));
@@ -73,23 +73,28 @@ public class EclipseHonoJavaGenerator implements IVortoCodeGenerator {
 		generator.addTask(new GeneratorTaskFromFileTemplate<InformationModel>(new HonoMqttClientTemplate()));
 		generator.addTask(new GeneratorTaskFromFileTemplate<InformationModel>(new InformationModelTemplate()));
 
+		for (FunctionblockProperty fbProperty : infomodel.getProperties()) {
+			generator.addTask((model, ctx, outputter) -> generateForFunctionblock(model, fbProperty, ctx, outputter));
+		}
+
 		generator.generate(infomodel, context, output);
 
-		for (FunctionblockProperty fbProperty : infomodel.getProperties()) {
-			new GeneratorTaskFromFileTemplate<>(new FunctionblockTemplate(infomodel)).generate(fbProperty.getType(),
-					context, output);
+		return output;
+	}
 
-			FunctionBlock fb = fbProperty.getType().getFunctionblock();
+	private void generateForFunctionblock(InformationModel infomodel, FunctionblockProperty fbProperty,
+			InvocationContext context, IGeneratedWriter outputter) {
+		new GeneratorTaskFromFileTemplate<>(new FunctionblockTemplate(infomodel)).generate(fbProperty.getType(),
+				context, outputter);
 
-			for (Entity entity : Utils.getReferencedEntities(fb)) {
-				generateForEntity(infomodel, entity, output);
-			}
-			for (Enum en : Utils.getReferencedEnums(fb)) {
-				generateForEnum(infomodel, en, output);
-			}
-		}
+		FunctionBlock fb = fbProperty.getType().getFunctionblock();
 
-		return output;
+		for (Entity entity : Utils.getReferencedEntities(fb)) {
+			generateForEntity(infomodel, entity, outputter);
+		}
+		for (Enum en : Utils.getReferencedEnums(fb)) {
+			generateForEnum(infomodel, en, outputter);
+		}
 	}
 
 	private void generateForEntity(InformationModel infomodel, Entity entity, IGeneratedWriter outputter) {
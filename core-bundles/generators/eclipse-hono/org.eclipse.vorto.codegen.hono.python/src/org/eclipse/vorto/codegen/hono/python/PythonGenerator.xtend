@@ -16,41 +16,46 @@ package org.eclipse.vorto.codegen.hono.python
 import org.eclipse.vorto.codegen.api.GenerationResultZip
 import org.eclipse.vorto.codegen.api.GeneratorInfo
 import org.eclipse.vorto.codegen.api.GeneratorTaskFromFileTemplate
+import org.eclipse.vorto.codegen.api.ICodeGeneratorTask
 import org.eclipse.vorto.codegen.api.IVortoCodeGenProgressMonitor
 import org.eclipse.vorto.codegen.api.IVortoCodeGenerator
 import org.eclipse.vorto.codegen.api.InvocationContext
+import org.eclipse.vorto.codegen.api.ParallelCodeGeneratorTask
 import org.eclipse.vorto.core.api.model.informationmodel.FunctionblockProperty
 import org.eclipse.vorto.core.api.model.informationmodel.InformationModel
 
 class PythonGenerator implements IVortoCodeGenerator {
 
 	override generate(InformationModel infomodel, InvocationContext context, IVortoCodeGenProgressMonitor monitor) {
-		var output = new GenerationResultZip(infomodel,getServiceKey());
+		var output = GenerationResultZip.create(infomodel,getServiceKey(),context);
+		var generator = new ParallelCodeGeneratorTask<InformationModel>()
  		
-		var imTemplateGen = new GeneratorTaskFromFileTemplate(new PythonImTemplate())
- 		imTemplateGen.generate(infomodel,context,output)		
+		generator.addTask(new GeneratorTaskFromFileTemplate(new PythonImTemplate()))
  		
-		var initTemplate = new PythonInitTemplate()
-		initTemplate.rootPath = "model"
-        new GeneratorTaskFromFileTemplate(initTemplate).generate(infomodel,context,output)
-		initTemplate.rootPath = "model/functionblock"
-        new GeneratorTaskFromFileTemplate(initTemplate).generate(infomodel,context,output)
-        initTemplate.rootPath = "model/infomodel"
-        new GeneratorTaskFromFileTemplate(initTemplate).generate(infomodel,context,output)
+		generator.addTask(initTask("model"))
+		generator.addTask(initTask("model/functionblock"))
+		generator.addTask(initTask("model/infomodel"))
  		
-		var sampleTemplateGen = new GeneratorTaskFromFileTemplate(new PythonSampleTemplate())
- 		sampleTemplateGen.generate(infomodel,context,output)
+		generator.addTask(new GeneratorTaskFromFileTemplate(new PythonSampleTemplate()))
  		
-		var dittoSerializerTemplateGen = new GeneratorTaskFromFileTemplate(new PythonDittoSerializerTemplate())
- 		dittoSerializerTemplateGen.generate(infomodel,context,output);
+		generator.addTask(new GeneratorTaskFromFileTemplate(new PythonDittoSerializerTemplate()))
  		
  		for (FunctionblockProperty fbProperty : infomodel.properties) {
-			var fbTemplateGen = new GeneratorTaskFromFileTemplate(new PythonFbTemplate());
-			fbTemplateGen.generate(fbProperty.type,context,output)
+			generator.addTask([model, ctx, writer |
+				new GeneratorTaskFromFileTemplate(new PythonFbTemplate()).generate(fbProperty.type,ctx,writer)
+			])
  		}
  		
+ 		generator.generate(infomodel,context,output)
+ 		
  		return output
 	}
+	
+	private def ICodeGeneratorTask<InformationModel> initTask(String rootPath) {
+		val initTemplate = new PythonInitTemplate()
+		initTemplate.rootPath = rootPath
+		return [model, ctx, writer | new GeneratorTaskFromFileTemplate(initTemplate).generate(model,ctx,writer)]
+	}
 
 	override getServiceKey() {
 		return "hono-python";
@@ -37,7 +37,7 @@ public class EclipseHonoGenerator implements IVortoCodeGenerator {
 	@Override
 	public IGenerationResult generate(InformationModel model, InvocationContext context,
 			IVortoCodeGenProgressMonitor monitor) throws VortoCodeGeneratorException {
-		GenerationResultZip output = new GenerationResultZip(model, getServiceKey());
+		GenerationResultZip output = GenerationResultZip.create(model, getServiceKey(), context);
 
 		GenerationResultBuilder result = GenerationResultBuilder.from(output);
 
@@ -29,6 +29,10 @@ public class ChainedCodeGeneratorTask<Element> implements ICodeGeneratorTask<Ele
 	public void addTask(ICodeGeneratorTask<Element> task) {
 		this.tasks.add(task);
 	}
+	
+	protected List<ICodeGeneratorTask<Element>> getTasks() {
+		return tasks;
+	}
 
 	public void generate(Element element, InvocationContext context, IGeneratedWriter outputter) {
 		for (ICodeGeneratorTask<Element> task : tasks) {
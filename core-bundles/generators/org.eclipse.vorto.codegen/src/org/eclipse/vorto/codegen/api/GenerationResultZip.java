@@ -16,13 +16,17 @@ package org.eclipse.vorto.codegen.api;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipOutputStream;
 
 import org.eclipse.vorto.core.api.model.informationmodel.InformationModel;
 
 /**
- * Generation Result that stores all generated files as a zip archieve
+ * Generation Result that stores all generated files as a zip archieve. Results created for an invocation context with 
+ * a {@link IGenerationTarget} write the archive to the target instead.
  * 
  * @author Alexander Edelmann - Robert Bosch (SEA) Pte. Ltd.
  *
@@ -34,6 +38,8 @@ public class GenerationResultZip implements IGeneratedWriter, IGenerationResult
 		
 	private String fileName;
 	
+	private static final String MEDIATYPE = "application/zip";
+	
 	public GenerationResultZip(String fileName) {
 		this.fileName = fileName;
 		baos = new ByteArrayOutputStream();
@@ -41,10 +47,44 @@ public class GenerationResultZip implements IGeneratedWriter, IGenerationResult
 	}
 	
 	public GenerationResultZip(InformationModel infomodel, String suffix) {
-		this(infomodel.getNamespace()+"_"+infomodel.getName()+"_"+infomodel.getVersion()+"-"+suffix+".zip");
+		this(fileName(infomodel, suffix));
+	}
+	
+	private GenerationResultZip(String fileName, OutputStream target) {
+		this.fileName = fileName;
+		this.zos = new ZipOutputStream(target);
+	}
+	
+	/**
+	 * Creates the result for the given invocation. If a generation target was set on the context and not used yet, 
+	 * the archive is streamed to it.
+	 */
+	public static GenerationResultZip create(InformationModel infomodel, String suffix, InvocationContext context) {
+		IGenerationTarget target = context.claimGenerationTarget();
+		if (target == null) {
+			return new GenerationResultZip(infomodel, suffix);
+		}
+		
+		String fileName = fileName(infomodel, suffix);
+		try {
+			return new GenerationResultZip(fileName, target.open(fileName, MEDIATYPE));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not open generation target for " + fileName, e);
+		}
+	}
+	
+	private static String fileName(InformationModel infomodel, String suffix) {
+		return infomodel.getNamespace()+"_"+infomodel.getName()+"_"+infomodel.getVersion()+"-"+suffix+".zip";
 	}
 
-	public void write(Generated generated) {
+	/**
+	 * Adds the generated artifact to the archive. Writes are synchronized, so tasks running in parallel can share the 
+	 * result.
+	 * 
+	 * @throws UncheckedIOException if the result is streamed and writing to the target failed, e.g. because the client 
+	 * disconnected. Whatever was written so far may already have been sent, so the target only holds a truncated archive.
+	 */
+	public synchronized void write(Generated generated) {
 		ZipEntry zipEntry;
 		if (generated.getFolderPath() == null || generated.getFolderPath().isEmpty()) {
 			zipEntry = new ZipEntry(generated.getFileName());
@@ -56,8 +96,13 @@ public class GenerationResultZip implements IGeneratedWriter, IGenerationResult
 			zos.putNextEntry(zipEntry);
 			zos.write(generated.getContent());
 			zos.closeEntry();
-		} catch (Exception e) {
+		} catch (ZipException e) {
 			//possibly occurs if generated output already appears as zipentry, in this case skip and continue. TODO: Ugly :(
+		} catch (IOException e) {
+			// only the target of a streamed result fails to write, there is no point in generating the rest of it
+			throw new UncheckedIOException("Could not write " + zipEntry.getName() + " to " + fileName, e);
+		} catch (RuntimeException e) {
+			//e.g. generated output without content, skip and continue
 		}
 	}
 	
@@ -74,22 +119,29 @@ public class GenerationResultZip implements IGeneratedWriter, IGenerationResult
 		return _outputDirectory;
 	}
 	
+	/**
+	 * Completes the archive. For results streamed to a generation target, the content has been written to the target 
+	 * and an empty array is returned.
+	 */
 	@Override
-	public byte[] getContent() {
+	public synchronized byte[] getContent() {
 		try {
 			zos.close();
-			baos.close();
 		} catch(IOException ex) {
+			if (baos == null) {
+				throw new UncheckedIOException("Could not complete " + fileName, ex);
+			}
 			ex.printStackTrace();
 		}
-		return baos.toByteArray();
+		return baos != null ? baos.toByteArray() : new byte[0];
 	}
 
+
 	public String getFileName() {
 		return fileName;
 	}
 
 	public String getMediatype() {
-		return "application/zip";
+		return MEDIATYPE;
 	}
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Target that a generation result is written to while it is generated, e.g. the response of a generation request.
+ * 
+ * @see InvocationContext#setGenerationTarget(IGenerationTarget)
+ */
+public interface IGenerationTarget {
+
+	/**
+	 * Opens the stream for the generation result with the given file name and media type. 
+	 * It is called at most once per invocation and the stream is closed by the caller once the result is complete.
+	 * @param fileName
+	 * @param mediatype
+	 * @return stream to write the result to
+	 * @throws IOException
+	 */
+	OutputStream open(String fileName, String mediatype) throws IOException;
+	
+	/**
+	 * Discards what was written to the opened stream, so that another result can be written instead, e.g. an error 
+	 * report for a generation that failed part way.
+	 * @return false if the written content has already been sent and cannot be taken back
+	 */
+	default boolean reset() {
+		return false;
+	}
+}
@@ -30,10 +30,15 @@ package org.eclipse.vorto.codegen.api;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.vorto.codegen.api.MappingRuleIndex.SourceKind;
 import org.eclipse.vorto.codegen.api.mapping.DefaultMapped;
 import org.eclipse.vorto.codegen.api.mapping.IMapped;
 import org.eclipse.vorto.codegen.api.mapping.NullMapped;
@@ -41,19 +46,14 @@ import org.eclipse.vorto.core.api.model.datatype.Entity;
 import org.eclipse.vorto.core.api.model.datatype.Enum;
 import org.eclipse.vorto.core.api.model.datatype.EnumLiteral;
 import org.eclipse.vorto.core.api.model.datatype.Property;
-import org.eclipse.vorto.core.api.model.functionblock.FunctionBlock;
 import org.eclipse.vorto.core.api.model.functionblock.FunctionblockModel;
 import org.eclipse.vorto.core.api.model.functionblock.Operation;
 import org.eclipse.vorto.core.api.model.informationmodel.InformationModel;
 import org.eclipse.vorto.core.api.model.mapping.ConfigurationSource;
-import org.eclipse.vorto.core.api.model.mapping.EntityAttributeSource;
 import org.eclipse.vorto.core.api.model.mapping.EntityPropertySource;
-import org.eclipse.vorto.core.api.model.mapping.EnumAttributeSource;
 import org.eclipse.vorto.core.api.model.mapping.EnumPropertySource;
 import org.eclipse.vorto.core.api.model.mapping.FaultSource;
-import org.eclipse.vorto.core.api.model.mapping.FunctionBlockAttributeSource;
 import org.eclipse.vorto.core.api.model.mapping.FunctionBlockSource;
-import org.eclipse.vorto.core.api.model.mapping.InfoModelAttributeSource;
 import org.eclipse.vorto.core.api.model.mapping.InfomodelSource;
 import org.eclipse.vorto.core.api.model.mapping.MappingModel;
 import org.eclipse.vorto.core.api.model.mapping.MappingRule;
@@ -66,21 +66,26 @@ import org.eclipse.vorto.core.api.model.model.Model;
 
 public class InvocationContext {
 
-	private List<MappingRule> mappingRules;
+	private MappingRuleIndex ruleIndex;
 	
 	private Map<String, String> configProperties;
 	
 	private IGeneratorLookup lookupService;
 	
+	private IGenerationTarget generationTarget;
+	
+	private final Set<Object> resolvedModels = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+	
 	private static final IGeneratorLookup NOOP_RUNTIME = new NoopGeneratorLookup();
 	
 	private static final IVortoCodeGenerator NOOP_GEN = new NoopGenerator();
 
 	public InvocationContext(List<MappingModel> mappingModels, IGeneratorLookup generatorRuntime, Map<String,String> configProperties) {
-		this.mappingRules = new ArrayList<MappingRule>();
+		List<MappingRule> mappingRules = new ArrayList<MappingRule>();
 		for (MappingModel mappingModel : mappingModels) {
-			this.mappingRules.addAll(mappingModel.getRules());
+			mappingRules.addAll(mappingModel.getRules());
 		}
+		this.ruleIndex = new MappingRuleIndex(mappingRules);
 		this.lookupService = generatorRuntime != null ? generatorRuntime : NOOP_RUNTIME;
 		
 		this.configProperties = configProperties;
@@ -102,14 +107,10 @@ public class InvocationContext {
 	 */
 	public IMapped<InformationModel> getMappedElement(final InformationModel informationModel,
 			final String stereoType) {
-		for (MappingRule rule : mappingRules) {
-			for (Source ruleSource : rule.getSources()) {
-				if (ruleSource instanceof InfomodelSource
-						&& EcoreUtil.equals(((InfomodelSource) ruleSource).getModel(), informationModel)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<InformationModel>(informationModel, (StereoTypeTarget) rule.getTarget());
-				}
-			}
+		StereoTypeTarget target = ruleIndex.find(SourceKind.INFORMATION_MODEL, MappingRuleIndex.qualifiedName(informationModel), stereoType, 
+				source -> ruleIndex.modelsEqual(((InfomodelSource) source).getModel(), informationModel));
+		if (target != null) {
+			return new DefaultMapped<InformationModel>(informationModel, target);
 		}
 		return new NullMapped<InformationModel>(informationModel);
 	}
@@ -122,15 +123,10 @@ public class InvocationContext {
 	 */
 	public IMapped<FunctionblockModel> getMappedElement(final FunctionblockModel functionblockModel,
 			final String stereoType) {
-		for (MappingRule rule : mappingRules) {
-			for (Source ruleSource : rule.getSources()) {
-				if (ruleSource instanceof FunctionBlockSource
-						&& EcoreUtil.equals(((FunctionBlockSource) ruleSource).getModel(), functionblockModel)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<FunctionblockModel>(functionblockModel,
-							(StereoTypeTarget) rule.getTarget());
-				}
-			}
+		StereoTypeTarget target = ruleIndex.find(SourceKind.FUNCTION_BLOCK, MappingRuleIndex.qualifiedName(functionblockModel), stereoType, 
+				source -> ruleIndex.modelsEqual(((FunctionBlockSource) source).getModel(), functionblockModel));
+		if (target != null) {
+			return new DefaultMapped<FunctionblockModel>(functionblockModel, target);
 		}
 		return new NullMapped<FunctionblockModel>(functionblockModel);
 	}
@@ -143,28 +139,17 @@ public class InvocationContext {
 	 */
 	public IMapped<EnumLiteral> getMappedElement(final EnumLiteral enumLiteral,
 			final String stereoType) {
-		for (MappingRule rule : mappingRules) {
-			for (Source ruleSource : rule.getSources()) {
-				if (ruleSource instanceof EnumPropertySource
-						&& EcoreUtil.equals(((EnumPropertySource) ruleSource).getProperty(), enumLiteral)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<EnumLiteral>(enumLiteral, (StereoTypeTarget) rule.getTarget());
-				}
-			}
+		StereoTypeTarget target = ruleIndex.find(SourceKind.ENUM_LITERAL, enumLiteral.getName(), stereoType, 
+				source -> EcoreUtil.equals(((EnumPropertySource) source).getProperty(), enumLiteral));
+		if (target != null) {
+			return new DefaultMapped<EnumLiteral>(enumLiteral, target);
 		}
 		return new NullMapped<EnumLiteral>(enumLiteral);
 	}
 
-	private boolean matchesStereoType(final String stereoType, final StereoTypeTarget stereoTypeTarget) {
-		return stereoTypeTarget.getName().equalsIgnoreCase(stereoType);
-	}
-	
 	private boolean matchesProperty(final Property srcProp, final Property tgtProp) {
-		FunctionBlock srcFb = (FunctionBlock) srcProp.eContainer().eContainer();
-		FunctionBlock tgtFb = (FunctionBlock) tgtProp.eContainer().eContainer();
-		FunctionblockModel srcFbModel = (FunctionblockModel) srcFb.eContainer();
-		FunctionblockModel tgtFbModel = (FunctionblockModel) tgtFb.eContainer();
-		return EcoreUtil.equals(srcProp, tgtProp) && EcoreUtil.equals(srcFbModel, tgtFbModel);
+		return EcoreUtil.equals(srcProp, tgtProp) 
+				&& ruleIndex.modelsEqual(MappingRuleIndex.containingModel(srcProp), MappingRuleIndex.containingModel(tgtProp));
 	}
 
 	/**
@@ -174,38 +159,29 @@ public class InvocationContext {
 	 * @return mapped element
 	 */
 	public IMapped<Property> getMappedElement(final Property property, final String stereoType) {
-
-		for (MappingRule rule : mappingRules) {
-			for (Source ruleSource : rule.getSources()) {
-				if (ruleSource instanceof ConfigurationSource
-						&& matchesProperty(((ConfigurationSource) ruleSource).getProperty(), property)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<Property>(property, (StereoTypeTarget) rule.getTarget());
-				} else if (ruleSource instanceof StatusSource
-						&& matchesProperty(((StatusSource) ruleSource).getProperty(), property)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<Property>(property, (StereoTypeTarget) rule.getTarget());
-				} else if (ruleSource instanceof FaultSource
-						&& matchesProperty(((FaultSource) ruleSource).getProperty(), property)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<Property>(property, (StereoTypeTarget) rule.getTarget());
-				} else if (ruleSource instanceof EntityPropertySource
-						&& matchesProperty(((EntityPropertySource) ruleSource).getProperty(), property)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<Property>(property, (StereoTypeTarget) rule.getTarget());
-				}
-			}
+		StereoTypeTarget target = ruleIndex.find(SourceKind.PROPERTY, MappingRuleIndex.propertyKey(property), stereoType, 
+				source -> matchesProperty(getProperty(source), property));
+		if (target != null) {
+			return new DefaultMapped<Property>(property, target);
 		}
-
 		return new NullMapped<Property>(property);
 	}
+	
+	private Property getProperty(Source source) {
+		if (source instanceof ConfigurationSource) {
+			return ((ConfigurationSource) source).getProperty();
+		} else if (source instanceof StatusSource) {
+			return ((StatusSource) source).getProperty();
+		} else if (source instanceof FaultSource) {
+			return ((FaultSource) source).getProperty();
+		} else {
+			return ((EntityPropertySource) source).getProperty();
+		}
+	}
 
 	private boolean matchesOperation(final Operation srcOp, final Operation tgtOp) {
-		FunctionBlock srcFb = (FunctionBlock) srcOp.eContainer();
-		FunctionBlock tgtFb = (FunctionBlock) tgtOp.eContainer();
-		FunctionblockModel srcFbModel = (FunctionblockModel) srcFb.eContainer();
-		FunctionblockModel tgtFbModel = (FunctionblockModel) tgtFb.eContainer();
-		return EcoreUtil.equals(srcOp, tgtOp) && EcoreUtil.equals(srcFbModel, tgtFbModel);
+		return EcoreUtil.equals(srcOp, tgtOp) 
+				&& ruleIndex.modelsEqual(MappingRuleIndex.containingModel(srcOp), MappingRuleIndex.containingModel(tgtOp));
 	}
 	
 	/**
@@ -215,14 +191,10 @@ public class InvocationContext {
 	 * @return mapped element
 	 */
 	public IMapped<Operation> getMappedElement(final Operation operation, final String stereoType) {
-		for (MappingRule rule : mappingRules) {
-			for (Source ruleSource : rule.getSources()) {
-				if (ruleSource instanceof OperationSource
-						&& matchesOperation(((OperationSource) ruleSource).getOperation(), operation)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<Operation>(operation, (StereoTypeTarget) rule.getTarget());
-				}
-			}
+		StereoTypeTarget target = ruleIndex.find(SourceKind.OPERATION, MappingRuleIndex.operationKey(operation), stereoType, 
+				source -> matchesOperation(((OperationSource) source).getOperation(), operation));
+		if (target != null) {
+			return new DefaultMapped<Operation>(operation, target);
 		}
 
 		return new NullMapped<Operation>(operation);
@@ -236,26 +208,23 @@ public class InvocationContext {
 	 */
 	public IMapped<ModelAttribute> getMappedModelAttribute(final Model model, final ModelAttribute attribute,
 			final String stereoType) {
-		for (MappingRule rule : mappingRules) {
-			for (Source ruleSource : rule.getSources()) {
-				if (model instanceof InformationModel && ruleSource instanceof InfoModelAttributeSource
-						&& ((InfoModelAttributeSource) ruleSource).getAttribute().equals(attribute)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<ModelAttribute>(attribute, (StereoTypeTarget) rule.getTarget());
-				} else if (model instanceof FunctionblockModel && ruleSource instanceof FunctionBlockAttributeSource
-						&& ((FunctionBlockAttributeSource) ruleSource).getAttribute().equals(attribute)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<ModelAttribute>(attribute, (StereoTypeTarget) rule.getTarget());
-				} else if (model instanceof Enum && ruleSource instanceof EnumAttributeSource
-						&& ((EnumAttributeSource) ruleSource).getAttribute().equals(attribute)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<ModelAttribute>(attribute, (StereoTypeTarget) rule.getTarget());
-				} else if (model instanceof Entity && ruleSource instanceof EnumAttributeSource
-						&& ((EntityAttributeSource) ruleSource).getAttribute().equals(attribute)
-						&& matchesStereoType(stereoType, (StereoTypeTarget) rule.getTarget())) {
-					return new DefaultMapped<ModelAttribute>(attribute, (StereoTypeTarget) rule.getTarget());
-				}
-			}
+		SourceKind kind;
+		if (model instanceof InformationModel) {
+			kind = SourceKind.INFORMATION_MODEL_ATTRIBUTE;
+		} else if (model instanceof FunctionblockModel) {
+			kind = SourceKind.FUNCTION_BLOCK_ATTRIBUTE;
+		} else if (model instanceof Enum) {
+			kind = SourceKind.ENUM_ATTRIBUTE;
+		} else if (model instanceof Entity) {
+			kind = SourceKind.ENTITY_ATTRIBUTE;
+		} else {
+			return new NullMapped<ModelAttribute>(attribute);
+		}
+		
+		// the index only holds sources with the same attribute
+		StereoTypeTarget target = ruleIndex.find(kind, MappingRuleIndex.attributeKey(attribute), stereoType, source -> true);
+		if (target != null) {
+			return new DefaultMapped<ModelAttribute>(attribute, target);
 		}
 
 		return new NullMapped<ModelAttribute>(attribute);
@@ -283,6 +252,37 @@ public class InvocationContext {
 		return Collections.unmodifiableMap(this.configProperties);
 	}
 	
+	/**
+	 * Sets the target that the result of the invoked code generator is streamed to, instead of holding it in memory.
+	 * Only the first result created via {@link GenerationResultZip#create(InformationModel, String, InvocationContext)}
+	 * is streamed, results of generators invoked by it are still held in memory.
+	 * @param generationTarget
+	 */
+	public void setGenerationTarget(IGenerationTarget generationTarget) {
+		this.generationTarget = generationTarget;
+	}
+	
+	synchronized IGenerationTarget claimGenerationTarget() {
+		IGenerationTarget target = this.generationTarget;
+		this.generationTarget = null;
+		return target;
+	}
+	
+	/**
+	 * Resolves all proxies of the resource set of the given model, or of the model itself if it is not part of a 
+	 * resource set. It is done once per invocation, as the models are not modified while the code is generated.
+	 */
+	synchronized void resolveProxies(EObject model) {
+		Resource resource = model.eResource();
+		if (resource != null && resource.getResourceSet() != null) {
+			if (resolvedModels.add(resource.getResourceSet())) {
+				EcoreUtil.resolveAll(resource.getResourceSet());
+			}
+		} else if (resolvedModels.add(model)) {
+			EcoreUtil.resolveAll(model);
+		}
+	}
+	
     static class NoopGeneratorLookup implements IGeneratorLookup {
 
 		@Override
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.vorto.core.api.model.datatype.Property;
+import org.eclipse.vorto.core.api.model.functionblock.Operation;
+import org.eclipse.vorto.core.api.model.mapping.ConfigurationSource;
+import org.eclipse.vorto.core.api.model.mapping.EntityAttributeSource;
+import org.eclipse.vorto.core.api.model.mapping.EntityPropertySource;
+import org.eclipse.vorto.core.api.model.mapping.EnumAttributeSource;
+import org.eclipse.vorto.core.api.model.mapping.EnumPropertySource;
+import org.eclipse.vorto.core.api.model.mapping.FaultSource;
+import org.eclipse.vorto.core.api.model.mapping.FunctionBlockAttributeSource;
+import org.eclipse.vorto.core.api.model.mapping.FunctionBlockSource;
+import org.eclipse.vorto.core.api.model.mapping.InfoModelAttributeSource;
+import org.eclipse.vorto.core.api.model.mapping.InfomodelSource;
+import org.eclipse.vorto.core.api.model.mapping.MappingRule;
+import org.eclipse.vorto.core.api.model.mapping.ModelAttribute;
+import org.eclipse.vorto.core.api.model.mapping.OperationSource;
+import org.eclipse.vorto.core.api.model.mapping.Source;
+import org.eclipse.vorto.core.api.model.mapping.StatusSource;
+import org.eclipse.vorto.core.api.model.mapping.StereoTypeTarget;
+import org.eclipse.vorto.core.api.model.model.Model;
+
+/**
+ * Index of the sources of mapping rules by the kind of element they map, the name of the element and the stereotype 
+ * of the rule. An element can only be matched by the sources indexed under its own key, these candidates are still 
+ * compared in full and in the order of the rules. Comparisons of whole models are remembered, as the same models 
+ * are compared for every element they contain. The compared models are only weakly referenced, so the index does 
+ * not keep the models of finished generations alive.
+ * 
+ * The rules are not modified once the index is created and it can be shared by concurrent generator tasks.
+ */
+final class MappingRuleIndex {
+
+	enum SourceKind {
+		INFORMATION_MODEL, FUNCTION_BLOCK, ENUM_LITERAL, PROPERTY, OPERATION, 
+		INFORMATION_MODEL_ATTRIBUTE, FUNCTION_BLOCK_ATTRIBUTE, ENUM_ATTRIBUTE, ENTITY_ATTRIBUTE
+	}
+	
+	private final Map<String, List<Candidate>> candidates = new HashMap<String, List<Candidate>>();
+	
+	private final Map<Model, Map<Model, Boolean>> modelComparisons = new WeakHashMap<Model, Map<Model, Boolean>>();
+	
+	MappingRuleIndex(List<MappingRule> mappingRules) {
+		for (MappingRule rule : mappingRules) {
+			if (!(rule.getTarget() instanceof StereoTypeTarget)) {
+				continue;
+			}
+			StereoTypeTarget target = (StereoTypeTarget) rule.getTarget();
+			for (Source source : rule.getSources()) {
+				index(source, target);
+			}
+		}
+	}
+	
+	private void index(Source source, StereoTypeTarget target) {
+		if (source instanceof InfomodelSource) {
+			add(SourceKind.INFORMATION_MODEL, qualifiedName(((InfomodelSource) source).getModel()), source, target);
+		}
+		if (source instanceof FunctionBlockSource) {
+			add(SourceKind.FUNCTION_BLOCK, qualifiedName(((FunctionBlockSource) source).getModel()), source, target);
+		}
+		if (source instanceof EnumPropertySource && ((EnumPropertySource) source).getProperty() != null) {
+			add(SourceKind.ENUM_LITERAL, ((EnumPropertySource) source).getProperty().getName(), source, target);
+		}
+		if (source instanceof ConfigurationSource) {
+			add(SourceKind.PROPERTY, propertyKey(((ConfigurationSource) source).getProperty()), source, target);
+		} else if (source instanceof StatusSource) {
+			add(SourceKind.PROPERTY, propertyKey(((StatusSource) source).getProperty()), source, target);
+		} else if (source instanceof FaultSource) {
+			add(SourceKind.PROPERTY, propertyKey(((FaultSource) source).getProperty()), source, target);
+		} else if (source instanceof EntityPropertySource) {
+			add(SourceKind.PROPERTY, propertyKey(((EntityPropertySource) source).getProperty()), source, target);
+		}
+		if (source instanceof OperationSource) {
+			add(SourceKind.OPERATION, operationKey(((OperationSource) source).getOperation()), source, target);
+		}
+		if (source instanceof InfoModelAttributeSource) {
+			add(SourceKind.INFORMATION_MODEL_ATTRIBUTE, attributeKey(((InfoModelAttributeSource) source).getAttribute()), source, target);
+		} else if (source instanceof FunctionBlockAttributeSource) {
+			add(SourceKind.FUNCTION_BLOCK_ATTRIBUTE, attributeKey(((FunctionBlockAttributeSource) source).getAttribute()), source, target);
+		} else if (source instanceof EnumAttributeSource) {
+			add(SourceKind.ENUM_ATTRIBUTE, attributeKey(((EnumAttributeSource) source).getAttribute()), source, target);
+		} else if (source instanceof EntityAttributeSource) {
+			add(SourceKind.ENTITY_ATTRIBUTE, attributeKey(((EntityAttributeSource) source).getAttribute()), source, target);
+		}
+	}
+	
+	private void add(SourceKind kind, String elementKey, Source source, StereoTypeTarget target) {
+		String key = key(kind, elementKey, target.getName());
+		List<Candidate> list = candidates.get(key);
+		if (list == null) {
+			list = new ArrayList<Candidate>(1);
+			candidates.put(key, list);
+		}
+		list.add(new Candidate(source, target));
+	}
+	
+	/**
+	 * Finds the target of the first rule with a source of the given kind and element key that matches the predicate
+	 * @return stereotype target or null if no rule matches
+	 */
+	StereoTypeTarget find(SourceKind kind, String elementKey, String stereoType, Predicate<Source> matches) {
+		for (Candidate candidate : candidates.getOrDefault(key(kind, elementKey, stereoType), Collections.<Candidate>emptyList())) {
+			if (candidate.target.getName().equalsIgnoreCase(stereoType) && matches.test(candidate.source)) {
+				return candidate.target;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Compares the given models like {@link EcoreUtil#equals(EObject, EObject)} and remembers the result
+	 */
+	boolean modelsEqual(Model model, Model other) {
+		if (model == other) {
+			return true;
+		} else if (model == null || other == null) {
+			return false;
+		}
+		Map<Model, Boolean> comparisons;
+		synchronized (modelComparisons) {
+			comparisons = modelComparisons.computeIfAbsent(model, key -> new WeakHashMap<Model, Boolean>());
+			Boolean equal = comparisons.get(other);
+			if (equal != null) {
+				return equal;
+			}
+		}
+		boolean equal = EcoreUtil.equals(model, other);
+		synchronized (modelComparisons) {
+			comparisons.put(other, equal);
+		}
+		return equal;
+	}
+	
+	static String qualifiedName(Model model) {
+		if (model == null) {
+			return "";
+		}
+		return model.getNamespace() + "." + model.getName() + ":" + model.getVersion();
+	}
+	
+	static String propertyKey(Property property) {
+		if (property == null) {
+			return "";
+		}
+		return qualifiedName(containingModel(property)) + "#" + property.getName();
+	}
+	
+	static String operationKey(Operation operation) {
+		if (operation == null) {
+			return "";
+		}
+		return qualifiedName(containingModel(operation)) + "#" + operation.getName();
+	}
+	
+	static String attributeKey(ModelAttribute attribute) {
+		return String.valueOf(attribute);
+	}
+	
+	/**
+	 * @return the model that contains the given element, e.g. the function block model of a status property
+	 */
+	static Model containingModel(EObject element) {
+		EObject container = element.eContainer();
+		while (container != null && !(container instanceof Model)) {
+			container = container.eContainer();
+		}
+		return (Model) container;
+	}
+	
+	private static String key(SourceKind kind, String elementKey, String stereoType) {
+		return kind + "|" + elementKey + "|" + (stereoType != null ? stereoType.toLowerCase(Locale.ROOT) : "");
+	}
+	
+	private static class Candidate {
+		
+		private final Source source;
+		
+		private final StereoTypeTarget target;
+		
+		private Candidate(Source source, StereoTypeTarget target) {
+			this.source = source;
+			this.target = target;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Generator Task that executes independent generator tasks for the same model element in parallel on a fork-join 
+ * pool. Each task writes to its own buffer, the buffers are passed on to the writer in the order the tasks were 
+ * added once all tasks completed. The generated output and its order are therefore the same as for a 
+ * {@link ChainedCodeGeneratorTask}.
+ * 
+ * Tasks must not depend on the output or side effects of each other. EMF resolves proxies lazily on first access, 
+ * which modifies the model and is not thread-safe. All proxies of the models of the element are therefore resolved 
+ * before the tasks are first forked in an invocation, the tasks themselves must not modify the models.
+ */
+public class ParallelCodeGeneratorTask<Element> extends ChainedCodeGeneratorTask<Element> {
+
+	private final ForkJoinPool pool;
+	
+	public ParallelCodeGeneratorTask() {
+		this(ForkJoinPool.commonPool());
+	}
+	
+	public ParallelCodeGeneratorTask(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	@Override
+	public void generate(Element element, InvocationContext context, IGeneratedWriter outputter) {
+		List<ICodeGeneratorTask<Element>> tasks = getTasks();
+		if (tasks.size() <= 1) {
+			super.generate(element, context, outputter);
+			return;
+		}
+		
+		List<TaskOutput> buffers = new ArrayList<TaskOutput>(tasks.size());
+		List<ForkJoinTask<?>> forks = new ArrayList<ForkJoinTask<?>>(tasks.size());
+		for (ICodeGeneratorTask<Element> task : tasks) {
+			TaskOutput buffer = new TaskOutput();
+			buffers.add(buffer);
+			forks.add(ForkJoinTask.adapt(() -> task.generate(element, context, buffer)));
+		}
+		
+		if (ForkJoinTask.getPool() == pool) {
+			// nested in another parallel task on the same pool, let its workers steal the forks
+			ForkJoinTask.invokeAll(forks);
+		} else {
+			if (element instanceof EObject) {
+				context.resolveProxies((EObject) element);
+			}
+			pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(forks)));
+		}
+		
+		for (TaskOutput buffer : buffers) {
+			buffer.writeTo(outputter);
+		}
+	}
+	
+	/**
+	 * Collects the output of a single task. Tasks may use nested parallel tasks, hence writes are synchronized.
+	 */
+	private static class TaskOutput implements IGeneratedWriter {
+		
+		private final List<Generated> generated = Collections.synchronizedList(new ArrayList<Generated>());
+		
+		@Override
+		public void write(Generated generated) {
+			this.generated.add(generated);
+		}
+		
+		void writeTo(IGeneratedWriter outputter) {
+			synchronized (generated) {
+				for (Generated each : generated) {
+					outputter.write(each);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.Conversion;
+import org.eclipse.vorto.service.mapping.ble.json.GattCharacteristic;
+import org.eclipse.vorto.service.mapping.ble.json.GattDevice;
+import org.eclipse.vorto.service.mapping.ble.json.GattService;
+import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
+import org.eclipse.vorto.service.mapping.spec.SpecGattConverter;
+import org.eclipse.vorto.service.mapping.spec.SpecWithBase64Converter;
+import org.eclipse.vorto.service.mapping.spec.SpecWithByteArrayConverter;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCondition;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConditionFunction;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConditionXpath;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCustomFunction;
+
+import com.google.gson.Gson;
+
+/**
+ * Mapping specifications of the mapping-engine test suite together with a matching device payload
+ *
+ */
+public enum BenchmarkScenario {
+
+	JSON_FUNCTIONS {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecWithCustomFunction();
+		}
+
+		@Override
+		public String createPayload() {
+			return "{\"clickType\" : \"DOUBLE\", \"batteryVoltage\": \"2322mV\"}";
+		}
+	},
+	CONDITION {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecWithCondition();
+		}
+
+		@Override
+		public String createPayload() {
+			return "{\"count\" : 2 }";
+		}
+	},
+	CONDITION_FUNCTION {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecWithConditionFunction();
+		}
+
+		@Override
+		public String createPayload() {
+			return "{\"data\" : \"aGFsbG8=\"}";
+		}
+	},
+	CONDITION_XPATH {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecWithConditionXpath();
+		}
+
+		@Override
+		public String createPayload() {
+			return "{\"data\" : [{\"id\": 100,\"value\": \"x\"},{\"id\": 200,\"value\": \"y\"}]}";
+		}
+	},
+	BASE64 {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecWithBase64Converter();
+		}
+
+		@Override
+		public String createPayload() {
+			return "{\"data\" : \"MjA=\"}";
+		}
+	},
+	BINARY {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecWithByteArrayConverter();
+		}
+
+		@Override
+		public String createPayload() {
+			return "{\"data\" : \"4f00630063007500700061006e0063007900200002\"}";
+		}
+	},
+	BLE_GATT {
+		@Override
+		public IMappingSpecification createSpecification() {
+			return new SpecGattConverter();
+		}
+
+		@Override
+		public String createPayload() {
+			List<GattCharacteristic> characteristics = new ArrayList<GattCharacteristic>();
+			characteristics.add(new GattCharacteristic("23-D1-13-EF-5F-78-23-15-DE-EF-12-12-0D-F0-00-00",
+					Conversion.intToByteArray(2000, 0, new byte[6], 3, 3)));
+			
+			GattService gattService = new GattService();
+			gattService.setCharacteristics(characteristics);
+			List<GattService> services = new ArrayList<GattService>();
+			services.add(gattService);
+			
+			GattDevice gattDevice = new GattDevice();
+			gattDevice.setModelNumber("23-23-23");
+			gattDevice.setServices(services);
+			gattDevice.setCharacteristics(characteristics);
+			
+			return new Gson().toJson(gattDevice);
+		}
+	};
+	
+	public abstract IMappingSpecification createSpecification();
+	
+	public abstract String createPayload();
+	
+	/**
+	 * Creates the payload of the scenario, enlarged by an unmapped property to at least the given size
+	 * @param size minimum payload size in bytes
+	 */
+	public String createPayload(int size) {
+		return Payloads.pad(createPayload(), size);
+	}
+}
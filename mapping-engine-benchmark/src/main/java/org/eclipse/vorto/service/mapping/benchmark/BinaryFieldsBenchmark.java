@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.vorto.service.mapping.DataInput;
+import org.eclipse.vorto.service.mapping.IDataMapper;
+import org.eclipse.vorto.service.mapping.MappingContext;
+import org.eclipse.vorto.service.mapping.ditto.DittoData;
+import org.eclipse.vorto.service.mapping.spec.SpecWithBinaryFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of mapping fixed-layout binary frames that are decoded directly from a buffer
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFieldsBenchmark {
+
+	private IDataMapper<DittoData> mapper;
+	
+	private ByteBuffer frame;
+	
+	@Setup
+	public void setup() {
+		this.mapper = IDataMapper.newBuilder().withSpecification(new SpecWithBinaryFields()).buildDittoMapper();
+		
+		this.frame = ByteBuffer.allocate(11);
+		frame.order(ByteOrder.LITTLE_ENDIAN).putShort((short)215);
+		frame.order(ByteOrder.BIG_ENDIAN).putFloat(36.5f);
+		frame.put((byte)80);
+		frame.put((byte)0x01).put((byte)0x02).put((byte)0x03);
+		frame.put((byte)1);
+		frame.flip();
+	}
+	
+	@Benchmark
+	public DittoData mapBinaryFrame() {
+		return mapper.map(DataInput.newInstance().fromBinary(frame), MappingContext.empty());
+	}
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.vorto.service.mapping.DataInput;
+import org.eclipse.vorto.service.mapping.IDataMapper;
+import org.eclipse.vorto.service.mapping.MappingContext;
+import org.eclipse.vorto.service.mapping.json.JsonData;
+import org.eclipse.vorto.service.mapping.normalized.Command;
+import org.eclipse.vorto.service.mapping.spec.SpecWithOperationMapping;
+import org.eclipse.vorto.service.mapping.spec.SpecWithOperationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of mapping commands to device specific JSON payloads. The test specifications
+ * share their function blocks, hence only one of them is set up per trial.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandMapperBenchmark {
+
+	@Param({ "CONSTANT", "PARAMETER" })
+	private String operation;
+	
+	private IDataMapper<JsonData> mapper;
+	
+	private Command command;
+	
+	@Setup
+	public void setup() {
+		if ("CONSTANT".equals(operation)) {
+			this.mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationRule()).buildCommandMapper();
+			this.command = Command.forFunctionBlockProperty("button").name("press").build();
+		} else {
+			this.mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationMapping()).buildCommandMapper();
+			Map<String, Object> obj = new HashMap<>();
+			obj.put("count", 4);
+			this.command = Command.forFunctionBlockProperty("button").name("press").param("obj", obj).build();
+		}
+	}
+	
+	@Benchmark
+	public String mapCommand() {
+		return mapper.map(DataInput.newInstance().fromObject(command), MappingContext.empty()).toJson();
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.vorto.service.mapping.DataInput;
+import org.eclipse.vorto.service.mapping.IDataMapper;
+import org.eclipse.vorto.service.mapping.MappingContext;
+import org.eclipse.vorto.service.mapping.ditto.DittoData;
+import org.eclipse.vorto.service.mapping.ditto.IDittoJsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the {@link IDataMapper} for Eclipse Ditto over the test specifications 
+ * of the mapping-engine with growing payload sizes
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DittoMapperBenchmark {
+
+	@Param({ "JSON_FUNCTIONS", "CONDITION", "CONDITION_FUNCTION", "CONDITION_XPATH", "BASE64", "BINARY", "BLE_GATT" })
+	private BenchmarkScenario scenario;
+	
+	@Param({ "0", "2048", "10240" })
+	private int payloadSize;
+	
+	private IDittoJsonMapper mapper;
+	
+	private String payload;
+	
+	private ByteBuffer output = ByteBuffer.allocate(64 * 1024);
+	
+	@Setup
+	public void setup() {
+		this.mapper = IDataMapper.newBuilder().withSpecification(scenario.createSpecification()).buildDittoJsonMapper();
+		this.payload = scenario.createPayload(payloadSize);
+	}
+	
+	@Benchmark
+	public DittoData mapJson() {
+		return mapper.map(DataInput.newInstance().fromJson(payload), MappingContext.empty());
+	}
+	
+	@Benchmark
+	public DittoData mapJsonStream() {
+		return mapper.map(DataInput.newInstance().fromJsonStream(payload), MappingContext.empty());
+	}
+	
+	@Benchmark
+	public String mapJsonToString() {
+		return mapper.map(DataInput.newInstance().fromJson(payload), MappingContext.empty()).toJson();
+	}
+	
+	@Benchmark
+	public ByteBuffer mapJsonToBuffer() {
+		output.clear();
+		mapper.writeJson(DataInput.newInstance().fromJson(payload), MappingContext.empty(), output);
+		return output;
+	}
+}
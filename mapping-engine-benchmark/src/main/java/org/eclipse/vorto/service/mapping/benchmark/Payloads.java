@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.benchmark;
+
+/**
+ * Utility to enlarge device payloads with properties that are not referenced by any mapping
+ *
+ */
+public final class Payloads {
+
+	private Payloads() {
+	}
+	
+	/**
+	 * Adds an unmapped <code>padding</code> array of objects to the given JSON object until it is at least of the
+	 * given size. JSON arrays are returned unchanged.
+	 */
+	public static String pad(String json, int size) {
+		String trimmed = json.trim();
+		if (!trimmed.startsWith("{") || trimmed.length() >= size) {
+			return json;
+		}
+		
+		StringBuilder padding = new StringBuilder("\"padding\" : [");
+		int i = 0;
+		while (trimmed.length() + padding.length() + 2 < size) {
+			if (i > 0) {
+				padding.append(',');
+			}
+			padding.append("{\"index\":").append(i).append(",\"name\":\"element").append(i)
+					.append("\",\"values\":[1.5,2.5,3.5],\"active\":true}");
+			i++;
+		}
+		padding.append("],");
+		
+		return "{" + padding + trimmed.substring(1);
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.jxpath.Functions;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelType;
+import org.eclipse.vorto.repository.api.content.FunctionblockModel;
+import org.eclipse.vorto.repository.api.content.Infomodel;
+import org.eclipse.vorto.repository.api.content.ModelProperty;
+import org.eclipse.vorto.repository.api.content.PrimitiveType;
+import org.eclipse.vorto.repository.api.content.Stereotype;
+import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
+
+/**
+ * Generated mapping specification with a configurable number of function blocks. Every function block
+ * maps a number, a converted string and a conditional value from its own section of the payload.
+ *
+ */
+public class SyntheticMappingSpecification implements IMappingSpecification {
+
+	private Infomodel infomodel = new Infomodel(ModelId.fromPrettyFormat("benchmark.Synthetic:1.0.0"),
+			ModelType.InformationModel);
+	
+	private Map<String, FunctionblockModel> fbs = new HashMap<>();
+	
+	public SyntheticMappingSpecification(int functionblockCount) {
+		for (int i = 0; i < functionblockCount; i++) {
+			final String name = "fb" + i;
+			FunctionblockModel fbModel = new FunctionblockModel(ModelId.fromPrettyFormat("benchmark.fb.Sensor" + i + ":1.0.0"),
+					ModelType.Functionblock);
+			
+			List<ModelProperty> statusProperties = new ArrayList<>();
+			statusProperties.add(createProperty("sensor_value", PrimitiveType.FLOAT, true, 
+					Stereotype.createWithXpath("/" + name + "/value")));
+			statusProperties.add(createProperty("sensor_units", PrimitiveType.STRING, false, 
+					Stereotype.createWithXpath("string:upperCase(/" + name + "/unit)")));
+			statusProperties.add(createProperty("max_value", PrimitiveType.FLOAT, false, 
+					Stereotype.createWithConditionalXpath(name + ".value > 10", "/" + name + "/value")));
+			fbModel.setStatusProperties(statusProperties);
+			
+			fbs.put(name, fbModel);
+			
+			ModelProperty fbProperty = new ModelProperty();
+			fbProperty.setName(name);
+			fbProperty.setType(fbModel.getId());
+			infomodel.getFunctionblocks().add(fbProperty);
+		}
+	}
+	
+	/**
+	 * Creates a payload that contains a section for each of the given number of function blocks
+	 */
+	public static String createPayload(int functionblockCount) {
+		StringBuilder payload = new StringBuilder("{");
+		for (int i = 0; i < functionblockCount; i++) {
+			if (i > 0) {
+				payload.append(',');
+			}
+			payload.append("\"fb").append(i).append("\" : {\"value\" : ").append(i * 1.5).append(", \"unit\" : \"celsius\"}");
+		}
+		return payload.append('}').toString();
+	}
+	
+	private static ModelProperty createProperty(String name, PrimitiveType type, boolean mandatory, Stereotype source) {
+		ModelProperty property = new ModelProperty();
+		property.setName(name);
+		property.setType(type);
+		property.setMandatory(mandatory);
+		property.addStereotype(source);
+		return property;
+	}
+	
+	@Override
+	public Infomodel getInfoModel() {
+		return infomodel;
+	}
+
+	@Override
+	public FunctionblockModel getFunctionBlock(String propertyName) {
+		return fbs.get(propertyName);
+	}
+
+	@Override
+	public Optional<Functions> getCustomFunctions() {
+		return Optional.empty();
+	}
+
+}
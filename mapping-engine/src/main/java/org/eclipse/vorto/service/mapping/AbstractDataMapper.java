@@ -14,35 +14,23 @@
  */
 package org.eclipse.vorto.service.mapping;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Executor;
 
-import javax.xml.bind.DatatypeConverter;
-
-import org.apache.commons.io.EndianUtils;
-import org.apache.commons.jexl2.Expression;
 import org.apache.commons.jexl2.JexlContext;
-import org.apache.commons.jexl2.JexlEngine;
-import org.apache.commons.jexl2.ObjectContext;
 import org.apache.commons.jxpath.JXPathContext;
 import org.apache.commons.jxpath.JXPathInvalidAccessException;
 import org.apache.commons.jxpath.JXPathNotFoundException;
-import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.Conversion;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.math.NumberUtils;
-import org.apache.commons.text.StrSubstitutor;
-import org.eclipse.vorto.repository.api.content.FunctionblockModel;
-import org.eclipse.vorto.repository.api.content.Infomodel;
-import org.eclipse.vorto.repository.api.content.ModelProperty;
-import org.eclipse.vorto.repository.api.content.Stereotype;
+import org.eclipse.vorto.service.mapping.binary.BinaryData;
+import org.eclipse.vorto.service.mapping.binary.BinaryInput;
+import org.eclipse.vorto.service.mapping.internal.ConditionEvaluator;
 import org.eclipse.vorto.service.mapping.internal.JxPathFactory;
-import org.eclipse.vorto.service.mapping.internal.converter.Arrays;
-import org.eclipse.vorto.service.mapping.internal.converter.Base64;
-import org.eclipse.vorto.service.mapping.internal.converter.ConvertUtils;
-import org.eclipse.vorto.service.mapping.internal.converter.DateUtils;
-import org.eclipse.vorto.service.mapping.internal.converter.Jxpath;
+import org.eclipse.vorto.service.mapping.internal.plan.FunctionblockPlan;
+import org.eclipse.vorto.service.mapping.internal.plan.FunctionblockValuesHandler;
+import org.eclipse.vorto.service.mapping.internal.plan.MappingPlan;
+import org.eclipse.vorto.service.mapping.internal.plan.PropertyPlan;
+import org.eclipse.vorto.service.mapping.json.StreamingJsonInput;
 import org.eclipse.vorto.service.mapping.normalized.FunctionblockData;
 import org.eclipse.vorto.service.mapping.normalized.InfomodelData;
 import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
@@ -60,156 +48,194 @@ public abstract class AbstractDataMapper<Result> implements IDataMapper<Result>
 
 	private JxPathFactory jxpathHelper = null;
 	
-	private static final JexlEngine JEXL = createJexlEngine();
+	private MappingPlan plan;
+	
+	private Executor executor = null;
 	
-	private static final String STEREOTYPE = "source";
-	private static final String ATTRIBUTE_XPATH = "xpath";
-	private static final Object ATTRIBUTE_CONDITION = "condition";
+	private ConditionEvaluator conditions;
 
 	public AbstractDataMapper(IMappingSpecification mappingSpecification) {
+		this(mappingSpecification, 0);
+	}
+	
+	/**
+	 * @param conditionCacheSize size of the JEXL expression cache used to parse the conditions of the specification, 
+	 * 0 disables the cache 
+	 */
+	public AbstractDataMapper(IMappingSpecification mappingSpecification, int conditionCacheSize) {
 		this.specification = mappingSpecification;
 		this.jxpathHelper = new JxPathFactory(mappingSpecification.getCustomFunctions());
+		this.conditions = new ConditionEvaluator(conditionCacheSize);
+		this.plan = MappingPlan.compile(mappingSpecification, conditions.getEngine());
 	}
 	
-	private static JexlEngine createJexlEngine() {
-		JexlEngine jexl = new JexlEngine();
-		Map<String, Object> funcs = new HashMap<String, Object>();
-        funcs.put("conversion", Conversion.class);
-        funcs.put("string", StringUtils.class);
-        funcs.put("number", NumberUtils.class);
-        funcs.put("date", DateUtils.class);
-        funcs.put("type", ConvertUtils.class);
-        funcs.put("boolean", BooleanUtils.class);
-        funcs.put("base64", Base64.class);
-        funcs.put("binaryString", DatatypeConverter.class);
-        funcs.put("xpath", Jxpath.class);
-        funcs.put("endian", EndianUtils.class);
-        funcs.put("array", Arrays.class);
-        jexl.setFunctions(funcs);
-		return jexl;
-	}
-
 	public Result map(DataInput input, MappingContext mappingContext) {
-
-		JXPathContext context = jxpathHelper.newContext(input.getValue());
-		
 		InfomodelData normalized = new InfomodelData();
 		
-		final Infomodel deviceInfoModel = specification.getInfoModel();
-
-		for (ModelProperty fbProperty : deviceInfoModel.getFunctionblocks()) {
-			if (mappingContext.isIncluded(fbProperty.getName())) {
-				FunctionblockData mappedFb = mapFunctionBlock(fbProperty, context);
-				if (mappedFb != null) {
-					normalized.withFunctionblock(mappedFb);
+		execute(input, mappingContext, (fbPlan, statusValues, configurationValues) -> 
+			normalized.withFunctionblock(toFunctionblockData(fbPlan, statusValues, configurationValues)));
+		
+		return this.doMap(normalized, mappingContext);
+	}
+	
+	/**
+	 * Executes the mapping plan for the given input and passes the values of every mapped function block to
+	 * the handler, without building the normalized data model. 
+	 */
+	protected void execute(DataInput input, MappingContext mappingContext, FunctionblockValuesHandler handler) {
+		ByteBuffer buffer = readBinary(input);
+		JXPathContext context = buffer == null || plan.requiresSourceObject() ? jxpathHelper.newContext(readInput(input)) : null;
+		JexlContext conditionContext = plan.hasConditions() ? conditions.newContext(context.getContextBean()) : null;
+		boolean passBinaryFields = buffer != null && handler.readsBinaryFields(buffer);
+		
+		for (FunctionblockPlan fbPlan : plan.getFunctionblocks()) {
+			if (mappingContext.isIncluded(fbPlan.getName())) {
+				Object[] statusValues = new Object[fbPlan.getStatusProperties().size()];
+				Object[] configurationValues = new Object[fbPlan.getConfigurationProperties().size()];
+				if (mapFunctionBlock(fbPlan, context, conditionContext, buffer, passBinaryFields, statusValues, configurationValues)) {
+					handler.handle(fbPlan, statusValues, configurationValues);
 				}
 			}
 		}
-		
-		return this.doMap(normalized, mappingContext);
 	}
 	
-	private FunctionblockData mapFunctionBlock(ModelProperty fbProperty, JXPathContext context) {
+	private Object readInput(DataInput input) {
+		if (input instanceof StreamingJsonInput && plan.getReferencedProperties().isPresent()) {
+			return ((StreamingJsonInput)input).getValue(plan.getReferencedProperties().get());
+		} else {
+			return input.getValue();
+		}
+	}
+	
+	private ByteBuffer readBinary(DataInput input) {
+		if (!plan.hasBinaryFields() || input instanceof StreamingJsonInput) {
+			return null;
+		} else if (input instanceof BinaryInput) {
+			return ((BinaryInput)input).getBuffer();
+		} else if (input.getValue() instanceof BinaryData && ((BinaryData)input.getValue()).getData() != null) {
+			return ByteBuffer.wrap(((BinaryData)input.getValue()).getData());
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * @return false if a mandatory property could not be mapped or no property was mapped at all
+	 */
+	private boolean mapFunctionBlock(FunctionblockPlan fbPlan, JXPathContext context, JexlContext conditionContext, 
+			ByteBuffer buffer, boolean passBinaryFields, Object[] statusValues, Object[] configurationValues) {
 		
-		FunctionblockModel fbModel = specification.getFunctionBlock(fbProperty.getName());
+		return mapProperties(fbPlan.getStatusProperties(), context, conditionContext, buffer, passBinaryFields, statusValues)
+				&& mapProperties(fbPlan.getConfigurationProperties(), context, conditionContext, buffer, passBinaryFields, configurationValues)
+				&& (isPopulated(statusValues) || isPopulated(configurationValues));
+	}
+	
+	private boolean mapProperties(List<PropertyPlan> properties, JXPathContext context, JexlContext conditionContext, 
+			ByteBuffer buffer, boolean passBinaryFields, Object[] values) {
 		
-		FunctionblockData fbData = new FunctionblockData(fbProperty.getName());
-
-		for (ModelProperty statusProperty : fbModel.getStatusProperties()) {
-
+		for (int i = 0; i < values.length; i++) {
+			PropertyPlan property = properties.get(i);
 			try {
-				Object mapped = this.mapProperty(statusProperty, context);
-				if (mapped != null) {
-					fbData.withStatusProperty(statusProperty.getName(), mapped);
-				}
+				values[i] = this.mapProperty(property, context, conditionContext, buffer, passBinaryFields);
 			} catch (JXPathNotFoundException  ex) {
-				if (statusProperty.isMandatory()) {
-					return null;
+				if (property.isMandatory()) {
+					return false;
 				}
 			} catch(JXPathInvalidAccessException ex) {
 				if (ex.getCause() instanceof JXPathNotFoundException) {
-					if (statusProperty.isMandatory()) {
-						return null;
+					if (property.isMandatory()) {
+						return false;
 					}
 				}
 				throw new MappingException("A problem occured during mapping",ex);
 			}
-
 		}
-
-		for (ModelProperty configProperty : fbModel.getConfigurationProperties()) {
-			
-			try {
-				Object mapped = this.mapProperty(configProperty, context);
-				if (mapped != null) {
-					fbData.withConfigurationProperty(configProperty.getName(), mapped);
-				}
-			} catch (JXPathNotFoundException  ex) {
-				if (configProperty.isMandatory()) {
-					return null;
-				}
-			} catch(JXPathInvalidAccessException ex) {
-				if (ex.getCause() instanceof JXPathNotFoundException) {
-					if (configProperty.isMandatory()) {
-						return null;
-					}
-				}
-				throw new MappingException("A problem occured during mapping",ex);
+		return true;
+	}
+	
+	private static boolean isPopulated(Object[] values) {
+		for (Object value : values) {
+			if (value != null) {
+				return true;
 			}
 		}
-
-		return onlyReturnIfPopulated(fbData);
+		return false;
 	}
-
 	
-	private FunctionblockData onlyReturnIfPopulated(FunctionblockData fbData) {
-		if (!fbData.getConfiguration().isEmpty() || !fbData.getStatus().isEmpty()) {
-			return fbData;
-		} else {
-			return null;
+	private static FunctionblockData toFunctionblockData(FunctionblockPlan fbPlan, Object[] statusValues, Object[] configurationValues) {
+		FunctionblockData fbData = new FunctionblockData(fbPlan.getName());
+		for (int i = 0; i < statusValues.length; i++) {
+			if (statusValues[i] != null) {
+				fbData.withStatusProperty(fbPlan.getStatusProperties().get(i).getName(), statusValues[i]);
+			}
+		}
+		for (int i = 0; i < configurationValues.length; i++) {
+			if (configurationValues[i] != null) {
+				fbData.withConfigurationProperty(fbPlan.getConfigurationProperties().get(i).getName(), configurationValues[i]);
+			}
 		}
+		return fbData;
+	}
+	
+	@Override
+	public List<MappingResult<Result>> mapAll(List<DataInput> inputs, MappingContext mappingContext) {
+		return BatchMappingSupport.mapAll(this, inputs, mappingContext, executor);
+	}
+	
+	/**
+	 * Sets the executor, e.g. a {@link java.util.concurrent.ForkJoinPool}, on which batches are mapped in parallel. 
+	 * If not set, batches are mapped sequentially in the calling thread.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
 	}
 	
 	protected abstract Result doMap(InfomodelData normalized, MappingContext mappingContext);
 
-	private Object mapProperty(ModelProperty property, JXPathContext input) {
-		Optional<Stereotype> sourceStereotype = property.getStereotype(STEREOTYPE);
-		if (sourceStereotype.isPresent() && hasXpath(sourceStereotype.get().getAttributes())) {
-			String expression = replacePlaceHolders(sourceStereotype.get().getAttributes().get(ATTRIBUTE_XPATH),
-					sourceStereotype.get().getAttributes());
-			
-			if (matchesCondition(sourceStereotype.get().getAttributes(), input)) {
-				return input.getValue(expression);
-			}
+	private Object mapProperty(PropertyPlan property, JXPathContext input, JexlContext conditionContext, ByteBuffer buffer, 
+			boolean passBinaryFields) {
+		if (property.hasCondition() && !conditions.matches(property.getCondition(), conditionContext)) {
+			return null;
 		}
 		
-		return null;
-
+		if (property.isBinary()) {
+			return buffer != null ? mapBinaryField(property, buffer, passBinaryFields) : null;
+		} else {
+			return property.getCompiledXpath().getValue(input);
+		}
 	}
 	
-	private boolean matchesCondition(Map<String, String> attributes, JXPathContext context) {
-		if (attributes.containsKey(ATTRIBUTE_CONDITION) && !attributes.get(ATTRIBUTE_CONDITION).equals("")) {
-			Expression e = JEXL.createExpression( normalizeCondition(attributes.get(ATTRIBUTE_CONDITION) ) );
-			JexlContext jc = new ObjectContext<Object>(JEXL, context.getContextBean());
-			jc.set("this", context.getContextBean());
-			return (boolean)e.evaluate(jc);		
-		} else {
-			return true;
+	private Object mapBinaryField(PropertyPlan property, ByteBuffer buffer, boolean passBinaryFields) {
+		if (!property.getBinaryField().isAvailable(buffer)) {
+			throw new JXPathNotFoundException("Binary payload too short for property " + property.getName());
 		}
+		return passBinaryFields ? property.getBinaryField() : property.getBinaryField().decode(buffer);
 	}
-
-	private String normalizeCondition(final String expression) {
-		return expression.replaceAll("/", "\\.");
+	
+	/**
+	 * Enables measuring the time spent on evaluating property conditions, see {@link #getConditionStatistics()}
+	 */
+	public void setConditionTiming(boolean enabled) {
+		conditions.setTimed(enabled);
 	}
-
-	private boolean hasXpath(Map<String, String> stereotypeAttributes) {
-		return stereotypeAttributes.containsKey(ATTRIBUTE_XPATH)
-				&& !stereotypeAttributes.get(ATTRIBUTE_XPATH).equals("");
+	
+	/**
+	 * @return number of evaluated property conditions since the mapper was created and the time spent on them 
+	 * if condition timing is enabled
+	 */
+	public ConditionStatistics getConditionStatistics() {
+		return conditions.getStatistics();
 	}
-
-	private String replacePlaceHolders(String expression, Map<String, String> mappedAttributes) {
-		StrSubstitutor sub = new StrSubstitutor(mappedAttributes);
-		return sub.replace(expression);
+	
+	protected IMappingSpecification getSpecification() {
+		return specification;
+	}
+	
+	/**
+	 * @return the pre-compiled plan that is executed for every mapped input
+	 */
+	protected MappingPlan getMappingPlan() {
+		return plan;
 	}
 	
 }
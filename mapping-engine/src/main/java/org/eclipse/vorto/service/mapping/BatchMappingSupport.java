@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maps batches of inputs with a {@link IDataMapper}, optionally in parallel on a given executor.
+ * Failures are captured per input in the corresponding {@link MappingResult}. Mapper implementations 
+ * use it to provide {@link IDataMapper#mapAll(List, MappingContext)} on their own executor.
+ *
+ */
+public final class BatchMappingSupport {
+
+	private BatchMappingSupport() {
+	}
+
+	/**
+	 * Maps all inputs
+	 * @param mapper mapper to use for every single input
+	 * @param inputs inputs to map
+	 * @param context mapping context
+	 * @param executor executor to map the inputs on or <code>null</code> to map them in the calling thread
+	 * @return mapping results in the same order as the given inputs
+	 */
+	public static <Result> List<MappingResult<Result>> mapAll(IDataMapper<Result> mapper, List<DataInput> inputs,
+			MappingContext context, Executor executor) {
+		if (executor == null || inputs.size() < 2) {
+			return inputs.stream().map(input -> mapSafely(mapper, input, context)).collect(Collectors.toList());
+		}
+
+		List<CompletableFuture<MappingResult<Result>>> futures = new ArrayList<>(inputs.size());
+		for (DataInput input : inputs) {
+			futures.add(CompletableFuture.supplyAsync(() -> mapSafely(mapper, input, context), executor));
+		}
+
+		List<MappingResult<Result>> results = new ArrayList<>(inputs.size());
+		for (CompletableFuture<MappingResult<Result>> future : futures) {
+			results.add(future.join());
+		}
+		return results;
+	}
+
+	/**
+	 * Lazily maps the given stream of inputs. Whether inputs are mapped in parallel is determined by the
+	 * given stream.
+	 */
+	public static <Result> Stream<MappingResult<Result>> mapAll(IDataMapper<Result> mapper, Stream<DataInput> inputs,
+			MappingContext context) {
+		return inputs.map(input -> mapSafely(mapper, input, context));
+	}
+
+	public static <Result> MappingResult<Result> mapSafely(IDataMapper<Result> mapper, DataInput input,
+			MappingContext context) {
+		try {
+			return new MappingResult<Result>(mapper.map(input, context));
+		} catch (RuntimeException ex) {
+			return MappingResult.failed(ex);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the property conditions that were evaluated by a mapper 
+ *
+ */
+public class ConditionStatistics {
+
+	private final long evaluationCount;
+	
+	private final long matchCount;
+	
+	private final long totalTimeNanos;
+	
+	public ConditionStatistics(long evaluationCount, long matchCount, long totalTimeNanos) {
+		this.evaluationCount = evaluationCount;
+		this.matchCount = matchCount;
+		this.totalTimeNanos = totalTimeNanos;
+	}
+
+	/**
+	 * @return number of evaluated conditions
+	 */
+	public long getEvaluationCount() {
+		return evaluationCount;
+	}
+
+	/**
+	 * @return number of evaluated conditions that matched the source, i.e. the property was mapped
+	 */
+	public long getMatchCount() {
+		return matchCount;
+	}
+
+	public long getTotalTime(TimeUnit unit) {
+		return unit.convert(totalTimeNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * @return average time of a single evaluation in nanoseconds or 0 if no condition was evaluated
+	 */
+	public double getAverageTimeNanos() {
+		return evaluationCount == 0 ? 0 : (double) totalTimeNanos / evaluationCount;
+	}
+
+	@Override
+	public String toString() {
+		return "ConditionStatistics [evaluationCount=" + evaluationCount + ", matchCount=" + matchCount
+				+ ", totalTimeNanos=" + totalTimeNanos + "]";
+	}
+}
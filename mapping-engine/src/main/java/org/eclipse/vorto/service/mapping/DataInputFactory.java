@@ -14,7 +14,11 @@
  */
 package org.eclipse.vorto.service.mapping;
 
+import java.nio.ByteBuffer;
+
+import org.eclipse.vorto.service.mapping.binary.BinaryInput;
 import org.eclipse.vorto.service.mapping.json.JsonInput;
+import org.eclipse.vorto.service.mapping.json.StreamingJsonInput;
 
 public class DataInputFactory {
 
@@ -45,4 +49,34 @@ public class DataInputFactory {
 	public DataInput fromJson(String json) {
 		return new JsonInput(json);
 	}
+	
+	/**
+	 * Creates a JSON input that mappers parse in a streaming fashion, only reading the properties 
+	 * required by their mapping specification 
+	 */
+	public DataInput fromJsonStream(String json) {
+		return new StreamingJsonInput(json);
+	}
+	
+	/**
+	 * @see #fromJsonStream(String)
+	 */
+	public DataInput fromJsonStream(byte[] json) {
+		return new StreamingJsonInput(json);
+	}
+	
+	/**
+	 * Creates a binary input. Properties declaring a binary field (offset, datatype) in their source stereotype 
+	 * are decoded directly from the buffer.
+	 */
+	public DataInput fromBinary(ByteBuffer buffer) {
+		return new BinaryInput(buffer);
+	}
+	
+	/**
+	 * @see #fromBinary(ByteBuffer)
+	 */
+	public DataInput fromBinary(byte[] data) {
+		return new BinaryInput(data);
+	}
 }
@@ -14,7 +14,10 @@
  */
 package org.eclipse.vorto.service.mapping;
 
+import java.util.concurrent.Executor;
+
 import org.eclipse.vorto.service.mapping.ditto.DittoData;
+import org.eclipse.vorto.service.mapping.ditto.IDittoJsonMapper;
 import org.eclipse.vorto.service.mapping.internal.cc.CommandMapper;
 import org.eclipse.vorto.service.mapping.internal.ditto.DittoMapper;
 import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
@@ -22,15 +25,60 @@ import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
 public class DataMapperBuilder {
 		
 	private IMappingSpecification specification;
+	
+	private Executor executor;
+	
+	private int conditionCacheSize = 0;
+	
+	private boolean conditionTiming = false;
 		
 	protected DataMapperBuilder() {}
 
 	public IDataMapper<DittoData> buildDittoMapper() {
-		return new DittoMapper(specification);
+		return buildDittoJsonMapper();
+	}
+	
+	/**
+	 * Builds a Ditto mapper that can also write the Ditto JSON directly to a stream or buffer
+	 */
+	public IDittoJsonMapper buildDittoJsonMapper() {
+		DittoMapper mapper = new DittoMapper(specification, conditionCacheSize);
+		mapper.setExecutor(executor);
+		mapper.setConditionTiming(conditionTiming);
+		return mapper;
 	}
 	
 	public CommandMapper buildCommandMapper() {
-		return new CommandMapper(specification);
+		CommandMapper mapper = new CommandMapper(specification);
+		mapper.setExecutor(executor);
+		return mapper;
+	}
+	
+	/**
+	 * Maps batches passed to {@link IDataMapper#mapAll(java.util.List, MappingContext)} in parallel on the given executor, 
+	 * e.g. a dedicated {@link java.util.concurrent.ForkJoinPool} 
+	 */
+	public DataMapperBuilder withExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Enables the JEXL expression cache with the given maximum number of entries, so that conditions occurring 
+	 * several times in the specification, e.g. to route multiplexed payloads, are parsed only once
+	 */
+	public DataMapperBuilder withConditionCache(int size) {
+		this.conditionCacheSize = size;
+		return this;
+	}
+
+	/**
+	 * Measures the time spent on evaluating property conditions, reported by 
+	 * {@link AbstractDataMapper#getConditionStatistics()}. Off by default.
+	 */
+	public DataMapperBuilder withConditionTiming() {
+		this.conditionTiming = true;
+		return this;
 	}
 
 	public DataMapperBuilder withSpecification(IMappingSpecification specification) {
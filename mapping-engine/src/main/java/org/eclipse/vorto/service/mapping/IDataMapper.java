@@ -14,6 +14,9 @@
  */
 package org.eclipse.vorto.service.mapping;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Data Mapper that maps specific device payload to IoT platform specific data or vica versa.
  *
@@ -29,6 +32,28 @@ public interface IDataMapper<Result> {
 	 */
 	Result map(DataInput input, MappingContext context);
 	
+	/**
+	 * Maps a batch of inputs. A failure to map a single input does not abort the batch but is reported 
+	 * in the result of the corresponding input.
+	 * @param inputs source inputs that are supposed to get mapped.
+	 * @param context providing more meta - data for the mapper
+	 * @return mapping results in the same order as the given inputs
+	 */
+	default List<MappingResult<Result>> mapAll(List<DataInput> inputs, MappingContext context) {
+		return BatchMappingSupport.mapAll(this, inputs, context, null);
+	}
+	
+	/**
+	 * Lazily maps a stream of inputs. Failures are reported per element. Use a parallel stream in order
+	 * to map the inputs concurrently.
+	 * @param inputs source inputs that are supposed to get mapped.
+	 * @param context providing more meta - data for the mapper
+	 * @return stream of mapping results
+	 */
+	default Stream<MappingResult<Result>> mapAll(Stream<DataInput> inputs, MappingContext context) {
+		return BatchMappingSupport.mapAll(this, inputs, context);
+	}
+	
 	static DataMapperBuilder newBuilder() {
 		return new DataMapperBuilder();
 	}
@@ -1,15 +1,47 @@
 package org.eclipse.vorto.service.mapping;
 
+/**
+ * Result of mapping a single input. Holds either the mapped payload or the error that occurred while 
+ * mapping the input.
+ *
+ * @param <MappedPayload>
+ */
 public class MappingResult<MappedPayload> {
 	
 	private MappedPayload value;
 	
+	private Throwable error;
+	
 	public MappingResult(MappedPayload value) {
 		this.value = value;
 	}
+	
+	private MappingResult(Throwable error) {
+		this.error = error;
+	}
+	
+	public static <MappedPayload> MappingResult<MappedPayload> failed(Throwable error) {
+		return new MappingResult<MappedPayload>(error);
+	}
 
 	public MappedPayload getValue() {
 		return value;
 	}
 	
+	/**
+	 * @return error that occurred during mapping or <code>null</code> if the input was mapped successfully
+	 */
+	public Throwable getError() {
+		return error;
+	}
+	
+	public boolean isSuccessful() {
+		return error == null;
+	}
+
+	@Override
+	public String toString() {
+		return "MappingResult [value=" + value + ", error=" + error + "]";
+	}
+	
 }
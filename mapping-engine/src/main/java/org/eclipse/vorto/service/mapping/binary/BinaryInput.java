@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.binary;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.vorto.service.mapping.DataInput;
+
+/**
+ * Binary data input backed by a {@link ByteBuffer}. Binary fields of the mapping specification are decoded 
+ * directly from the buffer. The buffer content is only copied into a {@link BinaryData} object if the 
+ * mapping also evaluates xpath expressions or conditions.
+ *
+ */
+public class BinaryInput implements DataInput {
+
+	private final ByteBuffer buffer;
+	
+	private BinaryData value = null;
+	
+	/**
+	 * @param buffer buffer holding the payload between its current position and limit. 
+	 * Field offsets are relative to the current position.
+	 */
+	public BinaryInput(ByteBuffer buffer) {
+		this.buffer = buffer.slice();
+	}
+	
+	public BinaryInput(byte[] data) {
+		this(ByteBuffer.wrap(data));
+	}
+	
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+	
+	@Override
+	public Object getValue() {
+		if (value == null) {
+			byte[] data = new byte[buffer.remaining()];
+			buffer.duplicate().get(data);
+			value = new BinaryData(data);
+		}
+		return value;
+	}
+
+}
@@ -27,6 +27,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class DittoData implements JsonData {
 
+	private static final ObjectMapper JSON = new ObjectMapper();
+
 	private Map<String, Feature> features = new HashMap<>();
 	
 	public void withFeature(Feature feature) {
@@ -38,7 +40,7 @@ public class DittoData implements JsonData {
 	@Override
 	public String toJson() {
 		try {
-			return new ObjectMapper().writeValueAsString(this);
+			return JSON.writeValueAsString(this);
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException(e);
 		}
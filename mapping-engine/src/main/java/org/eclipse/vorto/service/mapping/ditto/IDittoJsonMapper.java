@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.ditto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.eclipse.vorto.service.mapping.DataInput;
+import org.eclipse.vorto.service.mapping.IDataMapper;
+import org.eclipse.vorto.service.mapping.MappingContext;
+
+/**
+ * Ditto mapper that can also write the mapped Ditto JSON directly, without creating the intermediate 
+ * {@link DittoData}
+ *
+ */
+public interface IDittoJsonMapper extends IDataMapper<DittoData> {
+
+	/**
+	 * Maps the input and writes the resulting Ditto JSON to the given stream. The stream is not closed.
+	 */
+	void writeJson(DataInput input, MappingContext mappingContext, OutputStream out) throws IOException;
+	
+	/**
+	 * Maps the input and writes the resulting Ditto JSON as UTF-8 to the given buffer, starting at its 
+	 * current position. On return the position is advanced past the written document.
+	 * 
+	 * @throws java.nio.BufferOverflowException if the remaining space of the buffer is too small
+	 */
+	void writeJson(DataInput input, MappingContext mappingContext, ByteBuffer target);
+}
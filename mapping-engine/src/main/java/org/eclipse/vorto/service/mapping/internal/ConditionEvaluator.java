@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.apache.commons.io.EndianUtils;
+import org.apache.commons.jexl2.Expression;
+import org.apache.commons.jexl2.JexlContext;
+import org.apache.commons.jexl2.JexlEngine;
+import org.apache.commons.jexl2.ObjectContext;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.Conversion;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.eclipse.vorto.service.mapping.ConditionStatistics;
+import org.eclipse.vorto.service.mapping.internal.converter.Arrays;
+import org.eclipse.vorto.service.mapping.internal.converter.Base64;
+import org.eclipse.vorto.service.mapping.internal.converter.ConvertUtils;
+import org.eclipse.vorto.service.mapping.internal.converter.DateUtils;
+import org.eclipse.vorto.service.mapping.internal.converter.Jxpath;
+
+/**
+ * Evaluates the pre-compiled property conditions of a mapper and keeps track of the number of evaluations
+ * and, if timing is enabled, the time spent on them.
+ *
+ */
+public class ConditionEvaluator {
+
+	private static final JexlEngine DEFAULT_ENGINE = createJexlEngine(0);
+	
+	private static final String THIS = "this";
+	
+	private final JexlEngine jexl;
+	
+	private final LongAdder evaluations = new LongAdder();
+	
+	private final LongAdder matches = new LongAdder();
+	
+	private final LongAdder totalTimeNanos = new LongAdder();
+	
+	private boolean timed = false;
+	
+	public ConditionEvaluator() {
+		this(0);
+	}
+	
+	/**
+	 * @param cacheSize maximum number of parsed expressions that are cached by the JEXL engine, so that 
+	 * conditions that occur several times in a specification are only parsed once. 0 disables the cache.
+	 */
+	public ConditionEvaluator(int cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative");
+		}
+		this.jexl = cacheSize == 0 ? DEFAULT_ENGINE : createJexlEngine(cacheSize);
+	}
+	
+	private static JexlEngine createJexlEngine(int cacheSize) {
+		JexlEngine jexl = new JexlEngine();
+		Map<String, Object> funcs = new HashMap<String, Object>();
+		funcs.put("conversion", Conversion.class);
+		funcs.put("string", StringUtils.class);
+		funcs.put("number", NumberUtils.class);
+		funcs.put("date", DateUtils.class);
+		funcs.put("type", ConvertUtils.class);
+		funcs.put("boolean", BooleanUtils.class);
+		funcs.put("base64", Base64.class);
+		funcs.put("binaryString", DatatypeConverter.class);
+		funcs.put("xpath", Jxpath.class);
+		funcs.put("endian", EndianUtils.class);
+		funcs.put("array", Arrays.class);
+		jexl.setFunctions(funcs);
+		if (cacheSize > 0) {
+			jexl.setCache(cacheSize);
+		}
+		return jexl;
+	}
+	
+	/**
+	 * @return engine that is used to parse the conditions
+	 */
+	public JexlEngine getEngine() {
+		return jexl;
+	}
+	
+	/**
+	 * Creates the context that is used to evaluate all conditions of a single message
+	 * 
+	 * @param source the source object that conditions are evaluated against
+	 */
+	public JexlContext newContext(Object source) {
+		return new SourceContext(jexl, source);
+	}
+	
+	/**
+	 * Enables measuring the time spent on evaluating conditions, which is off by default because it reads 
+	 * the system clock twice per evaluated condition
+	 */
+	public void setTimed(boolean timed) {
+		this.timed = timed;
+	}
+	
+	public boolean matches(Expression condition, JexlContext context) {
+		if (!timed) {
+			evaluations.increment();
+			return evaluate(condition, context);
+		}
+		
+		final long start = System.nanoTime();
+		try {
+			return evaluate(condition, context);
+		} finally {
+			totalTimeNanos.add(System.nanoTime() - start);
+			evaluations.increment();
+		}
+	}
+	
+	private boolean evaluate(Expression condition, JexlContext context) {
+		boolean matched = (boolean) condition.evaluate(context);
+		if (matched) {
+			matches.increment();
+		}
+		return matched;
+	}
+	
+	public ConditionStatistics getStatistics() {
+		return new ConditionStatistics(evaluations.sum(), matches.sum(), totalTimeNanos.sum());
+	}
+	
+	/**
+	 * Resolves identifiers as properties of the source object and <code>this</code> as the source object itself.
+	 */
+	private static class SourceContext implements JexlContext {
+		
+		private final Object source;
+		
+		private final ObjectContext<Object> properties;
+		
+		public SourceContext(JexlEngine jexl, Object source) {
+			this.source = source;
+			this.properties = new ObjectContext<Object>(jexl, source);
+		}
+
+		@Override
+		public Object get(String name) {
+			return THIS.equals(name) ? source : properties.get(name);
+		}
+
+		@Override
+		public void set(String name, Object value) {
+			properties.set(name, value);
+		}
+
+		@Override
+		public boolean has(String name) {
+			return THIS.equals(name) || properties.has(name);
+		}
+	}
+}
@@ -24,6 +24,8 @@ import org.apache.commons.jxpath.JXPathContext;
 
 public class DynamicBean {
 
+	private static final JxPathFactory DEFAULT_FACTORY = defaultContext();
+	
 	private Map<String, Object> properties = new HashMap<String, Object>();
 	
 	private JxPathFactory jxpathFactory;
@@ -33,7 +35,7 @@ public class DynamicBean {
 	}
 	
 	public DynamicBean() {
-		this(defaultContext());
+		this(DEFAULT_FACTORY);
 	}
 	
 	private static JxPathFactory defaultContext() {
@@ -37,10 +37,22 @@ import org.eclipse.vorto.service.mapping.internal.converter.ConvertUtils;
 import org.eclipse.vorto.service.mapping.internal.converter.DateUtils;
 import org.eclipse.vorto.service.mapping.internal.converter.String2Utils;
 
+/**
+ * Creates JXPath contexts for mapping source objects. The function library is registered once with a 
+ * shared parent context and every created context is a lightweight child of it, so that the factory can
+ * be used concurrently by mapping threads.
+ *
+ */
 public class JxPathFactory {
 
+	static {
+		TypeUtils.setTypeConverter(new MyTypeConverter());
+	}
+	
 	private FunctionLibrary converterLibrary;
 	
+	private JXPathContext parentContext;
+	
 	private boolean lenient = false;
 	
 	public JxPathFactory(Optional<Functions> functionsFromMappings) {
@@ -61,6 +73,13 @@ public class JxPathFactory {
 		if (functionsFromMappings.isPresent()) {
 			converterLibrary.addFunctions(functionsFromMappings.get());
 		}
+		
+		// initializes the namespace cache of the library before it is read by concurrent contexts
+		this.converterLibrary.getUsedNamespaces();
+		
+		this.parentContext = JXPathContext.newContext(null);
+		this.parentContext.setFunctions(converterLibrary);
+		this.parentContext.setLenient(this.lenient);
 	}
 	
 	public JxPathFactory() {
@@ -68,15 +87,15 @@ public class JxPathFactory {
 	}
 	
 	public JXPathContext newContext(Object ctxObject) {
-		JXPathContext context = JXPathContext.newContext(ctxObject);
-		TypeUtils.setTypeConverter(new MyTypeConverter());
-		context.setFunctions(converterLibrary);
+		JXPathContext context = JXPathContext.newContext(parentContext, ctxObject);
+		// set explicitly, as the inherited lookup synchronizes on the shared parent context
 		context.setLenient(this.lenient);
 		return context;
 	}
 	
 	public void setLenient(boolean lenient) {
 		this.lenient = lenient;
+		this.parentContext.setLenient(lenient);
 	}
 	
 	public static class MyTypeConverter extends BasicTypeConverter {
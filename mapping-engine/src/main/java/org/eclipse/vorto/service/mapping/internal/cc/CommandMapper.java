@@ -14,98 +14,73 @@
  */
 package org.eclipse.vorto.service.mapping.internal.cc;
 
-import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.Executor;
 
-import org.apache.commons.jxpath.JXPathContext;
 import org.eclipse.vorto.repository.api.content.FunctionblockModel;
-import org.eclipse.vorto.repository.api.content.Infomodel;
 import org.eclipse.vorto.repository.api.content.ModelProperty;
 import org.eclipse.vorto.repository.api.content.Operation;
-import org.eclipse.vorto.repository.api.content.Param;
-import org.eclipse.vorto.repository.api.content.Stereotype;
+import org.eclipse.vorto.service.mapping.BatchMappingSupport;
 import org.eclipse.vorto.service.mapping.DataInput;
 import org.eclipse.vorto.service.mapping.IDataMapper;
 import org.eclipse.vorto.service.mapping.MappingContext;
-import org.eclipse.vorto.service.mapping.internal.DynamicBean;
+import org.eclipse.vorto.service.mapping.MappingException;
+import org.eclipse.vorto.service.mapping.MappingResult;
 import org.eclipse.vorto.service.mapping.internal.JxPathFactory;
 import org.eclipse.vorto.service.mapping.json.JsonData;
 import org.eclipse.vorto.service.mapping.normalized.Command;
 import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 public class CommandMapper implements IDataMapper<JsonData> {
 
 	private IMappingSpecification mappingSpecification;
 	
-	private static final String STEREOTYPE = "target";
-	private static final String ATTRIBUTE_XPATH = "key";
-	private static final String ATTRIBUTE_VALUE = "value";
-	
 	private JxPathFactory jxpathFactory = null;
 	
+	private Executor executor = null;
+	
+	private Map<String, CommandTemplate> templates = new HashMap<>();
+	
 	public CommandMapper(IMappingSpecification specification) {
 		this.mappingSpecification = specification;
 		this.jxpathFactory = new JxPathFactory(specification.getCustomFunctions());
 		this.jxpathFactory.setLenient(true);
-	}
-	
-	@Override
-	public JsonData map(DataInput input, MappingContext context) {
-		Command cmd = (Command)input.getValue();
-		DynamicBean mappedPayload = new DynamicBean(jxpathFactory);
 		
-		final Infomodel deviceInfoModel = mappingSpecification.getInfoModel();
-
-		for (ModelProperty fbProperty : deviceInfoModel.getFunctionblocks()) {
+		for (ModelProperty fbProperty : mappingSpecification.getInfoModel().getFunctionblocks()) {
 			FunctionblockModel fbModel = mappingSpecification.getFunctionBlock(fbProperty.getName());
 			for (Operation operation : fbModel.getOperations()) {
-				Optional<Stereotype> operationStereotype = operation.getStereotype(STEREOTYPE);
-				if (operationStereotype.isPresent() && hasXpath(operationStereotype.get().getAttributes())) {
-					final String expression = operationStereotype.get().getAttributes().get(ATTRIBUTE_XPATH);
-					final String value = operationStereotype.get().getAttributes().get(ATTRIBUTE_VALUE);
-					mappedPayload.setProperty(expression, value);
-				}
-				operation.getParams().stream().forEach(param -> {
-					param.getStereotypes().stream().filter(s -> s.getName().equals(STEREOTYPE)).forEach(paramStereotype -> {
-						if (hasXpath(paramStereotype.getAttributes())) {
-							final String expression = paramStereotype.getAttributes().get(ATTRIBUTE_XPATH);
-							final Object value = replacePlaceHolders(paramStereotype.getAttributes().get(ATTRIBUTE_VALUE),param,cmd.getParams());
-							mappedPayload.setProperty(expression, value);
-						}
-					});					
-				});
-				
+				templates.put(templateKey(fbProperty.getName(), operation.getName()), CommandTemplate.compile(operation, jxpathFactory));
 			}
 		}
-		
-		ObjectMapper mapper = new ObjectMapper(); 
-		try {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			mapper.writeValue(baos, mappedPayload.asMap());
-			
-			return new JsonData() {
-				
-				@Override
-				public String toJson() {
-					return new String(baos.toByteArray());
-				}
-			};
-		} catch (Exception e) {
-			throw new IllegalArgumentException("Provided json not valid");
+	}
+	
+	private static String templateKey(String fbProperty, String operation) {
+		return fbProperty + "/" + operation;
+	}
+	
+	@Override
+	public JsonData map(DataInput input, MappingContext context) {
+		Command cmd = (Command)input.getValue();
+		CommandTemplate template = templates.get(templateKey(cmd.getFbPropertyName(), cmd.getCmdName()));
+		if (template == null) {
+			throw new MappingException("No operation " + cmd.getCmdName() + " for function block property " + cmd.getFbPropertyName());
 		}
+		return template.render(cmd.getParams());
 	}
 	
-	private Object replacePlaceHolders(String expression, Param param, Map<String,Object> values) {
-		JXPathContext jxpathCtx = jxpathFactory.newContext(values);
-		return jxpathCtx.getValue(expression);
+	@Override
+	public List<MappingResult<JsonData>> mapAll(List<DataInput> inputs, MappingContext context) {
+		return BatchMappingSupport.mapAll(this, inputs, context, executor);
 	}
 	
-	private boolean hasXpath(Map<String, String> stereotypeAttributes) {
-		return stereotypeAttributes.containsKey(ATTRIBUTE_XPATH)
-				&& !stereotypeAttributes.get(ATTRIBUTE_XPATH).equals("");
+	/**
+	 * Sets the executor on which batches of commands are mapped in parallel. 
+	 * If not set, batches are mapped sequentially in the calling thread.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
 	}
 
 }
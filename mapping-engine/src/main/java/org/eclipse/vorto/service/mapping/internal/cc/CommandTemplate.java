@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.cc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.jxpath.CompiledExpression;
+import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.JXPathException;
+import org.eclipse.vorto.repository.api.content.Operation;
+import org.eclipse.vorto.repository.api.content.Param;
+import org.eclipse.vorto.repository.api.content.Stereotype;
+import org.eclipse.vorto.service.mapping.MappingException;
+import org.eclipse.vorto.service.mapping.internal.DynamicBean;
+import org.eclipse.vorto.service.mapping.internal.JxPathFactory;
+import org.eclipse.vorto.service.mapping.json.JsonData;
+import org.eclipse.vorto.service.mapping.spec.MappingSpecificationProblem;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Pre-compiled payload of an operation. Constant target values are resolved once, so that mapping a 
+ * command only evaluates the pre-compiled parameter expressions against the command parameters.
+ *
+ */
+class CommandTemplate {
+
+	private static final ObjectWriter WRITER = new ObjectMapper().writer();
+	
+	private static final String STEREOTYPE = "target";
+	private static final String ATTRIBUTE_XPATH = "key";
+	private static final String ATTRIBUTE_VALUE = "value";
+	
+	private final List<Target> constants;
+	
+	private final List<Target> parameters;
+	
+	private final JxPathFactory jxpathFactory;
+	
+	private final JsonData constantPayload;
+	
+	private CommandTemplate(List<Target> constants, List<Target> parameters, JxPathFactory jxpathFactory) {
+		this.constants = constants;
+		this.parameters = parameters;
+		this.jxpathFactory = jxpathFactory;
+		this.constantPayload = parameters.isEmpty() ? render(Collections.emptyMap()) : null;
+	}
+	
+	/**
+	 * @param jxpathFactory lenient factory for the evaluation context of the parameter expressions
+	 */
+	static CommandTemplate compile(Operation operation, JxPathFactory jxpathFactory) {
+		List<Target> constants = new ArrayList<>();
+		List<Target> parameters = new ArrayList<>();
+		
+		Optional<Stereotype> operationStereotype = operation.getStereotype(STEREOTYPE);
+		if (operationStereotype.isPresent() && hasXpath(operationStereotype.get().getAttributes())) {
+			constants.add(new Target(operationStereotype.get().getAttributes().get(ATTRIBUTE_XPATH), 
+					operationStereotype.get().getAttributes().get(ATTRIBUTE_VALUE), null));
+		}
+		
+		for (Param param : operation.getParams()) {
+			for (Stereotype paramStereotype : param.getStereotypes()) {
+				if (paramStereotype.getName().equals(STEREOTYPE) && hasXpath(paramStereotype.getAttributes())) {
+					parameters.add(new Target(paramStereotype.getAttributes().get(ATTRIBUTE_XPATH), null,
+							compileValue(param, paramStereotype.getAttributes().get(ATTRIBUTE_VALUE))));
+				}
+			}
+		}
+		
+		return new CommandTemplate(Collections.unmodifiableList(constants), Collections.unmodifiableList(parameters), jxpathFactory);
+	}
+	
+	private static CompiledExpression compileValue(Param param, String expression) {
+		if (expression == null) {
+			throw new MappingException("Target of parameter " + param.getName() + " has no " + ATTRIBUTE_VALUE + " attribute");
+		}
+		try {
+			return JXPathContext.compile(expression);
+		} catch (JXPathException ex) {
+			throw new MappingSpecificationProblem("Invalid target value for parameter " + param.getName(), ex);
+		}
+	}
+	
+	private static boolean hasXpath(Map<String, String> stereotypeAttributes) {
+		return stereotypeAttributes.containsKey(ATTRIBUTE_XPATH)
+				&& !stereotypeAttributes.get(ATTRIBUTE_XPATH).equals("");
+	}
+	
+	/**
+	 * @param params parameters of the command that the parameter expressions are evaluated against
+	 */
+	JsonData render(Map<String, Object> params) {
+		if (constantPayload != null) {
+			return constantPayload;
+		}
+		
+		DynamicBean payload = new DynamicBean(jxpathFactory);
+		for (Target constant : constants) {
+			payload.setProperty(constant.path, constant.value);
+		}
+		if (!parameters.isEmpty()) {
+			JXPathContext context = jxpathFactory.newContext(params);
+			for (Target parameter : parameters) {
+				payload.setProperty(parameter.path, parameter.expression.getValue(context));
+			}
+		}
+		
+		try {
+			return new JsonPayload(WRITER.writeValueAsBytes(payload.asMap()));
+		} catch (JsonProcessingException e) {
+			throw new MappingException("Mapped command cannot be serialized", e);
+		}
+	}
+	
+	private static class Target {
+		private final String path;
+		private final Object value;
+		private final CompiledExpression expression;
+		
+		Target(String path, Object value, CompiledExpression expression) {
+			this.path = path;
+			this.value = value;
+			this.expression = expression;
+		}
+	}
+	
+	private static class JsonPayload implements JsonData {
+		private final byte[] json;
+		
+		JsonPayload(byte[] json) {
+			this.json = json;
+		}
+
+		@Override
+		public String toJson() {
+			return new String(json, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -18,10 +18,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import javax.script.Bindings;
 import javax.script.Invocable;
-import javax.script.ScriptContext;
-import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
 import org.apache.commons.jxpath.ExpressionContext;
@@ -31,10 +28,6 @@ import org.apache.commons.jxpath.JXPathInvalidAccessException;
 import org.apache.commons.jxpath.util.TypeUtils;
 import org.eclipse.vorto.service.mapping.MappingException;
 
-import jdk.nashorn.api.scripting.ClassFilter;
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
-
-@SuppressWarnings("restriction")
 public class JavascriptEvalFunction implements Function {
 
 	private static final List<String> MALICIOUS_KEYWORDS = Arrays.asList("while", "for", "foreach");
@@ -42,10 +35,17 @@ public class JavascriptEvalFunction implements Function {
 	private String functionName;
 
 	private String functionBody;
+	
+	private ScriptEnginePool enginePool;
 
 	public JavascriptEvalFunction(String funcName, String funcBody) {
+		this(funcName, funcBody, Runtime.getRuntime().availableProcessors());
+	}
+	
+	public JavascriptEvalFunction(String funcName, String funcBody, int maxEngines) {
 		this.functionName = funcName;
 		this.functionBody = funcBody;
+		this.enginePool = new ScriptEnginePool(funcBody, maxEngines);
 	}
 
 	@Override
@@ -53,29 +53,6 @@ public class JavascriptEvalFunction implements Function {
 	public Object invoke(ExpressionContext context, Object[] parameters) {
 		checkScriptForMaliciousContent();
 
-		NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
-		ScriptEngine engine = factory.getScriptEngine(new ClassFilter() {
-
-			@Override
-			public boolean exposeToScripts(String s) {
-				return false;
-			}
-
-		});
-		try {
-			final Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
-			bindings.remove("print");
-			bindings.remove("load");
-			bindings.remove("loadWithNewGlobal");
-			bindings.remove("exit");
-			bindings.remove("quit");
-			engine.eval(functionBody);
-
-		} catch (ScriptException e) {
-			throw new JXPathException("Problem evaluating " + functionName, e);
-		}
-
-		Invocable inv = (Invocable) engine;
 		Object[] args;
 		int pi = 0;
 		Class[] types = toTypes(parameters);
@@ -90,14 +67,40 @@ public class JavascriptEvalFunction implements Function {
 			args[i + pi] = TypeUtils.convert(parameters[i], types[i + pi]);
 		}
 
+		ScriptEnginePool.PooledEngine pooledEngine = null;
 		try {
+			pooledEngine = borrowEngine();
+			Invocable inv = (Invocable) pooledEngine.getEngine();
 			return inv.invokeFunction(functionName, unwrap(args));
 		} catch (NoSuchMethodException e) {
 			throw new JXPathInvalidAccessException("Cannot find function with the list of parameters", e);
 		} catch (ScriptException e) {
 			throw new JXPathInvalidAccessException("Problem executing javascript", e);
+		} finally {
+			if (pooledEngine != null) {
+				enginePool.release(pooledEngine);
+			}
 		}
 	}
+	
+	private ScriptEnginePool.PooledEngine borrowEngine() {
+		try {
+			return enginePool.borrow();
+		} catch (ScriptException e) {
+			throw new JXPathException("Problem evaluating " + functionName, e);
+		}
+	}
+	
+	/**
+	 * Discards all engines that have already evaluated the function body
+	 */
+	public void invalidate() {
+		this.enginePool.invalidate();
+	}
+	
+	public String getFunctionBody() {
+		return functionBody;
+	}
 
 	private void checkScriptForMaliciousContent() {
 		for (String maliciousKeyword : MALICIOUS_KEYWORDS) {
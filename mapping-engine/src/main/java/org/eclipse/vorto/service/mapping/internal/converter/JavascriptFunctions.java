@@ -15,27 +15,87 @@
 package org.eclipse.vorto.service.mapping.internal.converter;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.jxpath.Function;
 import org.apache.commons.jxpath.Functions;
 
+/**
+ * Javascript converter functions of a namespace. Every function is evaluated lazily into a bounded 
+ * pool of script engines and cached for subsequent invocations.
+ *
+ */
 public class JavascriptFunctions implements Functions {
 	
 	private String namespace;
 	
 	private Map<String, String> functions;
 	
+	private Map<String, JavascriptEvalFunction> compiledFunctions;
+	
+	private int maxEnginesPerFunction;
+	
 	public JavascriptFunctions(String namespace)
+	{
+		this(namespace, Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * @param namespace namespace of the functions
+	 * @param maxEnginesPerFunction maximum number of script engines kept for every function 
+	 */
+	public JavascriptFunctions(String namespace, int maxEnginesPerFunction)
 	{
 		this.namespace = namespace;
-		this.functions = new HashMap<String, String>();
+		this.functions = new ConcurrentHashMap<String, String>();
+		this.compiledFunctions = new ConcurrentHashMap<String, JavascriptEvalFunction>();
+		this.maxEnginesPerFunction = maxEnginesPerFunction;
 	}
 	
 	public void addFunction(String functionName, String functionBody) {
-		this.functions.put(functionName, functionBody);
+		update(functionName, functionBody);
+	}
+	
+	public void removeFunction(String functionName) {
+		update(functionName, null);
+	}
+	
+	/**
+	 * Changes the body of a function and evicts its compiled version atomically. Compiling a function in 
+	 * {@link #getFunction(String, String, Object[])} locks the same entry of the compiled functions, so it 
+	 * never caches a function compiled from an outdated body.
+	 */
+	private void update(String functionName, String functionBody) {
+		this.compiledFunctions.compute(functionName, (name, compiled) -> {
+			if (functionBody != null) {
+				this.functions.put(name, functionBody);
+			} else {
+				this.functions.remove(name);
+			}
+			if (compiled != null) {
+				compiled.invalidate();
+			}
+			return null;
+		});
+	}
+	
+	/**
+	 * Discards all cached script engines, e.g. after the mapping specification has changed. 
+	 * Functions are re-compiled on their next invocation.
+	 */
+	public void invalidate() {
+		for (String functionName : compiledFunctions.keySet()) {
+			evict(functionName);
+		}
+	}
+	
+	private void evict(String functionName) {
+		JavascriptEvalFunction evicted = this.compiledFunctions.remove(functionName);
+		if (evicted != null) {
+			evicted.invalidate();
+		}
 	}
 	
 	@SuppressWarnings("rawtypes")
@@ -50,11 +110,11 @@ public class JavascriptFunctions implements Functions {
 			return null;
 		}
 		
-		if (!this.functions.containsKey(name)) {
-			return null;
-		}
-		
-		return new JavascriptEvalFunction(name, functions.get(name));
+		return compiledFunctions.computeIfAbsent(name, functionName -> {
+			String functionBody = this.functions.get(functionName);
+			return functionBody != null
+					? new JavascriptEvalFunction(functionName, functionBody, maxEnginesPerFunction) : null;
+		});
 	}
 
 }
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.converter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.eclipse.vorto.service.mapping.MappingException;
+
+import jdk.nashorn.api.scripting.ClassFilter;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+/**
+ * Bounded pool of sandboxed Nashorn script engines that have already evaluated a script. An engine is
+ * borrowed exclusively by one thread for the duration of an invocation and returned afterwards, so
+ * engines are never shared concurrently. The global scope of an engine is reset to its state after the
+ * evaluation of the script when the engine is returned, so globals assigned by one invocation do not
+ * leak into later ones.
+ *
+ */
+@SuppressWarnings("restriction")
+public class ScriptEnginePool {
+
+	private static final NashornScriptEngineFactory FACTORY = new NashornScriptEngineFactory();
+	
+	private static final ClassFilter NO_JAVA_CLASSES = new ClassFilter() {
+
+		@Override
+		public boolean exposeToScripts(String s) {
+			return false;
+		}
+	};
+
+	private static final long WAIT_MILLIS = 50;
+
+	private final String script;
+	
+	private final int maxSize;
+	
+	private final BlockingQueue<PooledEngine> idle;
+	
+	private final AtomicInteger created = new AtomicInteger(0);
+	
+	private final AtomicInteger generation = new AtomicInteger(0);
+	
+	public ScriptEnginePool(String script, int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Pool size must be at least 1");
+		}
+		this.script = script;
+		this.maxSize = maxSize;
+		this.idle = new LinkedBlockingQueue<>(maxSize);
+	}
+	
+	/**
+	 * Borrows an engine that has evaluated the script. Waits if all engines are currently in use.
+	 * @return engine that must be handed back via {@link #release(PooledEngine)}
+	 * @throws ScriptException if the script cannot be evaluated
+	 */
+	public PooledEngine borrow() throws ScriptException {
+		while (true) {
+			PooledEngine engine = pollCurrent();
+			if (engine != null) {
+				return engine;
+			}
+			
+			if (created.incrementAndGet() <= maxSize) {
+				try {
+					return createEngine();
+				} catch (ScriptException | RuntimeException e) {
+					created.decrementAndGet();
+					throw e;
+				}
+			}
+			created.decrementAndGet();
+			
+			// engines dropped by invalidate() or released after it free capacity without being offered to the 
+			// idle queue, hence wait a limited time only and check for capacity again
+			try {
+				engine = idle.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new MappingException("Interrupted while waiting for a script engine", e);
+			}
+			if (engine != null) {
+				if (engine.generation == generation.get()) {
+					return engine;
+				}
+				created.decrementAndGet();
+			}
+		}
+	}
+	
+	public void release(PooledEngine engine) {
+		if (engine.generation != generation.get() || !engine.resetGlobals() || !idle.offer(engine)) {
+			created.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * Discards all pooled engines. Engines currently borrowed are dropped when they are released.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		while (idle.poll() != null) {
+			created.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * @return an idle engine of the current generation, or null. Engines released concurrently to 
+	 * {@link #invalidate()} may still be of an older generation and are dropped.
+	 */
+	private PooledEngine pollCurrent() {
+		PooledEngine engine;
+		while ((engine = idle.poll()) != null) {
+			if (engine.generation == generation.get()) {
+				return engine;
+			}
+			created.decrementAndGet();
+		}
+		return null;
+	}
+	
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	private PooledEngine createEngine() throws ScriptException {
+		final int currentGeneration = generation.get();
+		ScriptEngine engine = FACTORY.getScriptEngine(NO_JAVA_CLASSES);
+		final Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
+		bindings.remove("print");
+		bindings.remove("load");
+		bindings.remove("loadWithNewGlobal");
+		bindings.remove("exit");
+		bindings.remove("quit");
+		engine.eval(script);
+		return new PooledEngine(engine, (ScriptObjectMirror) bindings, currentGeneration);
+	}
+	
+	public static class PooledEngine {
+		
+		private final ScriptEngine engine;
+		
+		private final ScriptObjectMirror global;
+		
+		private final Map<String, Object> initialGlobals = new HashMap<>();
+		
+		private final int generation;
+		
+		private PooledEngine(ScriptEngine engine, ScriptObjectMirror global, int generation) {
+			this.engine = engine;
+			this.global = global;
+			this.generation = generation;
+			for (String key : global.getOwnKeys(true)) {
+				initialGlobals.put(key, global.getMember(key));
+			}
+		}
+		
+		/**
+		 * Removes globals added since the script was evaluated and restores the ones that were reassigned.
+		 * Objects that were modified in place cannot be restored.
+		 * @return false if the global scope could not be reset and the engine must be dropped
+		 */
+		private boolean resetGlobals() {
+			try {
+				for (String key : global.getOwnKeys(true)) {
+					if (!initialGlobals.containsKey(key)) {
+						global.removeMember(key);
+					}
+				}
+				for (Map.Entry<String, Object> initial : initialGlobals.entrySet()) {
+					if (!Objects.equals(global.getMember(initial.getKey()), initial.getValue())) {
+						global.setMember(initial.getKey(), initial.getValue());
+					}
+				}
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		}
+		
+		public ScriptEngine getEngine() {
+			return engine;
+		}
+	}
+}
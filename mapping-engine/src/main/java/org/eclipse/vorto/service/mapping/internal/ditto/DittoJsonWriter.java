@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.ditto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.eclipse.vorto.service.mapping.internal.plan.BinaryField;
+import org.eclipse.vorto.service.mapping.internal.plan.FunctionblockPlan;
+import org.eclipse.vorto.service.mapping.internal.plan.FunctionblockValuesHandler;
+import org.eclipse.vorto.service.mapping.internal.plan.PropertyPlan;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes mapped function block values as Eclipse Ditto features straight to a JSON generator, 
+ * producing the same document as {@link org.eclipse.vorto.service.mapping.ditto.DittoData#toJson()}
+ *
+ */
+class DittoJsonWriter implements FunctionblockValuesHandler {
+
+	private static final ObjectMapper JSON = new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	
+	private final JsonGenerator generator;
+	
+	private ByteBuffer payload;
+	
+	private DittoJsonWriter(JsonGenerator generator) {
+		this.generator = generator;
+	}
+	
+	static DittoJsonWriter start(OutputStream out) throws IOException {
+		JsonGenerator generator = JSON.getFactory().createGenerator(out);
+		generator.writeStartObject();
+		return new DittoJsonWriter(generator);
+	}
+	
+	void end() throws IOException {
+		generator.writeEndObject();
+		generator.close();
+	}
+	
+	@Override
+	public boolean readsBinaryFields(ByteBuffer payload) {
+		this.payload = payload;
+		return true;
+	}
+	
+	@Override
+	public void handle(FunctionblockPlan functionblock, Object[] statusValues, Object[] configurationValues) {
+		try {
+			generator.writeObjectFieldStart(functionblock.getName());
+			generator.writeObjectFieldStart("properties");
+			writeProperties("status", functionblock.getStatusProperties(), statusValues);
+			writeProperties("configuration", functionblock.getConfigurationProperties(), configurationValues);
+			generator.writeEndObject();
+			generator.writeEndObject();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private void writeProperties(String fieldName, List<PropertyPlan> properties, Object[] values) throws IOException {
+		generator.writeObjectFieldStart(fieldName);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				generator.writeFieldName(properties.get(i).getName());
+				if (values[i] instanceof BinaryField) {
+					writeBinaryField((BinaryField)values[i]);
+				} else {
+					generator.writeObject(values[i]);
+				}
+			}
+		}
+		generator.writeEndObject();
+	}
+	
+	private void writeBinaryField(BinaryField field) throws IOException {
+		switch (field.getDatatype()) {
+		case FLOAT:
+			generator.writeNumber((float)field.getDouble(payload));
+			break;
+		case DOUBLE:
+			generator.writeNumber(field.getDouble(payload));
+			break;
+		default:
+			generator.writeNumber(field.getLong(payload));
+		}
+	}
+	
+	/**
+	 * Writes to the remaining space of a buffer and fails with a {@link java.nio.BufferOverflowException}
+	 * if the buffer is too small
+	 */
+	static class ByteBufferOutputStream extends OutputStream {
+		
+		private final ByteBuffer buffer;
+		
+		ByteBufferOutputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) {
+			buffer.put((byte) b);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			buffer.put(bytes, offset, length);
+		}
+	}
+}
@@ -14,10 +14,17 @@
  */
 package org.eclipse.vorto.service.mapping.internal.ditto;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
 import org.eclipse.vorto.service.mapping.AbstractDataMapper;
+import org.eclipse.vorto.service.mapping.DataInput;
 import org.eclipse.vorto.service.mapping.MappingContext;
 import org.eclipse.vorto.service.mapping.ditto.DittoData;
 import org.eclipse.vorto.service.mapping.ditto.Feature;
+import org.eclipse.vorto.service.mapping.ditto.IDittoJsonMapper;
 import org.eclipse.vorto.service.mapping.normalized.FunctionblockData;
 import org.eclipse.vorto.service.mapping.normalized.InfomodelData;
 import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
@@ -27,11 +34,35 @@ import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
  * Maps data input to Eclipse Ditto / Vorto compliant data format
  *
  */
-public class DittoMapper extends AbstractDataMapper<DittoData> {
+public class DittoMapper extends AbstractDataMapper<DittoData> implements IDittoJsonMapper {
 
 	public DittoMapper(IMappingSpecification mappingSpecification) {
 		super(mappingSpecification);
 	}
+	
+	public DittoMapper(IMappingSpecification mappingSpecification, int conditionCacheSize) {
+		super(mappingSpecification, conditionCacheSize);
+	}
+
+	@Override
+	public void writeJson(DataInput input, MappingContext mappingContext, OutputStream out) throws IOException {
+		DittoJsonWriter writer = DittoJsonWriter.start(out);
+		try {
+			execute(input, mappingContext, writer);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.end();
+	}
+	
+	@Override
+	public void writeJson(DataInput input, MappingContext mappingContext, ByteBuffer target) {
+		try {
+			writeJson(input, mappingContext, new DittoJsonWriter.ByteBufferOutputStream(target));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 
 	@Override
 	protected DittoData doMap(InfomodelData input, MappingContext mappingContext) {
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.plan;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.eclipse.vorto.service.mapping.spec.MappingSpecificationProblem;
+
+/**
+ * Fixed-layout field of a binary payload, declared by the <code>offset</code>, <code>datatype</code>, 
+ * optional <code>length</code> and <code>endian</code> attributes of the source stereotype. 
+ * Values are decoded directly from a {@link ByteBuffer} using absolute reads, without changing the 
+ * buffer's position or byte order and without intermediate arrays.
+ *
+ */
+public final class BinaryField {
+
+	public static final String ATTRIBUTE_OFFSET = "offset";
+	public static final String ATTRIBUTE_LENGTH = "length";
+	public static final String ATTRIBUTE_DATATYPE = "datatype";
+	public static final String ATTRIBUTE_ENDIAN = "endian";
+	
+	private static final String LITTLE_ENDIAN = "little";
+	private static final String BIG_ENDIAN = "big";
+	
+	public enum Datatype {
+		INT8(1, true), UINT8(1, false), INT16(2, true), UINT16(2, false), INT32(4, true), UINT32(4, false), 
+		INT64(8, true), FLOAT(4, true), DOUBLE(8, true);
+		
+		private final int size;
+		private final boolean signed;
+		
+		private Datatype(int size, boolean signed) {
+			this.size = size;
+			this.signed = signed;
+		}
+		
+		static Datatype parse(String name) {
+			switch (name.trim().toLowerCase()) {
+			case "float32":
+				return FLOAT;
+			case "float64":
+				return DOUBLE;
+			default:
+				for (Datatype datatype : values()) {
+					if (datatype.name().equalsIgnoreCase(name.trim())) {
+						return datatype;
+					}
+				}
+				return null;
+			}
+		}
+	}
+	
+	private final int offset;
+	
+	private final int length;
+	
+	private final Datatype datatype;
+	
+	private final boolean littleEndian;
+	
+	BinaryField(int offset, int length, Datatype datatype, boolean littleEndian) {
+		this.offset = offset;
+		this.length = length;
+		this.datatype = datatype;
+		this.littleEndian = littleEndian;
+	}
+	
+	/**
+	 * @return true if the attributes declare an offset and a numeric datatype
+	 */
+	static boolean isBinaryField(Map<String, String> attributes) {
+		return attributes.containsKey(ATTRIBUTE_OFFSET) && attributes.containsKey(ATTRIBUTE_DATATYPE)
+				&& Datatype.parse(attributes.get(ATTRIBUTE_DATATYPE)) != null;
+	}
+	
+	static BinaryField create(String propertyName, Map<String, String> attributes) {
+		try {
+			Datatype datatype = Datatype.parse(attributes.get(ATTRIBUTE_DATATYPE));
+			int offset = Integer.parseInt(attributes.get(ATTRIBUTE_OFFSET).trim());
+			int length = attributes.containsKey(ATTRIBUTE_LENGTH) ? Integer.parseInt(attributes.get(ATTRIBUTE_LENGTH).trim()) : datatype.size;
+			
+			String endian = attributes.getOrDefault(ATTRIBUTE_ENDIAN, BIG_ENDIAN).trim().toLowerCase();
+			if (!LITTLE_ENDIAN.equals(endian) && !BIG_ENDIAN.equals(endian)) {
+				throw new IllegalArgumentException("Unknown endianness " + endian);
+			}
+			if (offset < 0 || length < 1 || length > 8 || 
+					((datatype == Datatype.FLOAT || datatype == Datatype.DOUBLE) && length != datatype.size)) {
+				throw new IllegalArgumentException("Invalid offset or length");
+			}
+			return new BinaryField(offset, length, datatype, LITTLE_ENDIAN.equals(endian));
+		} catch (IllegalArgumentException ex) {
+			throw new MappingSpecificationProblem("Invalid binary field declaration for property " + propertyName, ex);
+		}
+	}
+	
+	/**
+	 * @return true if the buffer contains enough bytes to decode the field
+	 */
+	public boolean isAvailable(ByteBuffer buffer) {
+		return buffer.limit() - offset >= length;
+	}
+	
+	/**
+	 * Reads the raw bits of the field, sign-extended for signed integer types
+	 */
+	public long getLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int i = 0; i < length; i++) {
+			final int index = littleEndian ? offset + length - 1 - i : offset + i;
+			value = (value << 8) | (buffer.get(index) & 0xFF);
+		}
+		if (datatype.signed && datatype != Datatype.FLOAT && datatype != Datatype.DOUBLE && length < 8) {
+			final int shift = 64 - length * 8;
+			value = (value << shift) >> shift;
+		}
+		return value;
+	}
+	
+	public double getDouble(ByteBuffer buffer) {
+		switch (datatype) {
+		case FLOAT:
+			return Float.intBitsToFloat((int)getLong(buffer));
+		case DOUBLE:
+			return Double.longBitsToDouble(getLong(buffer));
+		default:
+			return getLong(buffer);
+		}
+	}
+	
+	/**
+	 * Decodes the field into its Java representation: Integer for types up to 32 bit signed, Long for
+	 * uint32 and int64, Float and Double for floating point types 
+	 */
+	public Object decode(ByteBuffer buffer) {
+		switch (datatype) {
+		case FLOAT:
+			return Float.intBitsToFloat((int)getLong(buffer));
+		case DOUBLE:
+			return Double.longBitsToDouble(getLong(buffer));
+		case UINT32:
+		case INT64:
+			return getLong(buffer);
+		default:
+			if (length < 4 || (length == 4 && datatype.signed)) {
+				return (int)getLong(buffer);
+			}
+			return getLong(buffer);
+		}
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	public Datatype getDatatype() {
+		return datatype;
+	}
+
+	public boolean isLittleEndian() {
+		return littleEndian;
+	}
+
+	@Override
+	public String toString() {
+		return "BinaryField [offset=" + offset + ", length=" + length + ", datatype=" + datatype + ", littleEndian="
+				+ littleEndian + "]";
+	}
+	
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.plan;
+
+import java.util.List;
+
+/**
+ * Pre-compiled mapping rules of a function block property of the information model
+ *
+ */
+public final class FunctionblockPlan {
+
+	private final String name;
+	
+	private final List<PropertyPlan> statusProperties;
+	
+	private final List<PropertyPlan> configurationProperties;
+	
+	FunctionblockPlan(String name, List<PropertyPlan> statusProperties, List<PropertyPlan> configurationProperties) {
+		this.name = name;
+		this.statusProperties = statusProperties;
+		this.configurationProperties = configurationProperties;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public List<PropertyPlan> getStatusProperties() {
+		return statusProperties;
+	}
+
+	public List<PropertyPlan> getConfigurationProperties() {
+		return configurationProperties;
+	}
+
+	@Override
+	public String toString() {
+		return "FunctionblockPlan [name=" + name + ", statusProperties=" + statusProperties
+				+ ", configurationProperties=" + configurationProperties + "]";
+	}
+	
+}
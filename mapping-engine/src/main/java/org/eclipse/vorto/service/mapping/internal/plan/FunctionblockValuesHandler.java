@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.plan;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the values of a function block that were mapped by executing a {@link MappingPlan}
+ *
+ */
+@FunctionalInterface
+public interface FunctionblockValuesHandler {
+
+	/**
+	 * @param functionblock plan of the mapped function block
+	 * @param statusValues mapped values in the order of {@link FunctionblockPlan#getStatusProperties()}, 
+	 * <code>null</code> for properties that were not mapped
+	 * @param configurationValues mapped values in the order of {@link FunctionblockPlan#getConfigurationProperties()},
+	 * <code>null</code> for properties that were not mapped
+	 */
+	void handle(FunctionblockPlan functionblock, Object[] statusValues, Object[] configurationValues);
+	
+	/**
+	 * Called once per input before any function block is handled, if the input is a binary payload.
+	 * 
+	 * @return true if the handler reads binary fields from the payload itself. The values of binary fields 
+	 * are then passed as their {@link BinaryField} instead of the decoded, boxed value.
+	 */
+	default boolean readsBinaryFields(ByteBuffer payload) {
+		return false;
+	}
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.commons.jexl2.Expression;
+import org.apache.commons.jexl2.JexlEngine;
+import org.apache.commons.jxpath.CompiledExpression;
+import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.JXPathException;
+import org.apache.commons.text.StrSubstitutor;
+import org.eclipse.vorto.repository.api.content.FunctionblockModel;
+import org.eclipse.vorto.repository.api.content.ModelProperty;
+import org.eclipse.vorto.repository.api.content.Stereotype;
+import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
+import org.eclipse.vorto.service.mapping.spec.MappingSpecificationProblem;
+
+/**
+ * Immutable, pre-compiled representation of a {@link IMappingSpecification}. All stereotype 
+ * interpretation (placeholder substitution, xpath and condition parsing) is done once when the plan is
+ * compiled, so that mappers only need to execute the plan for every incoming message.
+ *
+ */
+public final class MappingPlan {
+
+	private static final String STEREOTYPE = "source";
+	private static final String ATTRIBUTE_XPATH = "xpath";
+	private static final String ATTRIBUTE_CONDITION = "condition";
+	
+	private final List<FunctionblockPlan> functionblocks;
+	
+	private final Set<String> referencedProperties;
+	
+	private final boolean binaryFields;
+	
+	private final boolean requiresSourceObject;
+	
+	private final boolean conditions;
+	
+	private MappingPlan(List<FunctionblockPlan> functionblocks, Set<String> referencedProperties) {
+		this.functionblocks = functionblocks;
+		this.referencedProperties = referencedProperties;
+		this.binaryFields = anyProperty(functionblocks, property -> property.isBinary());
+		this.requiresSourceObject = anyProperty(functionblocks, property -> !property.isBinary() || property.hasCondition());
+		this.conditions = anyProperty(functionblocks, property -> property.hasCondition());
+	}
+	
+	private static boolean anyProperty(List<FunctionblockPlan> functionblocks, Predicate<PropertyPlan> predicate) {
+		return functionblocks.stream().anyMatch(fbPlan -> fbPlan.getStatusProperties().stream().anyMatch(predicate)
+				|| fbPlan.getConfigurationProperties().stream().anyMatch(predicate));
+	}
+	
+	/**
+	 * Compiles the given specification into an executable plan
+	 * @param specification mapping specification to compile
+	 * @param jexl engine that is used to parse the property conditions
+	 * @return compiled plan
+	 * @throws MappingSpecificationProblem if an xpath or condition of the specification cannot be parsed
+	 */
+	public static MappingPlan compile(IMappingSpecification specification, JexlEngine jexl) {
+		List<FunctionblockPlan> fbPlans = new ArrayList<>();
+		
+		for (ModelProperty fbProperty : specification.getInfoModel().getFunctionblocks()) {
+			FunctionblockModel fbModel = specification.getFunctionBlock(fbProperty.getName());
+			fbPlans.add(new FunctionblockPlan(fbProperty.getName(),
+					compileProperties(fbModel.getStatusProperties(), jexl),
+					compileProperties(fbModel.getConfigurationProperties(), jexl)));
+		}
+		
+		return new MappingPlan(Collections.unmodifiableList(fbPlans), collectReferencedProperties(fbPlans));
+	}
+	
+	private static Set<String> collectReferencedProperties(List<FunctionblockPlan> fbPlans) {
+		Set<String> properties = new HashSet<>();
+		for (FunctionblockPlan fbPlan : fbPlans) {
+			List<PropertyPlan> propertyPlans = new ArrayList<>(fbPlan.getStatusProperties());
+			propertyPlans.addAll(fbPlan.getConfigurationProperties());
+			for (PropertyPlan propertyPlan : propertyPlans) {
+				if (!propertyPlan.isBinary() && !ReferencedPropertiesCollector.collectFromXpath(propertyPlan.getXpath(), properties)) {
+					return null;
+				}
+				if (propertyPlan.hasCondition() && !ReferencedPropertiesCollector
+						.collectFromCondition(propertyPlan.getCondition().getExpression(), properties)) {
+					return null;
+				}
+			}
+		}
+		return Collections.unmodifiableSet(properties);
+	}
+	
+	private static List<PropertyPlan> compileProperties(List<ModelProperty> properties, JexlEngine jexl) {
+		List<PropertyPlan> plans = new ArrayList<>(properties.size());
+		for (ModelProperty property : properties) {
+			Optional<PropertyPlan> plan = compileProperty(property, jexl);
+			if (plan.isPresent()) {
+				plans.add(plan.get());
+			}
+		}
+		return Collections.unmodifiableList(plans);
+	}
+	
+	private static Optional<PropertyPlan> compileProperty(ModelProperty property, JexlEngine jexl) {
+		Optional<Stereotype> sourceStereotype = property.getStereotype(STEREOTYPE);
+		if (!sourceStereotype.isPresent()) {
+			return Optional.empty();
+		}
+		
+		final Map<String, String> attributes = sourceStereotype.get().getAttributes();
+		if (hasXpath(attributes)) {
+			final String xpath = replacePlaceHolders(attributes.get(ATTRIBUTE_XPATH), attributes);
+			
+			CompiledExpression compiledXpath;
+			try {
+				compiledXpath = JXPathContext.compile(xpath);
+			} catch (JXPathException ex) {
+				throw new MappingSpecificationProblem("Invalid xpath '" + xpath + "' for property " + property.getName(), ex);
+			}
+			
+			return Optional.of(new PropertyPlan(property.getName(), property.isMandatory(), xpath, compiledXpath,
+					compileCondition(property, attributes, jexl)));
+		} else if (BinaryField.isBinaryField(attributes)) {
+			return Optional.of(new PropertyPlan(property.getName(), property.isMandatory(),
+					BinaryField.create(property.getName(), attributes), compileCondition(property, attributes, jexl)));
+		} else {
+			return Optional.empty();
+		}
+	}
+	
+	private static Expression compileCondition(ModelProperty property, Map<String, String> attributes, JexlEngine jexl) {
+		if (!hasCondition(attributes)) {
+			return null;
+		}
+		try {
+			return jexl.createExpression(normalizeCondition(attributes.get(ATTRIBUTE_CONDITION)));
+		} catch (RuntimeException ex) {
+			throw new MappingSpecificationProblem("Invalid condition for property " + property.getName(), ex);
+		}
+	}
+	
+	public List<FunctionblockPlan> getFunctionblocks() {
+		return functionblocks;
+	}
+	
+	/**
+	 * @return true if at least one property is decoded from a binary field
+	 */
+	public boolean hasBinaryFields() {
+		return binaryFields;
+	}
+	
+	/**
+	 * @return true if at least one property is only mapped if its condition matches
+	 */
+	public boolean hasConditions() {
+		return conditions;
+	}
+	
+	/**
+	 * @return true if at least one property is evaluated against the source object, i.e. via xpath or condition.
+	 * If false, the plan can be executed solely on a binary buffer. 
+	 */
+	public boolean requiresSourceObject() {
+		return requiresSourceObject;
+	}
+	
+	/**
+	 * @return names of the top-level source properties that are read by the plan, or empty if the plan may 
+	 * access any part of the source 
+	 */
+	public Optional<Set<String>> getReferencedProperties() {
+		return Optional.ofNullable(referencedProperties);
+	}
+	
+	private static boolean hasCondition(Map<String, String> attributes) {
+		return attributes.containsKey(ATTRIBUTE_CONDITION) && !attributes.get(ATTRIBUTE_CONDITION).equals("");
+	}
+
+	private static String normalizeCondition(final String expression) {
+		return expression.replaceAll("/", "\\.");
+	}
+
+	private static boolean hasXpath(Map<String, String> stereotypeAttributes) {
+		return stereotypeAttributes.containsKey(ATTRIBUTE_XPATH)
+				&& !stereotypeAttributes.get(ATTRIBUTE_XPATH).equals("");
+	}
+
+	private static String replacePlaceHolders(String expression, Map<String, String> mappedAttributes) {
+		StrSubstitutor sub = new StrSubstitutor(mappedAttributes);
+		return sub.replace(expression);
+	}
+
+	@Override
+	public String toString() {
+		return "MappingPlan [functionblocks=" + functionblocks + "]";
+	}
+	
+}
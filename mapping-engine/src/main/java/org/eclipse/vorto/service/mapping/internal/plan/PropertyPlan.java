@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.plan;
+
+import org.apache.commons.jexl2.Expression;
+import org.apache.commons.jxpath.CompiledExpression;
+
+/**
+ * Pre-compiled mapping rule of a single function block property. Holds either the resolved xpath 
+ * or the binary field declared by the property's <code>source</code> stereotype, as well as the 
+ * parsed condition. 
+ *
+ */
+public final class PropertyPlan {
+
+	private final String name;
+	
+	private final boolean mandatory;
+	
+	private final String xpath;
+	
+	private final CompiledExpression compiledXpath;
+	
+	private final BinaryField binaryField;
+	
+	private final Expression condition;
+	
+	PropertyPlan(String name, boolean mandatory, String xpath, CompiledExpression compiledXpath, Expression condition) {
+		this(name, mandatory, xpath, compiledXpath, null, condition);
+	}
+	
+	PropertyPlan(String name, boolean mandatory, BinaryField binaryField, Expression condition) {
+		this(name, mandatory, null, null, binaryField, condition);
+	}
+	
+	private PropertyPlan(String name, boolean mandatory, String xpath, CompiledExpression compiledXpath,
+			BinaryField binaryField, Expression condition) {
+		this.name = name;
+		this.mandatory = mandatory;
+		this.xpath = xpath;
+		this.compiledXpath = compiledXpath;
+		this.binaryField = binaryField;
+		this.condition = condition;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean isMandatory() {
+		return mandatory;
+	}
+
+	/**
+	 * @return xpath expression with all stereotype placeholders already substituted or <code>null</code> 
+	 * if the property is mapped from a binary field
+	 */
+	public String getXpath() {
+		return xpath;
+	}
+
+	public CompiledExpression getCompiledXpath() {
+		return compiledXpath;
+	}
+
+	/**
+	 * @return binary field or <code>null</code> if the property is mapped via xpath
+	 */
+	public BinaryField getBinaryField() {
+		return binaryField;
+	}
+	
+	public boolean isBinary() {
+		return binaryField != null;
+	}
+
+	/**
+	 * @return parsed condition or <code>null</code> if the property is mapped unconditionally 
+	 */
+	public Expression getCondition() {
+		return condition;
+	}
+	
+	public boolean hasCondition() {
+		return condition != null;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyPlan [name=" + name + ", mandatory=" + mandatory + ", xpath=" + xpath + ", binaryField=" + binaryField + ", condition="
+				+ (condition != null ? condition.getExpression() : null) + "]";
+	}
+	
+}
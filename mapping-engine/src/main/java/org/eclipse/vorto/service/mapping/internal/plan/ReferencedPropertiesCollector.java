@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.internal.plan;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.jxpath.ri.Compiler;
+import org.apache.commons.jxpath.ri.Parser;
+import org.apache.commons.jxpath.ri.compiler.CoreFunction;
+import org.apache.commons.jxpath.ri.compiler.Expression;
+import org.apache.commons.jxpath.ri.compiler.ExpressionPath;
+import org.apache.commons.jxpath.ri.compiler.LocationPath;
+import org.apache.commons.jxpath.ri.compiler.NodeNameTest;
+import org.apache.commons.jxpath.ri.compiler.Operation;
+import org.apache.commons.jxpath.ri.compiler.Step;
+import org.apache.commons.jxpath.ri.compiler.TreeCompiler;
+
+/**
+ * Determines the top-level properties of the source data that are read by xpath expressions and
+ * conditions. Every method returns <code>false</code> if the referenced properties cannot be determined, 
+ * e.g. because the expression navigates from the root with wildcards, descendant axes or passes the 
+ * whole source object to a function.
+ *
+ */
+final class ReferencedPropertiesCollector {
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*'|\"[^\"]*\"");
+	
+	private static final Pattern IDENTIFIER = Pattern.compile("(?<![\\w.:$])([A-Za-z_$][\\w$]*)(?![\\w$]*:[A-Za-z_$][\\w$]*\\s*\\()");
+	
+	private static final String THIS = "this";
+	
+	private ReferencedPropertiesCollector() {
+	}
+	
+	static boolean collectFromXpath(String xpath, Set<String> properties) {
+		Object expression = Parser.parseExpression(xpath, new TreeCompiler());
+		return expression instanceof Expression && collect((Expression)expression, true, properties);
+	}
+	
+	/**
+	 * Collects all identifiers of a JEXL condition. May include more names than actually needed, 
+	 * which is safe as it only causes additional properties to be read. 
+	 */
+	static boolean collectFromCondition(String condition, Set<String> properties) {
+		Matcher matcher = IDENTIFIER.matcher(STRING_LITERAL.matcher(condition).replaceAll("''"));
+		while (matcher.find()) {
+			if (THIS.equals(matcher.group(1))) {
+				return false;
+			}
+			properties.add(matcher.group(1));
+		}
+		return true;
+	}
+	
+	private static boolean collect(Expression expression, boolean relativeToRoot, Set<String> properties) {
+		if (expression instanceof LocationPath) {
+			LocationPath path = (LocationPath)expression;
+			if (!path.isAbsolute() && !relativeToRoot) {
+				return collectFromPredicates(path.getSteps(), properties);
+			}
+			return collectFromSteps(path.getSteps(), properties);
+		} else if (expression instanceof ExpressionPath) {
+			ExpressionPath path = (ExpressionPath)expression;
+			return collect(path.getExpression(), relativeToRoot, properties) 
+					&& collectFromPredicates(path.getPredicates(), properties)
+					&& collectFromPredicates(path.getSteps(), properties);
+		} else if (expression instanceof CoreFunction && ((CoreFunction)expression).getArgumentCount() == 0) {
+			return !relativeToRoot || !expression.isContextDependent();
+		} else if (expression instanceof Operation) {
+			Expression[] arguments = ((Operation)expression).getArguments();
+			if (arguments != null) {
+				for (Expression argument : arguments) {
+					if (!collect(argument, relativeToRoot, properties)) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+	
+	private static boolean collectFromSteps(Step[] steps, Set<String> properties) {
+		if (steps == null || steps.length == 0) {
+			return false;
+		}
+		
+		Step first = steps[0];
+		if ((first.getAxis() != Compiler.AXIS_CHILD && first.getAxis() != Compiler.AXIS_ATTRIBUTE)
+				|| !(first.getNodeTest() instanceof NodeNameTest) || ((NodeNameTest)first.getNodeTest()).isWildcard()) {
+			return false;
+		}
+		properties.add(((NodeNameTest)first.getNodeTest()).getNodeName().getName());
+		
+		return collectFromPredicates(steps, properties);
+	}
+	
+	private static boolean collectFromPredicates(Step[] steps, Set<String> properties) {
+		if (steps != null) {
+			for (Step step : steps) {
+				if (!collectFromPredicates(step.getPredicates(), properties)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	private static boolean collectFromPredicates(Expression[] predicates, Set<String> properties) {
+		if (predicates != null) {
+			for (Expression predicate : predicates) {
+				if (!collect(predicate, false, properties)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
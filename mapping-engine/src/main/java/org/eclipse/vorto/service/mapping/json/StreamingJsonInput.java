@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.service.mapping.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.vorto.service.mapping.DataInput;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON data input that is parsed in a streaming fashion. Mappers only read the top-level properties 
+ * that their mapping specification refers to, all other properties are skipped without building 
+ * their object graph.
+ *
+ */
+public class StreamingJsonInput implements DataInput {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	private byte[] json;
+	
+	public StreamingJsonInput(byte[] json) {
+		this.json = json;
+	}
+	
+	public StreamingJsonInput(String json) {
+		this(json.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Parses the complete JSON document
+	 */
+	@Override
+	public Object getValue() {
+		try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+			return MAPPER.readValue(parser, Object.class);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Provided json not valid");
+		}
+	}
+	
+	/**
+	 * Parses only the given top-level properties of a JSON object in a single pass. Parsing stops as soon as all
+	 * properties have been read. If the document is not a JSON object, it is parsed completely.
+	 * @param properties names of the top-level properties to read
+	 * @return map holding the values of the properties found in the document
+	 */
+	public Object getValue(Set<String> properties) {
+		try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return MAPPER.readValue(parser, Object.class);
+			}
+			
+			Map<String, Object> values = new LinkedHashMap<>();
+			while (values.size() < properties.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String name = parser.getCurrentName();
+				parser.nextToken();
+				if (properties.contains(name)) {
+					values.put(name, MAPPER.readValue(parser, Object.class));
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return values;
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Provided json not valid");
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package org.eclipse.vorto.service.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.eclipse.vorto.service.mapping.ditto.DittoData;
+import org.eclipse.vorto.service.mapping.json.JsonData;
+import org.eclipse.vorto.service.mapping.normalized.Command;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCustomFunction;
+import org.eclipse.vorto.service.mapping.spec.SpecWithOperationRule;
+import org.junit.Test;
+
+public class BatchMappingTest {
+
+	@Test
+	public void testMapAllInParallel() throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCustomFunction())
+					.withExecutor(pool).buildDittoMapper();
+			
+			List<DataInput> inputs = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				inputs.add(DataInput.newInstance().fromJson("{\"clickType\" : \"" + (i % 2 == 0 ? "SINGLE" : "DOUBLE")
+						+ "\", \"batteryVoltage\": \"" + i + "mV\"}"));
+			}
+			
+			List<MappingResult<DittoData>> results = mapper.mapAll(inputs, MappingContext.empty());
+			assertEquals(100, results.size());
+			for (int i = 0; i < results.size(); i++) {
+				assertTrue(results.get(i).isSuccessful());
+				DittoData data = results.get(i).getValue();
+				assertEquals(i % 2 == 0 ? 1 : 2, data.getFeatures().get("button").getStatusProperties().get("digital_input_count"));
+				assertEquals((float)i, data.getFeatures().get("voltage").getStatusProperties().get("sensor_value"));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	@Test
+	public void testMapAllReportsFailuresPerElement() throws Exception {
+		IDataMapper<JsonData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationRule())
+				.buildCommandMapper();
+		
+		List<DataInput> inputs = Arrays.asList(
+				DataInput.newInstance().fromObject(Command.forFunctionBlockProperty("button").name("press").build()),
+				DataInput.newInstance().fromObject("not a command"),
+				DataInput.newInstance().fromObject(Command.forFunctionBlockProperty("button").name("press").build()));
+		
+		List<MappingResult<JsonData>> results = mapper.mapAll(inputs, MappingContext.empty());
+		assertEquals(3, results.size());
+		assertTrue(results.get(0).isSuccessful());
+		assertFalse(results.get(1).isSuccessful());
+		assertTrue(results.get(1).getError() instanceof ClassCastException);
+		assertTrue(results.get(2).isSuccessful());
+		assertEquals(results.get(0).getValue().toJson(), results.get(2).getValue().toJson());
+	}
+	
+	@Test
+	public void testMapAllStream() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCustomFunction())
+				.buildDittoMapper();
+		
+		List<MappingResult<DittoData>> results = mapper.mapAll(Arrays.asList(
+				"{\"clickType\" : \"SINGLE\", \"batteryVoltage\": \"2322mV\"}",
+				"{\"clickType\" : \"DOUBLE\", \"batteryVoltage\": \"2322mV\"}").parallelStream()
+				.map(json -> DataInput.newInstance().fromJson(json)), MappingContext.empty())
+				.collect(Collectors.toList());
+		
+		assertEquals(2, results.size());
+		assertEquals(1, results.get(0).getValue().getFeatures().get("button").getStatusProperties().get("digital_input_count"));
+		assertEquals(2, results.get(1).getValue().getFeatures().get("button").getStatusProperties().get("digital_input_count"));
+	}
+}
@@ -1,17 +1,22 @@
 package org.eclipse.vorto.service.mapping;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.Conversion;
+import org.eclipse.vorto.service.mapping.binary.BinaryData;
 import org.eclipse.vorto.service.mapping.ble.json.GattCharacteristic;
 import org.eclipse.vorto.service.mapping.ble.json.GattDevice;
 import org.eclipse.vorto.service.mapping.ble.json.GattService;
 import org.eclipse.vorto.service.mapping.ditto.DittoData;
 import org.eclipse.vorto.service.mapping.ditto.Feature;
 import org.eclipse.vorto.service.mapping.spec.SpecGattConverter;
+import org.eclipse.vorto.service.mapping.spec.SpecWithBinaryFields;
 import org.eclipse.vorto.service.mapping.spec.SpecWithByteArrayConverter;
 import org.junit.Test;
 
@@ -71,4 +76,54 @@ public class BinaryMappingTest {
 		System.out.println(mappedDittoOutput.toJson());
 	}
 	
+	@Test
+	public void testMappingWithBinaryFields() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithBinaryFields())
+				.buildDittoMapper();
+		
+		ByteBuffer payload = ByteBuffer.allocate(16);
+		payload.put((byte)0xAA);
+		payload.order(ByteOrder.LITTLE_ENDIAN).putShort((short)-250);
+		payload.order(ByteOrder.BIG_ENDIAN).putFloat(36.5f);
+		payload.put((byte)200);
+		payload.order(ByteOrder.LITTLE_ENDIAN).put((byte)0x01).put((byte)0x02).put((byte)0x03);
+		payload.put((byte)1);
+		payload.flip();
+		payload.position(1);
+		
+		DittoData mappedDittoOutput = mapper.map(DataInput.newInstance().fromBinary(payload), MappingContext.empty());
+		Feature feature = mappedDittoOutput.getFeatures().get("temperature");
+		
+		assertEquals(-250, feature.getStatusProperties().get("sensor_value"));
+		assertEquals(36.5f, feature.getStatusProperties().get("max_value"));
+		assertEquals(200, feature.getStatusProperties().get("battery"));
+		assertEquals(0x030201L, feature.getStatusProperties().get("counter"));
+		assertEquals(1, payload.position());
+		
+		System.out.println(mappedDittoOutput.toJson());
+	}
+	
+	@Test
+	public void testMappingWithBinaryFieldsFromBinaryData() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithBinaryFields())
+				.buildDittoMapper();
+		
+		byte[] data = new byte[] {0x10, 0x00, 0x00, 0x00, 0x00, 0x00, 0x05};
+		DittoData mappedDittoOutput = mapper.map(DataInput.newInstance().fromObject(new BinaryData(data)), MappingContext.empty());
+		Feature feature = mappedDittoOutput.getFeatures().get("temperature");
+		
+		assertEquals(16, feature.getStatusProperties().get("sensor_value"));
+		assertEquals(5, feature.getStatusProperties().get("battery"));
+		assertNull(feature.getStatusProperties().get("counter"));
+	}
+	
+	@Test
+	public void testMappingWithTooShortBinaryPayload() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithBinaryFields())
+				.buildDittoMapper();
+		
+		DittoData mappedDittoOutput = mapper.map(DataInput.newInstance().fromBinary(new byte[] {0x01}), MappingContext.empty());
+		assertNull(mappedDittoOutput.getFeatures().get("temperature"));
+	}
+	
 }
@@ -1,5 +1,9 @@
 package org.eclipse.vorto.service.mapping;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 import java.util.HashMap;
 
 import org.eclipse.vorto.service.mapping.json.JsonData;
@@ -7,6 +11,7 @@ import org.eclipse.vorto.service.mapping.normalized.Command;
 import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
 import org.eclipse.vorto.service.mapping.spec.MappingSpecificationBuilder;
 import org.eclipse.vorto.service.mapping.spec.SpecWithOperationMapping;
+import org.eclipse.vorto.service.mapping.spec.SpecWithOperationParamWithoutValue;
 import org.eclipse.vorto.service.mapping.spec.SpecWithOperationRule;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -51,4 +56,45 @@ public class CommandMappingTest {
 		JsonData mappedOutput = mapper.map(DataInputFactory.getInstance().fromObject(cmd), MappingContext.empty());
 		System.out.println(mappedOutput.toJson());
 	}
+	
+	@Test
+	public void testMapSimpleOperationPayload() throws Exception {
+		IDataMapper<JsonData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationRule()).buildCommandMapper();
+
+		Command cmd = Command.forFunctionBlockProperty("button").name("press").build();
+		
+		assertEquals("{\"data\":{\"key\":\"Pressed\"}}", mapper.map(DataInputFactory.getInstance().fromObject(cmd), MappingContext.empty()).toJson());
+	}
+	
+	@Test
+	public void testMapOperationParamPayload() throws Exception {
+		IDataMapper<JsonData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationMapping()).buildCommandMapper();
+
+		HashMap<String, Object> obj = new HashMap<>();
+		obj.put("count", 4);
+		Command cmd = Command.forFunctionBlockProperty("button").name("press").param("obj",obj).build();
+		assertEquals("{\"data\":{\"count\":\"4\"}}", mapper.map(DataInputFactory.getInstance().fromObject(cmd), MappingContext.empty()).toJson());
+		
+		obj.put("count", 7);
+		assertEquals("{\"data\":{\"count\":\"7\"}}", mapper.map(DataInputFactory.getInstance().fromObject(cmd), MappingContext.empty()).toJson());
+	}
+	
+	@Test (expected = MappingException.class)
+	public void testMapUnknownOperation() throws Exception {
+		IDataMapper<JsonData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationRule()).buildCommandMapper();
+
+		Command cmd = Command.forFunctionBlockProperty("button").name("release").build();
+		mapper.map(DataInputFactory.getInstance().fromObject(cmd), MappingContext.empty());
+	}
+	
+	@Test
+	public void testParamTargetWithoutValue() throws Exception {
+		try {
+			IDataMapper<JsonData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithOperationParamWithoutValue()).buildCommandMapper();
+			mapper.map(DataInputFactory.getInstance().fromObject(Command.forFunctionBlockProperty("button").name("press").build()), MappingContext.empty());
+			fail("Expected a mapping exception");
+		} catch (MappingException ex) {
+			assertTrue(ex.getMessage().contains("count"));
+		}
+	}
 }
@@ -0,0 +1,96 @@
+package org.eclipse.vorto.service.mapping;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.vorto.service.mapping.ditto.IDittoJsonMapper;
+import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
+import org.eclipse.vorto.service.mapping.spec.SpecWithBinaryFields;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCondition;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConfigMapping;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCustomFunction;
+import org.eclipse.vorto.service.mapping.spec.SpecWithTypeConversion;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DittoJsonWriterTest {
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+	
+	@Test
+	public void testWriteStatusAndConfiguration() throws Exception {
+		assertSameJson(new SpecWithConfigMapping(), "{\"clickType\" : \"DOUBLE\", \"batteryVoltage\": \"2322mV\"}");
+	}
+	
+	@Test
+	public void testWriteWithCustomFunction() throws Exception {
+		assertSameJson(new SpecWithCustomFunction(), "{\"clickType\" : \"DOUBLE\", \"batteryVoltage\": \"2322mV\"}");
+	}
+	
+	@Test
+	public void testWriteWithCondition() throws Exception {
+		assertSameJson(new SpecWithCondition(), "{\"count\" : 2 }");
+		assertSameJson(new SpecWithCondition(), "{\"count\" : 0 }");
+	}
+	
+	@Test
+	public void testWriteWithMissingMandatoryProperty() throws Exception {
+		assertSameJson(new SpecWithTypeConversion(), "{\"other\" : 1}");
+	}
+	
+	@Test
+	public void testWriteBinaryFields() throws Exception {
+		IDittoJsonMapper mapper = IDataMapper.newBuilder().withSpecification(new SpecWithBinaryFields()).buildDittoJsonMapper();
+		
+		ByteBuffer payload = ByteBuffer.allocate(15);
+		payload.order(ByteOrder.LITTLE_ENDIAN).putShort((short)-250);
+		payload.order(ByteOrder.BIG_ENDIAN).putFloat(36.5f);
+		payload.put((byte)200);
+		payload.order(ByteOrder.LITTLE_ENDIAN).put((byte)0x01).put((byte)0x02).put((byte)0x03);
+		payload.flip();
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		mapper.writeJson(DataInput.newInstance().fromBinary(payload), MappingContext.empty(), out);
+		
+		String expected = mapper.map(DataInput.newInstance().fromBinary(payload), MappingContext.empty()).toJson();
+		assertEquals(JSON.readTree(expected), JSON.readTree(out.toByteArray()));
+	}
+	
+	@Test
+	public void testWriteToByteBuffer() throws Exception {
+		IDittoJsonMapper mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCondition()).buildDittoJsonMapper();
+		String json = "{\"count\" : 2 }";
+		
+		ByteBuffer buffer = ByteBuffer.allocate(1024);
+		buffer.put((byte)'#');
+		mapper.writeJson(DataInput.newInstance().fromJson(json), MappingContext.empty(), buffer);
+		buffer.flip();
+		buffer.get();
+		
+		String written = StandardCharsets.UTF_8.decode(buffer).toString();
+		assertEquals(JSON.readTree(mapper.map(DataInput.newInstance().fromJson(json), MappingContext.empty()).toJson()), 
+				JSON.readTree(written));
+	}
+	
+	@Test (expected = BufferOverflowException.class)
+	public void testWriteToTooSmallByteBuffer() throws Exception {
+		IDittoJsonMapper mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCondition()).buildDittoJsonMapper();
+		mapper.writeJson(DataInput.newInstance().fromJson("{\"count\" : 2 }"), MappingContext.empty(), ByteBuffer.allocate(8));
+	}
+	
+	private void assertSameJson(IMappingSpecification spec, String json) throws Exception {
+		IDittoJsonMapper mapper = IDataMapper.newBuilder().withSpecification(spec).buildDittoJsonMapper();
+		
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		mapper.writeJson(DataInput.newInstance().fromJson(json), MappingContext.empty(), out);
+		
+		String expected = mapper.map(DataInput.newInstance().fromJson(json), MappingContext.empty()).toJson();
+		assertEquals(JSON.readTree(expected), JSON.readTree(out.toByteArray()));
+	}
+}
@@ -0,0 +1,120 @@
+package org.eclipse.vorto.service.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.script.Invocable;
+
+import org.apache.commons.jxpath.Function;
+import org.eclipse.vorto.service.mapping.ditto.DittoData;
+import org.eclipse.vorto.service.mapping.internal.converter.JavascriptFunctions;
+import org.eclipse.vorto.service.mapping.internal.converter.ScriptEnginePool;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCustomFunction;
+import org.junit.Test;
+
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+public class JavascriptFunctionsTest {
+
+	@Test
+	public void testCompiledFunctionIsReused() throws Exception {
+		JavascriptFunctions functions = new JavascriptFunctions("button", 2);
+		functions.addFunction("convert", "function convert(value) { return value * 2; }");
+		
+		Function first = functions.getFunction("button", "convert", new Object[0]);
+		assertSame(first, functions.getFunction("button", "convert", new Object[0]));
+		assertEquals(4.0, ((Number)first.invoke(null, new Object[] {2})).doubleValue(), 0.0);
+		assertNull(functions.getFunction("other", "convert", new Object[0]));
+	}
+	
+	@Test
+	public void testFunctionIsRecompiledAfterChange() throws Exception {
+		JavascriptFunctions functions = new JavascriptFunctions("button", 2);
+		functions.addFunction("convert", "function convert(value) { return value * 2; }");
+		Function first = functions.getFunction("button", "convert", new Object[0]);
+		assertEquals(4.0, ((Number)first.invoke(null, new Object[] {2})).doubleValue(), 0.0);
+		
+		functions.addFunction("convert", "function convert(value) { return value * 3; }");
+		Function second = functions.getFunction("button", "convert", new Object[0]);
+		assertNotSame(first, second);
+		assertEquals(6.0, ((Number)second.invoke(null, new Object[] {2})).doubleValue(), 0.0);
+		
+		functions.invalidate();
+		assertNotSame(second, functions.getFunction("button", "convert", new Object[0]));
+		
+		functions.removeFunction("convert");
+		assertNull(functions.getFunction("button", "convert", new Object[0]));
+	}
+	
+	@Test
+	public void testConcurrentMappingWithCustomFunction() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCustomFunction())
+				.buildDittoMapper();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<DittoData>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				final String clickType = i % 2 == 0 ? "SINGLE" : "DOUBLE";
+				results.add(executor.submit(() -> mapper.map(DataInput.newInstance().fromJson(
+						"{\"clickType\" : \"" + clickType + "\", \"batteryVoltage\": \"2322mV\"}"),
+						MappingContext.empty())));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals(i % 2 == 0 ? 1 : 2, results.get(i).get().getFeatures().get("button")
+						.getStatusProperties().get("digital_input_count"));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testGlobalsDoNotLeakBetweenInvocations() throws Exception {
+		ScriptEnginePool pool = new ScriptEnginePool(
+				"var calls = 0; function convert(value) { calls = calls + 1; total = (typeof total === 'undefined' ? 0 : total) + value; "
+				+ "var result = [calls, total]; convert = function(other) { return [-1, -1]; }; return result; }", 1);
+		
+		for (int i = 0; i < 2; i++) {
+			ScriptEnginePool.PooledEngine engine = pool.borrow();
+			try {
+				ScriptObjectMirror result = (ScriptObjectMirror) ((Invocable) engine.getEngine()).invokeFunction("convert", 5);
+				assertEquals(1, ((Number) result.getSlot(0)).intValue());
+				assertEquals(5, ((Number) result.getSlot(1)).intValue());
+			} finally {
+				pool.release(engine);
+			}
+		}
+	}
+	
+	@Test
+	public void testWaitingBorrowerGetsEngineAfterInvalidate() throws Exception {
+		ScriptEnginePool pool = new ScriptEnginePool("function convert(value) { return value; }", 1);
+		ScriptEnginePool.PooledEngine borrowed = pool.borrow();
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<ScriptEnginePool.PooledEngine> waiting = executor.submit(() -> pool.borrow());
+			Thread.sleep(100);
+			
+			pool.invalidate();
+			pool.release(borrowed);
+			
+			ScriptEnginePool.PooledEngine replacement = waiting.get(5, TimeUnit.SECONDS);
+			assertNotNull(replacement);
+			assertNotSame(borrowed, replacement);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
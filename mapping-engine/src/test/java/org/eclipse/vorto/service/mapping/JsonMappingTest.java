@@ -3,12 +3,14 @@ package org.eclipse.vorto.service.mapping;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.codec.binary.Base64;
 import org.eclipse.vorto.repository.api.content.Stereotype;
@@ -174,6 +176,55 @@ public class JsonMappingTest extends AbstractMappingTest {
 		assertNull(mappedDittoOutput.getFeatures().get("button").getStatusProperties().get("sensor_value2"));
 	}
 
+	@Test
+	public void testConditionStatistics() throws Exception {
+		AbstractDataMapper<DittoData> mapper = (AbstractDataMapper<DittoData>) IDataMapper.newBuilder()
+				.withSpecification(new SpecWithCondition()).buildDittoMapper();
+
+		mapper.map(DataInput.newInstance().fromJson("{\"count\" : 2 }"), MappingContext.empty());
+		mapper.map(DataInput.newInstance().fromJson("{\"count\" : 0 }"), MappingContext.empty());
+		
+		ConditionStatistics statistics = mapper.getConditionStatistics();
+		assertEquals(4, statistics.getEvaluationCount());
+		assertEquals(2, statistics.getMatchCount());
+		assertEquals(0, statistics.getTotalTime(TimeUnit.NANOSECONDS));
+	}
+	
+	@Test
+	public void testConditionStatisticsWithTiming() throws Exception {
+		AbstractDataMapper<DittoData> mapper = (AbstractDataMapper<DittoData>) IDataMapper.newBuilder()
+				.withSpecification(new SpecWithCondition()).withConditionTiming().buildDittoMapper();
+
+		mapper.map(DataInput.newInstance().fromJson("{\"count\" : 2 }"), MappingContext.empty());
+		
+		ConditionStatistics statistics = mapper.getConditionStatistics();
+		assertEquals(2, statistics.getEvaluationCount());
+		assertEquals(1, statistics.getMatchCount());
+		assertTrue(statistics.getTotalTime(TimeUnit.NANOSECONDS) > 0);
+	}
+	
+	@Test
+	public void testMapWithConditionCache() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCondition())
+				.withConditionCache(16).buildDittoMapper();
+
+		DittoData mappedDittoOutput = mapper.map(DataInput.newInstance().fromJson("{\"count\" : 2 }"), MappingContext.empty());
+		assertNull(mappedDittoOutput.getFeatures().get("button").getStatusProperties().get("sensor_value"));
+		assertEquals(2, mappedDittoOutput.getFeatures().get("button").getStatusProperties().get("sensor_value2"));
+	}
+	
+	@Test
+	public void testConditionDoesNotModifySource() throws Exception {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithCondition())
+				.buildDittoMapper();
+		
+		Map<String, Object> source = new HashMap<>();
+		source.put("count", 2);
+		mapper.map(DataInput.newInstance().fromObject(source), MappingContext.empty());
+		
+		assertEquals(1, source.size());
+	}
+
 	@Test
 	public void testMapWithCustomFunctionCondition() throws Exception {
 		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(new SpecWithConditionFunction())
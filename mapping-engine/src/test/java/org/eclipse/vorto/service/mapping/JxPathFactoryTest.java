@@ -0,0 +1,62 @@
+package org.eclipse.vorto.service.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.jxpath.JXPathContext;
+import org.eclipse.vorto.service.mapping.internal.JxPathFactory;
+import org.junit.Test;
+
+public class JxPathFactoryTest {
+
+	@Test
+	public void testContextsShareFunctionLibrary() {
+		JxPathFactory factory = new JxPathFactory();
+		
+		JXPathContext first = factory.newContext(Collections.singletonMap("value", "on"));
+		JXPathContext second = factory.newContext(Collections.singletonMap("value", "off"));
+		
+		assertEquals("ON", first.getValue("string:upperCase(/value)"));
+		assertEquals("OFF", second.getValue("string:upperCase(/value)"));
+	}
+	
+	@Test
+	public void testLenientContext() {
+		JxPathFactory factory = new JxPathFactory();
+		factory.setLenient(true);
+		
+		assertNull(factory.newContext(Collections.emptyMap()).getValue("/value"));
+	}
+	
+	@Test
+	public void testConcurrentContexts() throws Exception {
+		final JxPathFactory factory = new JxPathFactory();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				final Map<String, Object> source = Collections.singletonMap("value", "value" + i);
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						return (String) factory.newContext(source).getValue("string:upperCase(/value)");
+					}
+				}));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals("VALUE" + i, results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package org.eclipse.vorto.service.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.apache.commons.jexl2.JexlEngine;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelType;
+import org.eclipse.vorto.repository.api.content.FunctionblockModel;
+import org.eclipse.vorto.repository.api.content.ModelProperty;
+import org.eclipse.vorto.repository.api.content.PrimitiveType;
+import org.eclipse.vorto.repository.api.content.Stereotype;
+import org.eclipse.vorto.service.mapping.internal.plan.FunctionblockPlan;
+import org.eclipse.vorto.service.mapping.internal.plan.MappingPlan;
+import org.eclipse.vorto.service.mapping.internal.plan.PropertyPlan;
+import org.eclipse.vorto.service.mapping.spec.AbstractTestSpec;
+import org.eclipse.vorto.service.mapping.spec.MappingSpecificationProblem;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCondition;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConditionFunction;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConditionXpath;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCustomFunction;
+import org.junit.Test;
+
+public class MappingPlanTest {
+
+	@Test
+	public void testCompileSpecWithCondition() throws Exception {
+		MappingPlan plan = MappingPlan.compile(new SpecWithCondition(), new JexlEngine());
+		
+		assertEquals(1, plan.getFunctionblocks().size());
+		FunctionblockPlan fbPlan = plan.getFunctionblocks().get(0);
+		assertEquals("button", fbPlan.getName());
+		assertEquals(2, fbPlan.getStatusProperties().size());
+		
+		PropertyPlan sensorValue = fbPlan.getStatusProperties().get(0);
+		assertEquals("sensor_value", sensorValue.getName());
+		assertEquals("/count", sensorValue.getXpath());
+		assertTrue(sensorValue.isMandatory());
+		assertTrue(sensorValue.hasCondition());
+		assertNotNull(sensorValue.getCompiledXpath());
+	}
+	
+	@Test
+	public void testCompileResolvesPlaceholders() throws Exception {
+		MappingPlan plan = MappingPlan.compile(new AbstractTestSpec() {
+			
+			@Override
+			protected void createFBSpec() {
+				FunctionblockModel buttonModel = new FunctionblockModel(
+						ModelId.fromPrettyFormat("demo.fb.PushButton:1.0.0"), ModelType.Functionblock);
+				ModelProperty property = new ModelProperty();
+				property.setName("sensor_value");
+				property.setType(PrimitiveType.INT);
+				Map<String, String> attributes = new HashMap<>();
+				attributes.put("offset", "3");
+				attributes.put("xpath", "conversion:byteArrayToInt(data, ${offset}, 0, 0, 1)");
+				property.addStereotype(Stereotype.create("source", attributes));
+				buttonModel.setStatusProperties(Arrays.asList(property));
+				addFunctionblockProperty("button", buttonModel);
+			}
+		}, new JexlEngine());
+		
+		PropertyPlan sensorValue = plan.getFunctionblocks().get(0).getStatusProperties().get(0);
+		assertEquals("conversion:byteArrayToInt(data, 3, 0, 0, 1)", sensorValue.getXpath());
+		assertFalse(sensorValue.hasCondition());
+		assertFalse(sensorValue.isMandatory());
+	}
+	
+	@Test(expected = MappingSpecificationProblem.class)
+	public void testCompileInvalidXpath() throws Exception {
+		MappingPlan.compile(new AbstractTestSpec() {
+			
+			@Override
+			protected void createFBSpec() {
+				FunctionblockModel buttonModel = new FunctionblockModel(
+						ModelId.fromPrettyFormat("demo.fb.PushButton:1.0.0"), ModelType.Functionblock);
+				ModelProperty property = new ModelProperty();
+				property.setName("sensor_value");
+				property.setType(PrimitiveType.INT);
+				property.addStereotype(Stereotype.createWithXpath("/count[["));
+				buttonModel.setStatusProperties(Arrays.asList(property));
+				addFunctionblockProperty("button", buttonModel);
+			}
+		}, new JexlEngine());
+	}
+	
+	@Test
+	public void testReferencedProperties() throws Exception {
+		MappingPlan plan = MappingPlan.compile(new SpecWithCustomFunction(), new JexlEngine());
+		assertEquals(new HashSet<>(Arrays.asList("clickType", "batteryVoltage")), plan.getReferencedProperties().get());
+		
+		plan = MappingPlan.compile(new SpecWithConditionFunction(), new JexlEngine());
+		assertEquals(new HashSet<>(Arrays.asList("data")), plan.getReferencedProperties().get());
+	}
+	
+	@Test
+	public void testReferencedPropertiesUnknownForWholeSourceAccess() throws Exception {
+		assertFalse(MappingPlan.compile(new SpecWithConditionXpath(), new JexlEngine()).getReferencedProperties().isPresent());
+	}
+}
@@ -0,0 +1,68 @@
+package org.eclipse.vorto.service.mapping;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.eclipse.vorto.service.mapping.ditto.DittoData;
+import org.eclipse.vorto.service.mapping.json.StreamingJsonInput;
+import org.eclipse.vorto.service.mapping.spec.IMappingSpecification;
+import org.eclipse.vorto.service.mapping.spec.SpecWithArrayPayload;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCondition;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConditionFunction;
+import org.eclipse.vorto.service.mapping.spec.SpecWithConditionXpath;
+import org.eclipse.vorto.service.mapping.spec.SpecWithCustomFunction;
+import org.junit.Test;
+
+public class StreamingJsonMappingTest {
+
+	@Test
+	public void testReadOnlyRequestedProperties() throws Exception {
+		StreamingJsonInput input = new StreamingJsonInput(
+				"{\"a\" : {\"x\" : [1,2,3]}, \"clickType\" : \"DOUBLE\", \"b\" : [{\"y\":1}], \"count\" : 2, \"c\" : 3}");
+		
+		@SuppressWarnings("unchecked")
+		Map<String, Object> value = (Map<String, Object>)input.getValue(new HashSet<>(Arrays.asList("clickType", "count")));
+		assertEquals(2, value.size());
+		assertEquals("DOUBLE", value.get("clickType"));
+		assertEquals(2, value.get("count"));
+	}
+	
+	@Test
+	public void testStreamingMappingWithCustomFunction() throws Exception {
+		assertSameResult(new SpecWithCustomFunction(), 
+				"{\"ignored\" : {\"nested\" : [1,2,3]}, \"clickType\" : \"DOUBLE\", \"batteryVoltage\": \"2322mV\"}");
+	}
+	
+	@Test
+	public void testStreamingMappingWithCondition() throws Exception {
+		assertSameResult(new SpecWithCondition(), "{\"count\" : 2, \"other\" : \"value\" }");
+		assertSameResult(new SpecWithCondition(), "{\"count\" : 0 }");
+	}
+	
+	@Test
+	public void testStreamingMappingWithFunctionCondition() throws Exception {
+		assertSameResult(new SpecWithConditionFunction(), "{\"data\" : \"aGFsbG8=\", \"other\" : 1}");
+	}
+	
+	@Test
+	public void testStreamingMappingWithXpathCondition() throws Exception {
+		assertSameResult(new SpecWithConditionXpath(), "{\"data\" : [{\"id\": 100,\"value\": \"x\"},{\"id\": 200,\"value\": \"y\"}]}");
+	}
+	
+	@Test
+	public void testStreamingMappingWithArrayPayload() throws Exception {
+		assertSameResult(new SpecWithArrayPayload(), "[{\"clickType\" : \"DOUBLE\" }, {\"clickType\" : \"SINGLE\" }]");
+	}
+	
+	private void assertSameResult(IMappingSpecification spec, String json) {
+		IDataMapper<DittoData> mapper = IDataMapper.newBuilder().withSpecification(spec).buildDittoMapper();
+		
+		DittoData expected = mapper.map(DataInput.newInstance().fromJson(json), MappingContext.empty());
+		DittoData actual = mapper.map(DataInput.newInstance().fromJsonStream(json), MappingContext.empty());
+		
+		assertEquals(expected.toJson(), actual.toJson());
+	}
+}
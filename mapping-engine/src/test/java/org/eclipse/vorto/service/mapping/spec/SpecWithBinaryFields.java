@@ -0,0 +1,52 @@
+package org.eclipse.vorto.service.mapping.spec;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelType;
+import org.eclipse.vorto.repository.api.content.FunctionblockModel;
+import org.eclipse.vorto.repository.api.content.ModelProperty;
+import org.eclipse.vorto.repository.api.content.PrimitiveType;
+import org.eclipse.vorto.repository.api.content.Stereotype;
+
+public class SpecWithBinaryFields extends AbstractTestSpec {
+
+	@Override
+	protected void createFBSpec() {
+		FunctionblockModel temperatureModel = new FunctionblockModel(
+				ModelId.fromPrettyFormat("demo.fb.Temperature:1.0.0"), ModelType.Functionblock);
+		
+		temperatureModel.setStatusProperties(Arrays.asList(
+				createProperty("sensor_value", true, "0", "int16", "little", null),
+				createProperty("max_value", false, "2", "float32", "big", null),
+				createProperty("battery", false, "6", "uint8", null, null),
+				createProperty("counter", false, "7", "uint32", "little", "3")));
+		
+		temperatureModel.setConfigurationProperties(Arrays.asList(
+				createProperty("sensor_enable", false, "10", "uint8", null, null)));
+		
+		addFunctionblockProperty("temperature", temperatureModel);
+	}
+	
+	private ModelProperty createProperty(String name, boolean mandatory, String offset, String datatype, String endian, String length) {
+		ModelProperty property = new ModelProperty();
+		property.setMandatory(mandatory);
+		property.setName(name);
+		property.setType(PrimitiveType.FLOAT);
+		
+		Map<String, String> attributes = new HashMap<>();
+		attributes.put("offset", offset);
+		attributes.put("datatype", datatype);
+		if (endian != null) {
+			attributes.put("endian", endian);
+		}
+		if (length != null) {
+			attributes.put("length", length);
+		}
+		property.addStereotype(Stereotype.create("source", attributes));
+		return property;
+	}
+
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.vorto.codegen.api.InvocationContext;
+import org.eclipse.vorto.core.api.model.datatype.DatatypeFactory;
+import org.eclipse.vorto.core.api.model.datatype.PrimitivePropertyType;
+import org.eclipse.vorto.core.api.model.datatype.PrimitiveType;
+import org.eclipse.vorto.core.api.model.datatype.Property;
+import org.eclipse.vorto.core.api.model.functionblock.Configuration;
+import org.eclipse.vorto.core.api.model.functionblock.FunctionBlock;
+import org.eclipse.vorto.core.api.model.functionblock.FunctionblockFactory;
+import org.eclipse.vorto.core.api.model.functionblock.FunctionblockModel;
+import org.eclipse.vorto.core.api.model.functionblock.Operation;
+import org.eclipse.vorto.core.api.model.functionblock.Status;
+import org.eclipse.vorto.core.api.model.informationmodel.FunctionblockProperty;
+import org.eclipse.vorto.core.api.model.informationmodel.InformationModel;
+import org.eclipse.vorto.core.api.model.informationmodel.InformationModelFactory;
+import org.eclipse.vorto.core.api.model.mapping.Attribute;
+import org.eclipse.vorto.core.api.model.mapping.MappingFactory;
+import org.eclipse.vorto.core.api.model.mapping.MappingModel;
+import org.eclipse.vorto.core.api.model.mapping.MappingRule;
+import org.eclipse.vorto.core.api.model.mapping.OperationSource;
+import org.eclipse.vorto.core.api.model.mapping.Source;
+import org.eclipse.vorto.core.api.model.mapping.StatusSource;
+import org.eclipse.vorto.core.api.model.mapping.StereoTypeTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the mapping lookups of code generators on a synthetic information model with a single large function 
+ * block. Every other status property and operation is mapped. As in the generator gateway, the mapping refers to 
+ * a separately created copy of the function block.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvocationContextBenchmark {
+
+	private static final String STEREOTYPE = "source";
+	
+	@Param({ "100", "1000", "5000" })
+	private int properties;
+	
+	private InformationModel infomodel;
+	
+	private List<MappingModel> mappings;
+	
+	private InvocationContext context;
+	
+	@Setup
+	public void setup() {
+		FunctionblockModel fbModel = createFunctionblockModel(properties);
+		
+		infomodel = InformationModelFactory.eINSTANCE.createInformationModel();
+		infomodel.setNamespace("org.eclipse.vorto.benchmark");
+		infomodel.setName("LargeDevice");
+		infomodel.setVersion("1.0.0");
+		FunctionblockProperty fbProperty = InformationModelFactory.eINSTANCE.createFunctionblockProperty();
+		fbProperty.setName("large");
+		fbProperty.setType(fbModel);
+		infomodel.getProperties().add(fbProperty);
+		
+		mappings = Collections.singletonList(createMapping(EcoreUtil.copy(fbModel)));
+		context = new InvocationContext(mappings, null, Collections.<String, String>emptyMap());
+	}
+	
+	@Benchmark
+	public InvocationContext createContext() {
+		return new InvocationContext(mappings, null, Collections.<String, String>emptyMap());
+	}
+	
+	@Benchmark
+	public void lookupAll(Blackhole blackhole) {
+		for (FunctionblockProperty fbProperty : infomodel.getProperties()) {
+			FunctionBlock fb = fbProperty.getType().getFunctionblock();
+			blackhole.consume(context.getMappedElement(fbProperty.getType(), STEREOTYPE));
+			for (Property property : fb.getStatus().getProperties()) {
+				blackhole.consume(context.getMappedElement(property, STEREOTYPE));
+			}
+			for (Property property : fb.getConfiguration().getProperties()) {
+				blackhole.consume(context.getMappedElement(property, STEREOTYPE));
+			}
+			for (Operation operation : fb.getOperations()) {
+				blackhole.consume(context.getMappedElement(operation, STEREOTYPE));
+			}
+		}
+	}
+	
+	private static FunctionblockModel createFunctionblockModel(int properties) {
+		FunctionblockModel fbModel = FunctionblockFactory.eINSTANCE.createFunctionblockModel();
+		fbModel.setNamespace("org.eclipse.vorto.benchmark");
+		fbModel.setName("Large");
+		fbModel.setVersion("1.0.0");
+		
+		FunctionBlock fb = FunctionblockFactory.eINSTANCE.createFunctionBlock();
+		Status status = FunctionblockFactory.eINSTANCE.createStatus();
+		Configuration configuration = FunctionblockFactory.eINSTANCE.createConfiguration();
+		for (int i = 0; i < properties; i++) {
+			status.getProperties().add(createProperty("status" + i));
+			configuration.getProperties().add(createProperty("config" + i));
+			Operation operation = FunctionblockFactory.eINSTANCE.createOperation();
+			operation.setName("operation" + i);
+			fb.getOperations().add(operation);
+		}
+		fb.setStatus(status);
+		fb.setConfiguration(configuration);
+		fbModel.setFunctionblock(fb);
+		return fbModel;
+	}
+	
+	private static Property createProperty(String name) {
+		PrimitivePropertyType type = DatatypeFactory.eINSTANCE.createPrimitivePropertyType();
+		type.setType(PrimitiveType.STRING);
+		Property property = DatatypeFactory.eINSTANCE.createProperty();
+		property.setName(name);
+		property.setType(type);
+		return property;
+	}
+	
+	private static MappingModel createMapping(FunctionblockModel fbModel) {
+		MappingModel mapping = MappingFactory.eINSTANCE.createFunctionBlockMappingModel();
+		mapping.setNamespace("org.eclipse.vorto.benchmark");
+		mapping.setName("LargeMapping");
+		mapping.setVersion("1.0.0");
+		mapping.setTargetPlatform("benchmark");
+		
+		FunctionBlock fb = fbModel.getFunctionblock();
+		for (int i = 0; i < fb.getStatus().getProperties().size(); i += 2) {
+			StatusSource source = MappingFactory.eINSTANCE.createStatusSource();
+			source.setModel(fbModel);
+			source.setProperty(fb.getStatus().getProperties().get(i));
+			mapping.getRules().add(createRule(source, "status" + i));
+		}
+		for (int i = 0; i < fb.getOperations().size(); i += 2) {
+			OperationSource source = MappingFactory.eINSTANCE.createOperationSource();
+			source.setModel(fbModel);
+			source.setOperation(fb.getOperations().get(i));
+			mapping.getRules().add(createRule(source, "operation" + i));
+		}
+		return mapping;
+	}
+	
+	private static MappingRule createRule(Source source, String path) {
+		StereoTypeTarget target = MappingFactory.eINSTANCE.createStereoTypeTarget();
+		target.setName(STEREOTYPE);
+		Attribute attribute = MappingFactory.eINSTANCE.createAttribute();
+		attribute.setName("path");
+		attribute.setValue(path);
+		target.getAttributes().add(attribute);
+		
+		MappingRule rule = MappingFactory.eINSTANCE.createFunctionBlockMappingRule();
+		rule.getSources().add(source);
+		rule.setTarget(target);
+		return rule;
+	}
+}
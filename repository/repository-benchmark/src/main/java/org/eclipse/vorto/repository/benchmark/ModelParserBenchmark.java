@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.core.ModelResource;
+import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parse throughput of the sample models of the repository tests, per model type
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelParserBenchmark {
+
+	@Param({ "Color.type", "Colorlight.fbmodel", "HueLightStrips.infomodel", "sample.mapping" })
+	private String fileName;
+	
+	private byte[] content;
+	
+	@Setup
+	public void setup() throws IOException {
+		try (InputStream is = ModelParserBenchmark.class.getClassLoader()
+				.getResourceAsStream("sample_models/" + fileName)) {
+			this.content = IOUtils.toByteArray(is);
+		}
+	}
+	
+	@Benchmark
+	public ModelInfo parse() {
+		return ModelParserFactory.getParser(fileName).parse(new ByteArrayInputStream(content));
+	}
+	
+	@Benchmark
+	public byte[] parseAndSerialize() throws IOException {
+		return ((ModelResource) parse()).toDSL();
+	}
+}
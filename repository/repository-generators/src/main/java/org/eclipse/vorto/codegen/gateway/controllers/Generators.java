@@ -14,7 +14,8 @@
  */
 package org.eclipse.vorto.codegen.gateway.controllers;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,18 +23,17 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.vorto.codegen.api.GeneratorServiceInfo;
-import org.eclipse.vorto.codegen.api.IGenerationResult;
+import org.eclipse.vorto.codegen.api.IGenerationTarget;
 import org.eclipse.vorto.codegen.gateway.config.EnvironmentConfig;
 import org.eclipse.vorto.codegen.gateway.model.Generator;
 import org.eclipse.vorto.codegen.gateway.repository.GeneratorRepository;
 import org.eclipse.vorto.codegen.gateway.service.VortoService;
 import org.eclipse.vorto.codegen.gateway.utils.GatewayUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -67,20 +67,34 @@ public class Generators {
 	}
 	
 	@RequestMapping(value = "/generators/{key}/generate/{namespace}/{name}/{version:.+}", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-	public ResponseEntity<InputStreamResource> generate(final @PathVariable String key, @PathVariable String namespace,
-			@PathVariable String name, @PathVariable String version, final HttpServletRequest request) {
-		return responseFromResult(vorto.generate(key, namespace, name, version, GatewayUtils.mapFromRequest(request), getAuthorization(request)));
+	public void generate(final @PathVariable String key, @PathVariable String namespace,
+			@PathVariable String name, @PathVariable String version, final HttpServletRequest request, 
+			final HttpServletResponse response) throws IOException {
+		vorto.generate(key, namespace, name, version, GatewayUtils.mapFromRequest(request), getAuthorization(request), responseTarget(response));
 	}
 	
 	private Optional<String> getAuthorization(HttpServletRequest request) {
 		return Optional.ofNullable(request.getHeader(AUTHORIZATION));
 	}
 	
-	private ResponseEntity<InputStreamResource> responseFromResult(IGenerationResult result) {
-		return ResponseEntity.ok().contentLength(result.getContent().length)
-				.header("content-disposition", "attachment; filename = " + result.getFileName())
-				.contentType(MediaType.parseMediaType(result.getMediatype()))
-				.body(new InputStreamResource(new ByteArrayInputStream(result.getContent())));
+	private IGenerationTarget responseTarget(HttpServletResponse response) {
+		return new IGenerationTarget() {
+			@Override
+			public OutputStream open(String fileName, String mediatype) throws IOException {
+				response.setHeader("content-disposition", "attachment; filename = " + fileName);
+				response.setContentType(mediatype);
+				return response.getOutputStream();
+			}
+			
+			@Override
+			public boolean reset() {
+				if (response.isCommitted()) {
+					return false;
+				}
+				response.resetBuffer();
+				return true;
+			}
+		};
 	}
 	
 	@RequestMapping(value = "/reset", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -14,9 +14,23 @@
  */
 package org.eclipse.vorto.codegen.gateway.model;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.vorto.codegen.api.GeneratorServiceInfo;
 import org.eclipse.vorto.codegen.api.IVortoCodeGenerator;
@@ -29,6 +43,9 @@ public class Generator {
 	private GeneratorServiceInfo info;
 	private IVortoCodeGenerator instance;
 	private IGeneratorConfigUITemplate configUi = null;
+	private String version;
+	
+	private static final ConcurrentMap<String, String> BUILD_DIGESTS = new ConcurrentHashMap<>();
 	
 	private static final IGeneratorConfigUITemplate EMPTY_TEMPLATE = new IGeneratorConfigUITemplate() {
 		
@@ -54,6 +71,7 @@ public class Generator {
 			generator.info.setCreator(instance.getInfo().getOrganisation());
 			generator.info.setName(instance.getInfo().getName());
 			generator.info.setTags(instance.getInfo().getTags().toArray(new String[instance.getInfo().getTags().size()]));
+			generator.version = resolveVersion(generatorClass);
 			return generator;
 		} catch (Exception e) {
 			throw new GeneratorCreationException("Error in instantiating Generator", e);
@@ -68,6 +86,67 @@ public class Generator {
 		}
 	}
 
+	/**
+	 * Resolves the version of the generator from the content of its build, i.e. the digest of its jar or of its 
+	 * class files. Generators packaged within another archive, e.g. the executable jar of the service, are 
+	 * identified by the digest of that archive. Manifest versions are not used, because rebuilt snapshots carry 
+	 * the same version.
+	 */
+	private static String resolveVersion(Class<? extends IVortoCodeGenerator> generatorClass) {
+		try {
+			URL location = generatorClass.getProtectionDomain().getCodeSource().getLocation();
+			if ("jar".equals(location.getProtocol())) {
+				String path = location.getPath();
+				location = new URL(path.substring(0, path.indexOf("!/")));
+			}
+			final URL buildLocation = location;
+			return BUILD_DIGESTS.computeIfAbsent(buildLocation.toString(), key -> digestBuild(buildLocation));
+		} catch (Exception e) {
+			String implementationVersion = generatorClass.getPackage() != null
+					? generatorClass.getPackage().getImplementationVersion() : null;
+			return "unversioned-" + (implementationVersion != null ? implementationVersion : generatorClass.getName());
+		}
+	}
+	
+	private static String digestBuild(URL location) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			Path path = Paths.get(location.toURI());
+			if (Files.isDirectory(path)) {
+				digestDirectory(digest, path);
+			} else {
+				try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+					byte[] buffer = new byte[8192];
+					while (in.read(buffer) != -1) {
+						// digested while reading
+					}
+				}
+			}
+			return toHex(digest.digest());
+		} catch (Exception e) {
+			throw new IllegalStateException("Could not digest generator build " + location, e);
+		}
+	}
+	
+	private static void digestDirectory(MessageDigest digest, Path directory) throws IOException {
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(directory)) {
+			files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+		for (Path file : files) {
+			digest.update(directory.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+			digest.update(Files.readAllBytes(file));
+		}
+	}
+	
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
 	private Generator(GeneratorServiceInfo info, IVortoCodeGenerator instance, IGeneratorConfigUITemplate configTemplate) {
 		this.info = Objects.requireNonNull(info);
 		this.instance = Objects.requireNonNull(instance);
@@ -82,6 +161,13 @@ public class Generator {
 		this.info = info;
 	}
 
+	/**
+	 * @return the digest of the generator build, used to tell results of different builds apart
+	 */
+	public String getVersion() {
+		return version;
+	}
+
 	public IVortoCodeGenerator getInstance() {
 		return instance;
 	}
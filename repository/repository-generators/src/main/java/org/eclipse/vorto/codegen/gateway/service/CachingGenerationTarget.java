@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.gateway.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.vorto.codegen.api.IGenerationTarget;
+import org.eclipse.vorto.codegen.gateway.service.GenerationResultCache.PendingEntry;
+
+/**
+ * Passes the streamed result on to the actual target and adds a copy of it to the cache. The copy is dropped if 
+ * writing to the actual target fails.
+ */
+class CachingGenerationTarget implements IGenerationTarget {
+	
+	private final IGenerationTarget target;
+	
+	private final GenerationResultCache cache;
+	
+	private final String cacheKey;
+	
+	private PendingEntry entry = null;
+	
+	CachingGenerationTarget(IGenerationTarget target, GenerationResultCache cache, String cacheKey) {
+		this.target = target;
+		this.cache = cache;
+		this.cacheKey = cacheKey;
+	}
+
+	@Override
+	public OutputStream open(String fileName, String mediatype) throws IOException {
+		OutputStream out = target.open(fileName, mediatype);
+		entry = cache.begin(cacheKey, fileName, mediatype);
+		return new OutputStream() {
+			
+			@Override
+			public void write(int b) throws IOException {
+				try {
+					out.write(b);
+				} catch (IOException e) {
+					entry.discard();
+					throw e;
+				}
+				entry.write(b);
+			}
+			
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				try {
+					out.write(b, off, len);
+				} catch (IOException e) {
+					entry.discard();
+					throw e;
+				}
+				entry.write(b, off, len);
+			}
+			
+			@Override
+			public void flush() throws IOException {
+				out.flush();
+			}
+			
+			@Override
+			public void close() throws IOException {
+				try {
+					out.close();
+				} catch (IOException e) {
+					entry.discard();
+					throw e;
+				}
+				entry.close();
+			}
+		};
+	}
+	
+	boolean isOpened() {
+		return entry != null;
+	}
+	
+	/**
+	 * Drops the copy of a result that could not be completed
+	 */
+	void discard() {
+		entry.discard();
+	}
+}
@@ -0,0 +1,452 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.gateway.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.vorto.codegen.api.IGenerationResult;
+import org.eclipse.vorto.codegen.gateway.model.Generator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Caches generation results by the content they were generated from. The key is a digest of the model and mapping
+ * files, the generator key and build and the request parameters, so a result is only ever returned for exactly the
+ * same input. Results are kept in memory, bounded by their total size, and on disk, bounded by their number. In both 
+ * tiers the least recently used entries are evicted first.
+ * 
+ * Callers must have downloaded the model and mapping files with their own credentials to compute the key.
+ */
+@Component
+public class GenerationResultCache {
+	
+	public static final long DEFAULT_MAX_MEMORY_SIZE = 64L * 1024 * 1024;
+	
+	public static final int DEFAULT_MAX_DISK_ENTRIES = 1000;
+	
+	private static final Logger LOGGER = LoggerFactory.getLogger(GenerationResultCache.class);
+	
+	private static final String CONTENT_SUFFIX = ".content";
+	
+	private static final String INFO_SUFFIX = ".properties";
+	
+	private static final String FILE_NAME = "fileName";
+	
+	private static final String MEDIA_TYPE = "mediatype";
+	
+	private long maxMemorySize = DEFAULT_MAX_MEMORY_SIZE;
+	
+	private long memorySize = 0;
+	
+	private int maxDiskEntries = DEFAULT_MAX_DISK_ENTRIES;
+	
+	private Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "vorto-generation-cache");
+	
+	private final LinkedHashMap<String, IGenerationResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+	
+	/**
+	 * @return the cached result for the given key, looked up in memory first and on disk second
+	 */
+	public Optional<IGenerationResult> get(String key) {
+		synchronized (this) {
+			IGenerationResult result = entries.get(key);
+			if (result != null) {
+				return Optional.of(result);
+			}
+		}
+		
+		Optional<IGenerationResult> result = readFromDisk(key);
+		result.ifPresent(value -> putInMemory(key, value));
+		return result;
+	}
+	
+	/**
+	 * Stores the given result in both tiers.
+	 * 
+	 * @return a copy of the result that can be read any number of times
+	 */
+	public IGenerationResult put(String key, IGenerationResult result) {
+		IGenerationResult cached = new CachedGenerationResult(result.getFileName(), result.getMediatype(), result.getContent());
+		putInMemory(key, cached);
+		writeToDisk(key, cached);
+		return cached;
+	}
+	
+	/**
+	 * Opens a stream that stores the result written to it in the disk tier. The entry is added once the stream is 
+	 * closed and is dropped if the stream is discarded or writing to disk fails.
+	 */
+	public PendingEntry begin(String key, String fileName, String mediatype) {
+		return new PendingEntry(key, fileName, mediatype);
+	}
+	
+	/**
+	 * Drops all results kept in memory. Results on disk are kept.
+	 */
+	public synchronized void invalidateAll() {
+		entries.clear();
+		memorySize = 0;
+	}
+	
+	/**
+	 * @return the total size in bytes of the results kept in memory
+	 */
+	public synchronized long getMemorySize() {
+		return memorySize;
+	}
+	
+	/**
+	 * Sets the maximum total size in bytes of the results kept in memory. Larger results are only kept on disk.
+	 */
+	@Value("${vorto.generation.cache.memorySize:" + DEFAULT_MAX_MEMORY_SIZE + "}")
+	public synchronized void setMaxMemorySize(long maxMemorySize) {
+		this.maxMemorySize = maxMemorySize;
+		evictFromMemory();
+	}
+	
+	@Value("${vorto.generation.cache.diskSize:" + DEFAULT_MAX_DISK_ENTRIES + "}")
+	public synchronized void setMaxDiskEntries(int maxDiskEntries) {
+		this.maxDiskEntries = maxDiskEntries;
+	}
+	
+	@Value("${vorto.generation.cache.directory:}")
+	public synchronized void setDirectory(String directory) {
+		if (directory != null && !directory.trim().isEmpty()) {
+			this.directory = Paths.get(directory);
+		}
+	}
+	
+	/**
+	 * Creates the cache key of a generation request. Zip files are compared by the names and contents of their
+	 * entries, so that archives of the same models created at different times result in the same key.
+	 */
+	public static String createKey(Generator generator, byte[] modelResources, Optional<byte[]> mappingResources, 
+			Map<String, String> parameters) {
+		return createKey(generator.getInstance().getServiceKey(), generator.getVersion(), modelResources,
+				mappingResources, parameters);
+	}
+	
+	/**
+	 * @see #createKey(Generator, byte[], Optional, Map)
+	 */
+	public static String createKey(String serviceKey, String generatorVersion, byte[] modelResources,
+			Optional<byte[]> mappingResources, Map<String, String> parameters) {
+		MessageDigest digest = newDigest();
+		update(digest, serviceKey);
+		update(digest, generatorVersion);
+		update(digest, digestOfZip(modelResources));
+		update(digest, mappingResources.map(GenerationResultCache::digestOfZip).orElse("-"));
+		new TreeMap<>(parameters).forEach((name, value) -> {
+			update(digest, name);
+			update(digest, String.valueOf(value));
+		});
+		return toHex(digest.digest());
+	}
+	
+	private static String digestOfZip(byte[] zip) {
+		Map<String, String> entryDigests = new TreeMap<>();
+		try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+			ZipEntry entry;
+			while ((entry = zis.getNextEntry()) != null) {
+				if (!entry.isDirectory()) {
+					entryDigests.put(entry.getName(), toHex(newDigest().digest(StreamUtils.copyToByteArray(zis))));
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Could not read zip entries, falling back to the digest of the whole zip", e);
+			return toHex(newDigest().digest(zip));
+		}
+		
+		MessageDigest digest = newDigest();
+		entryDigests.forEach((name, entryDigest) -> {
+			update(digest, name);
+			update(digest, entryDigest);
+		});
+		return toHex(digest.digest());
+	}
+	
+	private synchronized void putInMemory(String key, IGenerationResult result) {
+		IGenerationResult previous = entries.remove(key);
+		if (previous != null) {
+			memorySize -= previous.getContent().length;
+		}
+		if (result.getContent().length <= maxMemorySize) {
+			entries.put(key, result);
+			memorySize += result.getContent().length;
+			evictFromMemory();
+		}
+	}
+	
+	private void evictFromMemory() {
+		Iterator<IGenerationResult> eldest = entries.values().iterator();
+		while (memorySize > maxMemorySize && eldest.hasNext()) {
+			memorySize -= eldest.next().getContent().length;
+			eldest.remove();
+		}
+	}
+	
+	private Optional<IGenerationResult> readFromDisk(String key) {
+		Path contentFile = directory.resolve(key + CONTENT_SUFFIX);
+		Path infoFile = directory.resolve(key + INFO_SUFFIX);
+		if (!Files.exists(contentFile) || !Files.exists(infoFile)) {
+			return Optional.empty();
+		}
+		
+		try {
+			Properties info = new Properties();
+			try (InputStream in = Files.newInputStream(infoFile)) {
+				info.load(in);
+			}
+			byte[] content = Files.readAllBytes(contentFile);
+			Files.setLastModifiedTime(infoFile, FileTime.fromMillis(System.currentTimeMillis()));
+			return Optional.of(new CachedGenerationResult(info.getProperty(FILE_NAME), info.getProperty(MEDIA_TYPE), content));
+		} catch (IOException e) {
+			// entry was evicted or is being replaced concurrently
+			LOGGER.debug("Could not read cached generation result " + key, e);
+			return Optional.empty();
+		}
+	}
+	
+	private void writeToDisk(String key, IGenerationResult result) {
+		try {
+			Path contentFile = createTempFile(key);
+			Files.write(contentFile, result.getContent());
+			commitToDisk(key, result.getFileName(), result.getMediatype(), contentFile);
+		} catch (IOException e) {
+			LOGGER.warn("Could not write generation result " + key + " to " + directory, e);
+		}
+	}
+	
+	private Path createTempFile(String key) throws IOException {
+		Files.createDirectories(directory);
+		return Files.createTempFile(directory, key, ".tmp");
+	}
+	
+	private void commitToDisk(String key, String fileName, String mediatype, Path contentFile) throws IOException {
+		Properties info = new Properties();
+		info.setProperty(FILE_NAME, fileName);
+		info.setProperty(MEDIA_TYPE, mediatype);
+		
+		// the info file is moved last, entries without it are never read
+		Files.move(contentFile, directory.resolve(key + CONTENT_SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		
+		Path infoFile = createTempFile(key);
+		try (OutputStream out = Files.newOutputStream(infoFile)) {
+			info.store(out, null);
+		}
+		Files.move(infoFile, directory.resolve(key + INFO_SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		
+		evictFromDisk();
+	}
+	
+	private synchronized void evictFromDisk() throws IOException {
+		List<Path> infoFiles;
+		try (Stream<Path> files = Files.list(directory)) {
+			infoFiles = files.filter(file -> file.getFileName().toString().endsWith(INFO_SUFFIX)).collect(Collectors.toList());
+		}
+		
+		if (infoFiles.size() <= maxDiskEntries) {
+			return;
+		}
+		
+		infoFiles.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+		for (Path infoFile : infoFiles.subList(0, infoFiles.size() - maxDiskEntries)) {
+			String fileName = infoFile.getFileName().toString();
+			String key = fileName.substring(0, fileName.length() - INFO_SUFFIX.length());
+			Files.deleteIfExists(infoFile);
+			Files.deleteIfExists(directory.resolve(key + CONTENT_SUFFIX));
+		}
+	}
+	
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static void update(MessageDigest digest, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) ':');
+		digest.update(bytes);
+	}
+	
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+	
+	/**
+	 * Stream of a result that is added to the cache once it is complete. Failures to write to disk are logged and 
+	 * never passed on to the writer.
+	 */
+	public class PendingEntry extends FilterOutputStream {
+		
+		private final String key;
+		
+		private final String fileName;
+		
+		private final String mediatype;
+		
+		private Path contentFile;
+		
+		private boolean closed = false;
+		
+		private PendingEntry(String key, String fileName, String mediatype) {
+			super(null);
+			this.key = key;
+			this.fileName = fileName;
+			this.mediatype = mediatype;
+			try {
+				this.contentFile = createTempFile(key);
+				this.out = Files.newOutputStream(contentFile);
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+		
+		@Override
+		public void write(int b) {
+			if (!closed) {
+				try {
+					out.write(b);
+				} catch (IOException e) {
+					fail(e);
+				}
+			}
+		}
+		
+		@Override
+		public void write(byte[] b, int off, int len) {
+			if (!closed) {
+				try {
+					out.write(b, off, len);
+				} catch (IOException e) {
+					fail(e);
+				}
+			}
+		}
+		
+		@Override
+		public void flush() {
+			// written to disk on close
+		}
+		
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				out.close();
+				commitToDisk(key, fileName, mediatype, contentFile);
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+		
+		/**
+		 * Drops the entry, e.g. because the generation failed before the result was complete.
+		 */
+		public void discard() {
+			if (!closed) {
+				closed = true;
+				closeAndDelete();
+			}
+		}
+		
+		private void fail(IOException e) {
+			LOGGER.warn("Could not write generation result " + key + " to " + directory, e);
+			closed = true;
+			closeAndDelete();
+		}
+		
+		private void closeAndDelete() {
+			try {
+				if (out != null) {
+					out.close();
+				}
+				if (contentFile != null) {
+					Files.deleteIfExists(contentFile);
+				}
+			} catch (IOException e) {
+				LOGGER.debug("Could not delete " + contentFile, e);
+			}
+		}
+	}
+	
+	private static class CachedGenerationResult implements IGenerationResult {
+		
+		private final String fileName;
+		
+		private final String mediatype;
+		
+		private final byte[] content;
+		
+		private CachedGenerationResult(String fileName, String mediatype, byte[] content) {
+			this.fileName = fileName;
+			this.mediatype = mediatype;
+			this.content = content;
+		}
+
+		@Override
+		public String getFileName() {
+			return fileName;
+		}
+
+		@Override
+		public byte[] getContent() {
+			return content;
+		}
+
+		@Override
+		public String getMediatype() {
+			return mediatype;
+		}
+	}
+}
@@ -15,6 +15,8 @@
 package org.eclipse.vorto.codegen.gateway.service;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,7 @@ import javax.annotation.PostConstruct;
 import org.eclipse.vorto.codegen.api.Generated;
 import org.eclipse.vorto.codegen.api.GenerationResultZip;
 import org.eclipse.vorto.codegen.api.IGenerationResult;
+import org.eclipse.vorto.codegen.api.IGenerationTarget;
 import org.eclipse.vorto.codegen.api.IVortoCodeGenerator;
 import org.eclipse.vorto.codegen.api.InvocationContext;
 import org.eclipse.vorto.codegen.gateway.config.EnvironmentConfig;
@@ -71,41 +74,86 @@ public class VortoService {
 	@Autowired
 	private RestTemplate restTemplate;
 	
-	public IGenerationResult generate(String key, String namespace, String name, String version, Map<String, String> parameters, Optional<String> headerAuth) {
+	@Autowired
+	private GenerationResultCache cache;
+	
+	/**
+	 * Generates the code for the given model and writes it to the target. Generators that support it stream their 
+	 * result to the target while generating, all other results are written once they are complete.
+	 */
+	public void generate(String key, String namespace, String name, String version, Map<String, String> parameters, 
+			Optional<String> headerAuth, IGenerationTarget target) throws IOException {
 		LOGGER.info(String.format("Generating for Platform [%s] and Model [%s.%s:%s]", key, namespace, name, version));
 		
 		Generator generator = repo.get(key).orElseThrow(GatewayUtils.notFound(String.format("[Generator %s]", key)));
 		
-		InformationModel model = getModel(namespace, name, version, headerAuth).orElseThrow(GatewayUtils.notFound(String.format("[Model %s.%s:%s]", namespace, name, version)));
+		byte[] modelResources = downloadUrl(urlForModel(namespace, name, version), headerAuth).orElseThrow(GatewayUtils.notFound(String.format("[Model %s.%s:%s]", namespace, name, version)));
+		
+		Optional<byte[]> mappingResources = downloadUrl(urlForMapping(key, namespace, name, version), headerAuth);
+		
+		String cacheKey = GenerationResultCache.createKey(generator, modelResources, mappingResources, parameters);
+		Optional<IGenerationResult> cachedResult = cache.get(cacheKey);
+		if (cachedResult.isPresent()) {
+			LOGGER.info(String.format("Returning cached result for Platform [%s] and Model [%s.%s:%s]", key, namespace, name, version));
+			write(cachedResult.get(), target);
+			return;
+		}
 		
-		List<MappingModel> mappings = getMappings(key, namespace, name, version, headerAuth);
+		InformationModel model = readModel(modelResources, name);
+		
+		List<MappingModel> mappings = mappingResources.map(this::readMappings).orElse(Collections.emptyList());
 		
 		InvocationContext invocationContext = new InvocationContext(mappings, repo.newGeneratorLookup(), parameters);
+		CachingGenerationTarget cachingTarget = new CachingGenerationTarget(target, cache, cacheKey);
+		invocationContext.setGenerationTarget(cachingTarget);
 		
-		return generate(generator.getInstance(), model, invocationContext);
-	}
-
-	private IGenerationResult generate(IVortoCodeGenerator generator, InformationModel model, InvocationContext invocationContext) {
+		IGenerationResult result;
 		try {
-			return generator.generate(model, invocationContext, null);
+			result = generator.getInstance().generate(model, invocationContext, null);
 		} catch(Exception e) {
-			LOGGER.error(String.format("Exception on generating [%s.%s:%s] for key[%s]", 
-					model.getNamespace(), model.getName(), model.getVersion(), generator.getServiceKey()), e);
-			GenerationResultZip output = new GenerationResultZip(model, generator.getServiceKey());
-			Generated generated = new Generated("generation_error.log", "/generated", Throwables.getStackTraceAsString(e));
-			output.write(generated);
-			return output;
+			if (cachingTarget.isOpened()) {
+				cachingTarget.discard();
+				if (!target.reset()) {
+					// the client has already received part of the archive, failing the response is all that is left
+					throw new IllegalStateException(String.format("Exception on generating [%s.%s:%s] for key[%s] after the result was partially sent", 
+							namespace, name, version, key), e);
+				}
+			}
+			write(errorResult(generator.getInstance(), model, e), target);
+			return;
+		}
+		
+		if (cachingTarget.isOpened()) {
+			// completes the archive that was streamed to the target
+			result.getContent();
+		} else {
+			write(cache.put(cacheKey, result), target);
 		}
 	}
 	
+	private void write(IGenerationResult result, IGenerationTarget target) throws IOException {
+		try (OutputStream out = target.open(result.getFileName(), result.getMediatype())) {
+			out.write(result.getContent());
+		}
+	}
+
+	private IGenerationResult errorResult(IVortoCodeGenerator generator, InformationModel model, Exception e) {
+		LOGGER.error(String.format("Exception on generating [%s.%s:%s] for key[%s]", 
+				model.getNamespace(), model.getName(), model.getVersion(), generator.getServiceKey()), e);
+		GenerationResultZip output = new GenerationResultZip(model, generator.getServiceKey());
+		Generated generated = new Generated("generation_error.log", "/generated", Throwables.getStackTraceAsString(e));
+		output.write(generated);
+		return output;
+	}
+	
 	public Optional<InformationModel> getModel(String namespace, String name, String version, Optional<String> headerAuth) {
 		Optional<byte[]> modelResources = downloadUrl(urlForModel(namespace, name, version), headerAuth);
 		
-		if (!modelResources.isPresent()) {
-			return Optional.empty();
-		}
-		
-		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(new ByteArrayInputStream(modelResources.get()))).read();
+		return modelResources.map(resources -> readModel(resources, name));
+	}
+	
+	private InformationModel readModel(byte[] modelResources, String name) {
+		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(new ByteArrayInputStream(modelResources))).read();
 		
 		return toInformationModel(workspace.get().stream().filter(p -> p.getName().equals(name)).findFirst().get());
 	}
@@ -115,11 +163,11 @@ public class VortoService {
 				env.getVortoRepoUrl(), new ModelId(name,namespace,version).getPrettyFormat());
 	}
 	
-	private Optional<InformationModel> toInformationModel(Model model) {
+	private InformationModel toInformationModel(Model model) {
 		if (model instanceof InformationModel) {
-			return Optional.of((InformationModel) model);
+			return (InformationModel) model;
 		} else if (model instanceof FunctionblockModel) {
-			return Optional.of(Utils.wrapFunctionBlock((FunctionblockModel) model));
+			return Utils.wrapFunctionBlock((FunctionblockModel) model);
 		}
 		
 		throw new NotFoundException(String.format("[Model %s.%s:%s] is not an Information Model or a Function Block", 
@@ -129,13 +177,13 @@ public class VortoService {
 	public List<MappingModel> getMappings(String generatorKey, String namespace, String name, String version, Optional<String> headerAuth) {
 		Optional<byte[]> mappingResources = downloadUrl(urlForMapping(generatorKey, namespace, name, version), headerAuth);
 		
-		if (mappingResources.isPresent()) {
-			IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(new ByteArrayInputStream(mappingResources.get()))).read();
-			List<Model> models = workspace.get().stream().filter(p -> p instanceof MappingModel).collect(Collectors.toList());
-			return models.stream().map(MappingModel.class::cast).collect(Collectors.toList());
-		} else {
-			return Collections.emptyList();
-		}
+		return mappingResources.map(this::readMappings).orElse(Collections.emptyList());
+	}
+	
+	private List<MappingModel> readMappings(byte[] mappingResources) {
+		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(new ByteArrayInputStream(mappingResources))).read();
+		List<Model> models = workspace.get().stream().filter(p -> p instanceof MappingModel).collect(Collectors.toList());
+		return models.stream().map(MappingModel.class::cast).collect(Collectors.toList());
 	}
 	
 	private String urlForMapping(String targetPlatform, String namespace, String name, String version) {
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.gateway.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.vorto.codegen.api.IGenerationResult;
+import org.eclipse.vorto.codegen.gateway.service.GenerationResultCache.PendingEntry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CachingGenerationTargetTest {
+	
+	private static final byte[] CONTENT = "generated".getBytes(StandardCharsets.UTF_8);
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private GenerationResultCache cache;
+	
+	private Path directory;
+	
+	@Before
+	public void setUp() throws IOException {
+		directory = folder.newFolder("cache").toPath();
+		cache = new GenerationResultCache();
+		cache.setDirectory(directory.toString());
+	}
+	
+	@Test
+	public void testStreamedResultIsWrittenToTargetAndCache() throws IOException {
+		ByteArrayOutputStream response = new ByteArrayOutputStream();
+		CachingGenerationTarget target = new CachingGenerationTarget((fileName, mediatype) -> response, cache, "key");
+		assertFalse(target.isOpened());
+		
+		try (OutputStream out = target.open("result.zip", "application/zip")) {
+			out.write(CONTENT, 0, 4);
+			out.write(CONTENT, 4, CONTENT.length - 4);
+		}
+		
+		assertTrue(target.isOpened());
+		assertArrayEquals(CONTENT, response.toByteArray());
+		IGenerationResult cached = cache.get("key").get();
+		assertEquals("result.zip", cached.getFileName());
+		assertEquals("application/zip", cached.getMediatype());
+		assertArrayEquals(CONTENT, cached.getContent());
+	}
+	
+	@Test
+	public void testResultIsNotCachedIfTargetFails() throws IOException {
+		CachingGenerationTarget target = new CachingGenerationTarget((fileName, mediatype) -> new OutputStream() {
+			
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("connection reset");
+			}
+		}, cache, "key");
+		
+		try (OutputStream out = target.open("result.zip", "application/zip")) {
+			out.write(CONTENT);
+			fail("expected the failure of the target");
+		} catch (IOException e) {
+			assertEquals("connection reset", e.getMessage());
+		}
+		
+		assertFalse(cache.get("key").isPresent());
+		assertEquals(0, Files.list(directory).count());
+	}
+	
+	@Test
+	public void testDiscardedResultIsNotCached() throws IOException {
+		CachingGenerationTarget target = new CachingGenerationTarget((fileName, mediatype) -> new ByteArrayOutputStream(),
+				cache, "key");
+		
+		OutputStream out = target.open("result.zip", "application/zip");
+		out.write(CONTENT);
+		target.discard();
+		out.close();
+		
+		assertFalse(cache.get("key").isPresent());
+		assertEquals(0, Files.list(directory).count());
+	}
+	
+	@Test
+	public void testPendingEntryIsAddedOnClose() throws IOException {
+		PendingEntry entry = cache.begin("key", "result.zip", "application/zip");
+		entry.write(CONTENT);
+		assertFalse(cache.get("key").isPresent());
+		
+		entry.close();
+		entry.close();
+		entry.write(CONTENT);
+		
+		assertArrayEquals(CONTENT, cache.get("key").get().getContent());
+	}
+	
+	@Test
+	public void testDiscardedPendingEntryLeavesNoFiles() throws IOException {
+		PendingEntry entry = cache.begin("key", "result.zip", "application/zip");
+		entry.write(CONTENT);
+		entry.discard();
+		entry.close();
+		
+		assertFalse(cache.get("key").isPresent());
+		assertEquals(0, Files.list(directory).count());
+	}
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.codegen.gateway.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.vorto.codegen.api.IGenerationResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GenerationResultCacheTest {
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private GenerationResultCache cache;
+	
+	private Path directory;
+	
+	@Before
+	public void setUp() throws IOException {
+		directory = folder.newFolder("cache").toPath();
+		cache = new GenerationResultCache();
+		cache.setDirectory(directory.toString());
+	}
+	
+	@Test
+	public void testGetFromMemoryAndDisk() {
+		IGenerationResult cached = cache.put("key", result("generated"));
+		
+		assertSame(cached, cache.get("key").get());
+		assertEquals(9, cache.getMemorySize());
+		
+		cache.invalidateAll();
+		assertEquals(0, cache.getMemorySize());
+		
+		IGenerationResult fromDisk = cache.get("key").get();
+		assertEquals("result.zip", fromDisk.getFileName());
+		assertEquals("application/zip", fromDisk.getMediatype());
+		assertArrayEquals(cached.getContent(), fromDisk.getContent());
+		assertEquals(9, cache.getMemorySize());
+	}
+	
+	@Test
+	public void testGetUnknownKey() {
+		assertFalse(cache.get("unknown").isPresent());
+	}
+	
+	@Test
+	public void testKeyChangesWithGeneratorBuildAndParameters() throws IOException {
+		byte[] models = zip("Switcher.fbmodel", "functionblock Switcher {}", 0);
+		String key = GenerationResultCache.createKey("java", "build1", models, Optional.empty(), Collections.emptyMap());
+		
+		// the same models zipped at another time
+		assertEquals(key, GenerationResultCache.createKey("java", "build1", zip("Switcher.fbmodel", "functionblock Switcher {}", 60000),
+				Optional.empty(), Collections.emptyMap()));
+		assertNotEquals(key, GenerationResultCache.createKey("java", "build2", models, Optional.empty(), Collections.emptyMap()));
+		assertNotEquals(key, GenerationResultCache.createKey("python", "build1", models, Optional.empty(), Collections.emptyMap()));
+		assertNotEquals(key, GenerationResultCache.createKey("java", "build1", models, Optional.empty(),
+				Collections.singletonMap("language", "de")));
+		assertNotEquals(key, GenerationResultCache.createKey("java", "build1", zip("Switcher.fbmodel", "functionblock Switcher2 {}", 0),
+				Optional.empty(), Collections.emptyMap()));
+	}
+	
+	@Test
+	public void testMemoryIsBoundedBySize() throws IOException {
+		cache.setMaxMemorySize(10);
+		cache.put("first", result("123456"));
+		cache.put("second", result("abcdef"));
+		
+		assertEquals(6, cache.getMemorySize());
+		deleteDiskEntries();
+		assertFalse(cache.get("first").isPresent());
+		assertTrue(cache.get("second").isPresent());
+	}
+	
+	@Test
+	public void testLargeResultIsOnlyKeptOnDisk() {
+		cache.setMaxMemorySize(4);
+		cache.put("key", result("123456"));
+		
+		assertEquals(0, cache.getMemorySize());
+		assertTrue(cache.get("key").isPresent());
+		assertEquals(0, cache.getMemorySize());
+	}
+	
+	@Test
+	public void testDiskIsBoundedByEntries() throws IOException {
+		cache.setMaxDiskEntries(1);
+		cache.put("first", result("123456"));
+		Files.setLastModifiedTime(directory.resolve("first.properties"), FileTime.fromMillis(0));
+		cache.put("second", result("abcdef"));
+		cache.invalidateAll();
+		
+		assertFalse(cache.get("first").isPresent());
+		assertFalse(Files.exists(directory.resolve("first.content")));
+		assertTrue(cache.get("second").isPresent());
+	}
+	
+	private void deleteDiskEntries() throws IOException {
+		for (Path file : Files.list(directory).toArray(Path[]::new)) {
+			Files.delete(file);
+		}
+	}
+	
+	private static byte[] zip(String fileName, String content, long time) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+			ZipEntry entry = new ZipEntry(fileName);
+			entry.setTime(time);
+			zos.putNextEntry(entry);
+			zos.write(content.getBytes(StandardCharsets.UTF_8));
+			zos.closeEntry();
+		}
+		return baos.toByteArray();
+	}
+	
+	private static IGenerationResult result(String content) {
+		return new IGenerationResult() {
+			
+			@Override
+			public String getMediatype() {
+				return "application/zip";
+			}
+			
+			@Override
+			public String getFileName() {
+				return "result.zip";
+			}
+			
+			@Override
+			public byte[] getContent() {
+				return content.getBytes(StandardCharsets.UTF_8);
+			}
+		};
+	}
+}
@@ -33,6 +33,7 @@ import javax.jcr.version.VersionException;
 
 import org.eclipse.vorto.repository.backup.IModelBackupService;
 import org.eclipse.vorto.repository.core.IModelRepository;
+import org.eclipse.vorto.repository.core.impl.JcrModelRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -79,6 +80,10 @@ public class DefaultModelBackupService implements IModelBackupService {
 		} catch (Exception invalidContent) {
 			doRestore(currentContent);
 			throw new Exception(this.EXCEPTION_MESSAGE_RESTORABLE_CONTENT);
+		} finally {
+			if (modelRepository instanceof JcrModelRepository) {
+				((JcrModelRepository) modelRepository).getModelCache().invalidateAll();
+			}
 		}
 	}
 
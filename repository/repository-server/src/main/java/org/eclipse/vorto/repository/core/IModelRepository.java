@@ -14,7 +14,9 @@
  */
 package org.eclipse.vorto.repository.core;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.vorto.repository.api.ModelId;
@@ -37,6 +39,15 @@ public interface IModelRepository {
 	 */
 	List<ModelInfo> search(String queryExpression);
 	
+	/**
+	 * Searches model resources for the given expression and returns the requested page of the result. 
+	 * The returned model resources only contain the model meta data, e.g. no references or attachment information.
+	 * @param queryExpression
+	 * @param parameters page and sort order of the result
+	 * @return
+	 */
+	List<ModelInfo> search(String queryExpression, SearchParameters parameters);
+	
 	/**
 	 * Gets a model resource for the given model id
 	 * @param modelId
@@ -44,6 +55,24 @@ public interface IModelRepository {
 	 */
 	ModelInfo getById(ModelId modelId);
 	
+	/**
+	 * Gets the model meta data for all of the given model ids in one lookup. Like the result of a paged search, the 
+	 * returned model resources only contain the model meta data, e.g. no references or attachment information.
+	 * @param modelIds
+	 * @return the found model resources by their id. Model ids which do not exist in the repository are not contained.
+	 */
+	Map<ModelId, ModelInfo> getMetadataByIds(Collection<ModelId> modelIds);
+
+	/**
+	 * Gets the last modification time of the given models and of all their direct and indirect references,
+	 * without reading the model contents
+	 * @param modelIds
+	 * @throws ModelNotFoundException if one of the models or one of their references does not exist
+	 * @return modification time of the model files by model id, the given models followed by their references
+	 * and every model only once
+	 */
+	Map<ModelId, Long> getLastModifiedWithDependencies(Collection<ModelId> modelIds);
+
 	/**
 	 * Returns the actual model content for the given model id
 	 * @param modelId
@@ -73,6 +102,20 @@ public interface IModelRepository {
 	 * @return model info containing model meta data of the saved model
 	 */
 	ModelInfo save(ModelId modelId, byte[] content, String fileName, IUserContext user);
+	
+	/**
+	 * Saves the given models together with their attachments to the repo in a single transaction.
+	 * Either all models and attachments are stored or none of them.
+	 * 
+	 * @param resources the models to save, ordered by their dependencies
+	 * @param attachments files to attach, keyed by the id of the model they belong to
+	 * @param user user who has modified the models
+	 * @param attachmentTags tags of the attached files
+	 * @return model infos of the saved models
+	 * @throws AttachmentException if any of the attachments is not valid
+	 */
+	List<ModelInfo> saveAll(List<ModelResource> resources, Map<ModelId, FileContent> attachments, IUserContext user,
+			Tag... attachmentTags) throws AttachmentException;
 				
 	/**
 	 * Gets the mapping model for the given modelId and the given target platform
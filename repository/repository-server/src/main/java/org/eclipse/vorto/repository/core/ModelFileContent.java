@@ -14,18 +14,35 @@
  */
 package org.eclipse.vorto.repository.core;
 
+import java.util.function.Supplier;
+
 import org.eclipse.vorto.core.api.model.model.Model;
 
 public class ModelFileContent extends FileContent {
 
 	private Model model;
 	
+	private Supplier<Model> modelSupplier;
+	
 	public ModelFileContent(Model model, String fileName, byte[] content) {
 		super(fileName, content);
 		this.model = model;
 	}
 	
-	public Model getModel() {
+	/**
+	 * @param modelSupplier creates the model when it is first requested, callers that only need the file content 
+	 * do not pay for it
+	 */
+	public ModelFileContent(Supplier<Model> modelSupplier, String fileName, byte[] content) {
+		super(fileName, content);
+		this.modelSupplier = modelSupplier;
+	}
+	
+	public synchronized Model getModel() {
+		if (model == null && modelSupplier != null) {
+			model = modelSupplier.get();
+			modelSupplier = null;
+		}
 		return model;
 	}
 
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Page, sort order and additional restrictions of a model search.
+ * 
+ * @see IModelRepository#search(String, SearchParameters)
+ */
+public class SearchParameters {
+
+	public static final int DEFAULT_LIMIT = 100;
+	
+	private final int offset;
+	
+	private final int limit;
+	
+	private final List<Sort> sorting = new ArrayList<>();
+	
+	private final List<String> states = new ArrayList<>();
+	
+	private SearchParameters(int offset, int limit) {
+		if (offset < 0 || limit <= 0) {
+			throw new IllegalArgumentException("Offset must not be negative and limit must be positive");
+		}
+		this.offset = offset;
+		this.limit = limit;
+	}
+	
+	public static SearchParameters page(int offset, int limit) {
+		return new SearchParameters(offset, limit);
+	}
+	
+	/**
+	 * Adds a sort key. Keys are applied in the order they were added. Without any sort key, the newest models come first.
+	 */
+	public SearchParameters sortBy(SortKey key, boolean ascending) {
+		this.sorting.add(new Sort(key, ascending));
+		return this;
+	}
+	
+	/**
+	 * Restricts the result to models in the given state. Can be called multiple times to allow several states.
+	 */
+	public SearchParameters withState(String state) {
+		this.states.add(state);
+		return this;
+	}
+	
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public List<Sort> getSorting() {
+		return Collections.unmodifiableList(sorting);
+	}
+
+	public List<String> getStates() {
+		return Collections.unmodifiableList(states);
+	}
+
+	public enum SortKey {
+		NAME("vorto:name"), 
+		NAMESPACE("vorto:namespace"), 
+		VERSION("vorto:version"), 
+		DISPLAYNAME("vorto:displayname"), 
+		TYPE("vorto:type"), 
+		STATE("vorto:state"), 
+		AUTHOR("vorto:author"), 
+		CREATED("jcr:created"), 
+		MODIFIED("jcr:lastModified");
+		
+		private final String property;
+		
+		SortKey(String property) {
+			this.property = property;
+		}
+		
+		public String getProperty() {
+			return property;
+		}
+	}
+	
+	public static class Sort {
+		
+		private final SortKey key;
+		
+		private final boolean ascending;
+		
+		private Sort(SortKey key, boolean ascending) {
+			this.key = key;
+			this.ascending = ascending;
+		}
+
+		public SortKey getKey() {
+			return key;
+		}
+
+		public boolean isAscending() {
+			return ascending;
+		}
+	}
+}
@@ -14,21 +14,52 @@
  */
 package org.eclipse.vorto.repository.core.impl;
 
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.core.IModelRepository;
 import org.eclipse.vorto.repository.core.IUserContext;
 
 public final class InvocationContext {
 
 	private IUserContext userContext;
 	
+	private Map<ModelId, ModelInfo> resolvedModels;
+	
 	public static InvocationContext create(IUserContext userContext) {
-		return new InvocationContext(userContext);
+		return new InvocationContext(userContext, Collections.emptyMap());
+	}
+	
+	/**
+	 * @param userContext
+	 * @param resolvedModels models which were looked up in the repository in advance. A model id which is mapped to
+	 *            null does not exist in the repository.
+	 */
+	public static InvocationContext create(IUserContext userContext, Map<ModelId, ModelInfo> resolvedModels) {
+		return new InvocationContext(userContext, resolvedModels);
 	}
 	
-	private InvocationContext(IUserContext userContext) {
+	private InvocationContext(IUserContext userContext, Map<ModelId, ModelInfo> resolvedModels) {
 		this.userContext = userContext;
+		this.resolvedModels = resolvedModels;
 	}
 
 	public IUserContext getUserContext() {
 		return userContext;
 	}
+
+	/**
+	 * Gets the model for the given model id, preferring the models resolved in advance for this invocation
+	 * @param modelId
+	 * @param modelRepository repository to look up models which were not resolved in advance
+	 * @return the model or null if it does not exist
+	 */
+	public ModelInfo getModel(ModelId modelId, IModelRepository modelRepository) {
+		if (resolvedModels.containsKey(modelId)) {
+			return resolvedModels.get(modelId);
+		}
+		return modelRepository.getById(modelId);
+	}
 }
@@ -19,15 +19,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.jcr.Binary;
 import javax.jcr.Item;
+import javax.jcr.ItemNotFoundException;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
 import javax.jcr.PathNotFoundException;
@@ -39,7 +47,6 @@ import javax.jcr.Session;
 import javax.jcr.Value;
 import javax.jcr.ValueFormatException;
 import javax.jcr.query.Query;
-import javax.jcr.query.QueryResult;
 import javax.jcr.query.Row;
 import javax.jcr.query.RowIterator;
 
@@ -62,6 +69,7 @@ import org.eclipse.vorto.repository.core.ModelAlreadyExistsException;
 import org.eclipse.vorto.repository.core.ModelFileContent;
 import org.eclipse.vorto.repository.core.ModelReferentialIntegrityException;
 import org.eclipse.vorto.repository.core.ModelResource;
+import org.eclipse.vorto.repository.core.SearchParameters;
 import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
 import org.eclipse.vorto.repository.core.impl.utils.ModelIdHelper;
 import org.eclipse.vorto.repository.core.impl.utils.ModelReferencesHelper;
@@ -80,6 +88,8 @@ import org.springframework.stereotype.Service;
 public class JcrModelRepository implements IModelRepository {
 
 	private static final String FILE_NODES = "*.type | *.fbmodel | *.infomodel | *.mapping ";
+	
+	private static final int MAX_IDS_PER_QUERY = 100;
 
 	@Autowired
 	private Session session;
@@ -94,24 +104,56 @@ public class JcrModelRepository implements IModelRepository {
 
 	@Autowired
 	private AttachmentValidator attachmentValidator;
+	
+	private ModelResourceCache modelCache = new ModelResourceCache(ModelResourceCache.DEFAULT_MAX_CONTENT_SIZE);
 
 	@Override
 	public List<ModelInfo> search(final String expression) {
+		String queryExpression = expression;
+		if (queryExpression == null || queryExpression.isEmpty()) {
+			queryExpression = "*";
+		}
+		return executeSearch(modelSearchUtil.createQueryFromExpression(session, queryExpression));
+	}
+
+	@Override
+	public List<ModelInfo> search(final String expression, SearchParameters parameters) {
 		String queryExpression = expression;
 		if (queryExpression == null || queryExpression.isEmpty()) {
 			queryExpression = "*";
 		}
 		try {
-			List<ModelInfo> modelResources = new ArrayList<>();
+			List<ModelInfo> modelResources = new ArrayList<>(parameters.getLimit());
 
-			Query query = modelSearchUtil.createQueryFromExpression(session, queryExpression);
+			Query query = modelSearchUtil.createPagedQueryFromExpression(session, queryExpression, parameters);
 
 			logger.debug("Searching repository with expression " + query.getStatement());
-			QueryResult result = query.execute();
-			RowIterator rowIterator = result.getRows();
+			RowIterator rowIterator = query.execute().getRows();
 			while (rowIterator.hasNext()) {
-				Row row = rowIterator.nextRow();
-				Node currentNode = row.getNode();
+				try {
+					modelResources.add(createMinimalModelInfo(rowIterator.nextRow()));
+				} catch (Exception ex) {
+					logger.debug("Error while converting row to a ModelInfo", ex);
+				}
+			}
+
+			return modelResources;
+		} catch (RepositoryException e) {
+			throw new RuntimeException("Could not create query manager", e);
+		}
+	}
+	
+	/**
+	 * Executes the query of an unpaged search and converts every model node of the result
+	 */
+	private List<ModelInfo> executeSearch(Query query) {
+		try {
+			List<ModelInfo> modelResources = new ArrayList<>();
+
+			logger.debug("Searching repository with expression " + query.getStatement());
+			RowIterator rowIterator = query.execute().getRows();
+			while (rowIterator.hasNext()) {
+				Node currentNode = rowIterator.nextRow().getNode();
 				if (currentNode.hasProperty("vorto:type")) {
 					try {
 						modelResources.add(createMinimalModelInfo(currentNode));
@@ -127,6 +169,35 @@ public class JcrModelRepository implements IModelRepository {
 		}
 	}
 
+	/**
+	 * Creates the model info from the metadata columns selected by a paged search or a lookup by ids, without reading 
+	 * the node itself.
+	 * Unlike {@link #createMinimalModelInfo(Node)}, it does not look up the image of the model.
+	 */
+	private ModelInfo createMinimalModelInfo(Row row) throws RepositoryException {
+		ModelInfo resource = new ModelInfo(new ModelId(getString(row, "vorto:name"), getString(row, "vorto:namespace"),
+				getString(row, "vorto:version")), getString(row, "vorto:type"));
+		resource.setDescription(getString(row, "vorto:description"));
+		resource.setDisplayName(getString(row, "vorto:displayname"));
+		resource.setState(getString(row, "vorto:state"));
+		resource.setAuthor(getString(row, "vorto:author"));
+		
+		Value created = row.getValue("jcr:created");
+		if (created != null) {
+			resource.setCreationDate(created.getDate().getTime());
+		}
+		Value lastModified = row.getValue("jcr:lastModified");
+		if (lastModified != null) {
+			resource.setModificationDate(lastModified.getDate().getTime());
+		}
+		return resource;
+	}
+	
+	private static String getString(Row row, String column) throws RepositoryException {
+		Value value = row.getValue(column);
+		return value != null ? value.getString() : null;
+	}
+
 	private ModelInfo createMinimalModelInfo(Node node) throws RepositoryException {
 
 		ModelInfo resource = new ModelInfo(ModelIdHelper.fromPath(node.getParent().getPath()),
@@ -156,24 +227,14 @@ public class JcrModelRepository implements IModelRepository {
 		ModelInfo resource = createMinimalModelInfo(node);
 		resource.setFileName(node.getName());
 
-		if (node.hasProperty("vorto:references")) {
-			Value[] referenceValues = null;
-			try {
-				referenceValues = node.getProperty("vorto:references").getValues();
-			} catch (Exception ex) {
-				referenceValues = new Value[] { node.getProperty("vorto:references").getValue() };
-			}
-
-			if (referenceValues != null) {
-				ModelReferencesHelper referenceHelper = new ModelReferencesHelper();
-				for (Value referValue : referenceValues) {
-					String nodeUuid = referValue.getString();
-					Node referencedNode = session.getNodeByIdentifier(nodeUuid);
-					referenceHelper.addModelReference(
-							ModelIdHelper.fromPath(referencedNode.getParent().getPath()).getPrettyFormat());
-				}
-				resource.setReferences(referenceHelper.getReferences());
+		List<Node> referencedNodes = getReferencedNodes(node);
+		if (!referencedNodes.isEmpty()) {
+			ModelReferencesHelper referenceHelper = new ModelReferencesHelper();
+			for (Node referencedNode : referencedNodes) {
+				referenceHelper.addModelReference(
+						ModelIdHelper.fromPath(referencedNode.getParent().getPath()).getPrettyFormat());
 			}
+			resource.setReferences(referenceHelper.getReferences());
 		}
 
 		PropertyIterator propIter = node.getReferences();
@@ -183,28 +244,51 @@ public class JcrModelRepository implements IModelRepository {
 			final ModelId referencedById = ModelIdHelper.fromPath(referencedByFileNode.getParent().getPath());
 			resource.getReferencedBy().add(referencedById);
 
-			if (referencedByFileNode.getName().endsWith(ModelType.Mapping.getExtension())) {
-				ModelResource emfResource = getEMFResource(referencedById);
-				resource.addPlatformMapping(emfResource.getTargetPlatform(), referencedById);
+			if (isMappingNode(referencedByFileNode)) {
+				resource.addPlatformMapping(getTargetPlatform(referencedByFileNode, referencedById), referencedById);
 			}
 		}
 
 		return resource;
 	}
+	
+	private List<Node> getReferencedNodes(Node node) throws RepositoryException {
+		List<Node> referencedNodes = new ArrayList<>();
+		if (node.hasProperty("vorto:references")) {
+			Value[] referenceValues = null;
+			try {
+				referenceValues = node.getProperty("vorto:references").getValues();
+			} catch (Exception ex) {
+				referenceValues = new Value[] { node.getProperty("vorto:references").getValue() };
+			}
+
+			for (Value referValue : referenceValues) {
+				referencedNodes.add(session.getNodeByIdentifier(referValue.getString()));
+			}
+		}
+		return referencedNodes;
+	}
+	
+	private boolean isMappingNode(Node node) throws RepositoryException {
+		return node.getName().endsWith(ModelType.Mapping.getExtension());
+	}
+	
+	/**
+	 * Reads the target platform that the sequencer stored for the mapping and only parses mappings which 
+	 * were stored before the sequencer extracted the target platform.
+	 */
+	private String getTargetPlatform(Node mappingNode, ModelId mappingId) throws RepositoryException {
+		if (mappingNode.hasProperty("vorto:targetPlatform")) {
+			return mappingNode.getProperty("vorto:targetPlatform").getString();
+		}
+		return getEMFResource(mappingId).getTargetPlatform();
+	}
 
 	@Override
 	public ModelFileContent getModelContent(ModelId modelId) {
 		try {
-			ModelIdHelper modelIdHelper = new ModelIdHelper(modelId);
-			Node folderNode = session.getNode(modelIdHelper.getFullPath());
-			Node fileNode = (Node) folderNode.getNodes(FILE_NODES).next();
-			Node fileItem = (Node) fileNode.getPrimaryItem();
-			InputStream is = fileItem.getProperty("jcr:data").getBinary().getStream();
-
-			final String fileContent = IOUtils.toString(is);
-			ModelResource resource = (ModelResource) ModelParserFactory.getParser(fileNode.getName())
-					.parse(IOUtils.toInputStream(fileContent));
-			return new ModelFileContent(resource.getModel(), fileNode.getName(), fileContent.getBytes());
+			ModelResourceCache.Entry model = readModel(modelId);
+			return new ModelFileContent(() -> model.getResource().getModel(), model.getFileName(), model.getContent());
 
 		} catch (PathNotFoundException e) {
 			throw new ModelNotFoundException("Could not find model with the given model id", e);
@@ -213,6 +297,39 @@ public class JcrModelRepository implements IModelRepository {
 		}
 	}
 
+	/**
+	 * Reads and parses the model file of the given model, or takes it from the cache if the model file has not 
+	 * been modified since it was cached
+	 */
+	private ModelResourceCache.Entry readModel(ModelId modelId) throws Exception {
+		ModelIdHelper modelIdHelper = new ModelIdHelper(modelId);
+		Node folderNode = session.getNode(modelIdHelper.getFullPath());
+		Node fileNode = (Node) folderNode.getNodes(FILE_NODES).next();
+		Node fileItem = (Node) fileNode.getPrimaryItem();
+		
+		final long lastModified = getLastModified(fileNode, fileItem);
+		ModelResourceCache.Entry cached = modelCache.get(modelId, lastModified);
+		if (cached != null) {
+			return cached;
+		}
+		
+		InputStream is = fileItem.getProperty("jcr:data").getBinary().getStream();
+		final byte[] content = IOUtils.toByteArray(is);
+		ModelResource resource = (ModelResource) ModelParserFactory.getParser(fileNode.getName())
+				.parse(new ByteArrayInputStream(content));
+		return modelCache.put(modelId, lastModified, fileNode.getName(), content, resource);
+	}
+	
+	private long getLastModified(Node fileNode, Node contentNode) throws RepositoryException {
+		if (contentNode.hasProperty("jcr:lastModified")) {
+			return contentNode.getProperty("jcr:lastModified").getDate().getTimeInMillis();
+		} else if (fileNode.hasProperty("jcr:lastModified")) {
+			return fileNode.getProperty("jcr:lastModified").getDate().getTimeInMillis();
+		} else {
+			return -1;
+		}
+	}
+
 	private Node createNodeForModelId(ModelId id) throws RepositoryException {
 		ModelIdHelper modelIdHelper = new ModelIdHelper(id);
 
@@ -240,28 +357,9 @@ public class JcrModelRepository implements IModelRepository {
 		logger.info("Saving " + modelId.toString() + " as " + fileName + " to Repo");
 
 		try {
-
-			Node folderNode = createNodeForModelId(modelId);
-			NodeIterator nodeIt = folderNode.getNodes(FILE_NODES);
-			if (!nodeIt.hasNext()) { // new node
-				Node fileNode = folderNode.addNode(fileName, "nt:file");
-				fileNode.addMixin("vorto:meta");
-				fileNode.addMixin("mix:referenceable");
-				fileNode.addMixin("mix:lastModified");
-				fileNode.setProperty("vorto:author", userContext.getUsername());
-				Node contentNode = fileNode.addNode("jcr:content", "nt:resource");
-				Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(content));
-				contentNode.setProperty("jcr:data", binary);
-			} else { // node already exists.
-				Node fileNode = nodeIt.nextNode();
-				fileNode.addMixin("mix:lastModified");
-				fileNode.setProperty("vorto:author", userContext.getUsername());
-				Node contentNode = fileNode.getNode("jcr:content");
-				Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(content));
-				contentNode.setProperty("jcr:data", binary);
-			}
-
+			stageModel(modelId, content, fileName, userContext);
 			session.save();
+			modelCache.invalidate(modelId);
 			logger.info("Model was saved successful");
 			return ModelParserFactory.getParser(fileName).parse(new ByteArrayInputStream(content));
 		} catch (Exception e) {
@@ -270,6 +368,126 @@ public class JcrModelRepository implements IModelRepository {
 		}
 	}
 
+	@Override
+	public List<ModelInfo> saveAll(List<ModelResource> resources, Map<ModelId, FileContent> attachments,
+			IUserContext userContext, Tag... attachmentTags) throws AttachmentException {
+		Objects.requireNonNull(resources);
+		Objects.requireNonNull(attachments);
+
+		if (!isImportedAttachment(attachmentTags)) {
+			for (Map.Entry<ModelId, FileContent> attachment : attachments.entrySet()) {
+				attachmentValidator.validateAttachment(attachment.getValue(), attachment.getKey());
+			}
+		}
+
+		logger.info("Saving batch of " + resources.size() + " models to Repo");
+
+		List<ModelInfo> savedModels = new ArrayList<>(resources.size());
+		try {
+			for (ModelResource resource : resources) {
+				stageModel(resource.getId(), resource.toDSL(), resource.getId().getName() + resource.getType().getExtension(),
+						userContext);
+				FileContent attachment = attachments.get(resource.getId());
+				if (attachment != null) {
+					stageAttachment(resource.getId(), attachment, attachmentTags);
+				}
+			}
+			session.save();
+			
+			for (ModelResource resource : resources) {
+				savedModels.add(createSavedModelInfo(resource,
+						attachments.containsKey(resource.getId()) && isImportedAttachment(attachmentTags)));
+			}
+		} catch (Exception e) {
+			logger.error("Error checking in batch of models", e);
+			discardPendingChanges(resources);
+			throw new FatalModelRepositoryException("Problem checking in batch of " + resources.size() + " models", e);
+		} finally {
+			resources.forEach(resource -> modelCache.invalidate(resource.getId()));
+		}
+
+		logger.info("Batch of " + resources.size() + " models was saved successful");
+		return savedModels;
+	}
+	
+	/**
+	 * Creates the model info of a model that has just been saved. The vorto properties of the saved node are 
+	 * extracted asynchronously by the sequencer, hence the model properties are taken from the saved model resource.
+	 */
+	private ModelInfo createSavedModelInfo(ModelResource resource, boolean imported) throws RepositoryException {
+		Node folderNode = session.getNode(new ModelIdHelper(resource.getId()).getFullPath());
+		Node fileNode = folderNode.getNodes(FILE_NODES).nextNode();
+		
+		ModelInfo modelInfo = new ModelInfo(resource.getId(), resource.getType());
+		modelInfo.setDisplayName(resource.getDisplayName());
+		modelInfo.setDescription(resource.getDescription());
+		modelInfo.setFileName(fileNode.getName());
+		modelInfo.setReferences(resource.getReferences());
+		modelInfo.setCreationDate(fileNode.getProperty("jcr:created").getDate().getTime());
+		if (fileNode.hasProperty("jcr:lastModified")) {
+			modelInfo.setModificationDate(fileNode.getProperty("jcr:lastModified").getDate().getTime());
+		}
+		if (fileNode.hasProperty("vorto:state")) {
+			modelInfo.setState(fileNode.getProperty("vorto:state").getString());
+		}
+		if (fileNode.hasProperty("vorto:author")) {
+			modelInfo.setAuthor(fileNode.getProperty("vorto:author").getString());
+		}
+		modelInfo.setImported(imported);
+		return modelInfo;
+	}
+
+	private void stageModel(ModelId modelId, byte[] content, String fileName, IUserContext userContext)
+			throws RepositoryException {
+		Node folderNode = createNodeForModelId(modelId);
+		NodeIterator nodeIt = folderNode.getNodes(FILE_NODES);
+		if (!nodeIt.hasNext()) { // new node
+			Node fileNode = folderNode.addNode(fileName, "nt:file");
+			fileNode.addMixin("vorto:meta");
+			fileNode.addMixin("mix:referenceable");
+			fileNode.addMixin("mix:lastModified");
+			fileNode.setProperty("vorto:author", userContext.getUsername());
+			Node contentNode = fileNode.addNode("jcr:content", "nt:resource");
+			Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(content));
+			contentNode.setProperty("jcr:data", binary);
+		} else { // node already exists.
+			Node fileNode = nodeIt.nextNode();
+			fileNode.addMixin("mix:lastModified");
+			fileNode.setProperty("vorto:author", userContext.getUsername());
+			Node contentNode = fileNode.getNode("jcr:content");
+			Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(content));
+			contentNode.setProperty("jcr:data", binary);
+		}
+	}
+
+	/**
+	 * Discards the changes that were staged for the given models only, leaving other pending changes of the 
+	 * session untouched. Folders that were added for a model are removed, existing model folders are refreshed.
+	 */
+	private void discardPendingChanges(List<ModelResource> resources) {
+		for (ModelResource resource : resources) {
+			try {
+				Node node = session.getRootNode();
+				Iterator<String> pathIterator = new ModelIdHelper(resource.getId()).iterator();
+				while (pathIterator.hasNext()) {
+					String pathFragment = pathIterator.next();
+					if (!node.hasNode(pathFragment)) {
+						break;
+					}
+					node = node.getNode(pathFragment);
+					if (node.isNew()) {
+						node.remove();
+						break;
+					} else if (!pathIterator.hasNext()) {
+						node.refresh(false);
+					}
+				}
+			} catch (RepositoryException e) {
+				logger.error("Could not discard pending changes of " + resource.getId().getPrettyFormat(), e);
+			}
+		}
+	}
+
 	@Override
 	public ModelInfo getById(ModelId modelId) {
 		try {
@@ -277,64 +495,176 @@ public class JcrModelRepository implements IModelRepository {
 
 			Node folderNode = session.getNode(modelIdHelper.getFullPath());
 
-			Node modelFileNode = folderNode.getNodes(FILE_NODES).nextNode();
-
-			ModelInfo modelResource = createModelResource(modelFileNode);
+			return createModelInfo(modelId, folderNode);
+		} catch (PathNotFoundException e) {
+			return null;
+		} catch (RepositoryException e) {
+			throw new RuntimeException("Retrieving Content of Resource: Problem accessing repository", e);
+		}
+	}
 
-			if (!getAttachmentsByTag(modelId, Attachment.TAG_IMAGE).isEmpty()) {
-				modelResource.setHasImage(true);
+	@Override
+	public Map<ModelId, ModelInfo> getMetadataByIds(Collection<ModelId> modelIds) {
+		List<ModelId> distinctIds = new ArrayList<>(new LinkedHashSet<>(modelIds));
+		Map<ModelId, ModelInfo> foundModels = new HashMap<>();
+		try {
+			for (int start = 0; start < distinctIds.size(); start += MAX_IDS_PER_QUERY) {
+				List<ModelId> chunk = distinctIds.subList(start, Math.min(start + MAX_IDS_PER_QUERY, distinctIds.size()));
+				RowIterator rowIterator = modelSearchUtil.createQueryForModelIds(session, chunk).execute().getRows();
+				while (rowIterator.hasNext()) {
+					ModelInfo modelInfo = createMinimalModelInfo(rowIterator.nextRow());
+					foundModels.put(modelInfo.getId(), modelInfo);
+				}
 			}
 			
-			if (!getAttachmentsByTag(modelId, Attachment.TAG_IMPORTED).isEmpty()) {
-				modelResource.setImported(true);
+			Map<ModelId, ModelInfo> result = new LinkedHashMap<>();
+			for (ModelId modelId : distinctIds) {
+				ModelInfo modelInfo = foundModels.get(modelId);
+				if (modelInfo != null) {
+					result.put(modelId, modelInfo);
+				}
 			}
+			return result;
+		} catch (RepositoryException e) {
+			throw new RuntimeException("Retrieving Content of Resources: Problem accessing repository", e);
+		}
+	}
 
-			return modelResource;
-		} catch (PathNotFoundException e) {
-			return null;
+	@Override
+	public Map<ModelId, Long> getLastModifiedWithDependencies(Collection<ModelId> modelIds) {
+		Map<ModelId, Long> lastModified = new LinkedHashMap<>();
+		try {
+			for (ModelId modelId : modelIds) {
+				if (!lastModified.containsKey(modelId)) {
+					NodeIterator fileNodes = session.getNode(new ModelIdHelper(modelId).getFullPath()).getNodes(FILE_NODES);
+					if (!fileNodes.hasNext()) {
+						throw new ModelNotFoundException("Could not find model with the given model id");
+					}
+					collectLastModified(modelId, fileNodes.nextNode(), lastModified);
+				}
+			}
+		} catch (PathNotFoundException | ItemNotFoundException e) {
+			throw new ModelNotFoundException("Could not find model with the given model id", e);
 		} catch (RepositoryException e) {
-			throw new RuntimeException("Retrieving Content of Resource: Problem accessing repository", e);
+			throw new FatalModelRepositoryException("Something went wrong accessing the repository", e);
+		}
+		return lastModified;
+	}
+
+	/**
+	 * Walks the reference graph that the sequencer maintains in the repository and only reads the modification
+	 * times of the visited model files
+	 */
+	private void collectLastModified(ModelId modelId, Node modelFileNode, Map<ModelId, Long> lastModified)
+			throws RepositoryException {
+		if (lastModified.containsKey(modelId)) {
+			return;
+		}
+		lastModified.put(modelId, getLastModified(modelFileNode, (Node) modelFileNode.getPrimaryItem()));
+
+		for (Node referencedNode : getReferencedNodes(modelFileNode)) {
+			collectLastModified(ModelIdHelper.fromPath(referencedNode.getParent().getPath()), referencedNode, lastModified);
+		}
+	}
+
+	private ModelInfo createModelInfo(ModelId modelId, Node folderNode) throws RepositoryException {
+		Node modelFileNode = folderNode.getNodes(FILE_NODES).nextNode();
+
+		ModelInfo modelResource = createModelResource(modelFileNode);
+
+		if (!getAttachmentsByTag(modelId, Attachment.TAG_IMAGE).isEmpty()) {
+			modelResource.setHasImage(true);
+		}
+		
+		if (!getAttachmentsByTag(modelId, Attachment.TAG_IMPORTED).isEmpty()) {
+			modelResource.setImported(true);
 		}
+
+		return modelResource;
 	}
 
 	public void setSession(Session session) {
 		this.session = session;
+		this.modelCache.invalidateAll();
+	}
+	
+	/**
+	 * @param maxContentSize maximum total size in bytes of the DSL content of all cached models
+	 */
+	@org.springframework.beans.factory.annotation.Value("${repo.config.modelCacheSize:16777216}")
+	public void setModelCacheSize(long maxContentSize) {
+		this.modelCache = new ModelResourceCache(maxContentSize);
+	}
+	
+	/**
+	 * @return cache of parsed models, e.g. to read its hit and miss counts
+	 */
+	public ModelResourceCache getModelCache() {
+		return modelCache;
 	}
 
 	@Override
 	public List<ModelInfo> getMappingModelsForTargetPlatform(ModelId modelId, String targetPlatform) {
 		List<ModelInfo> mappingResources = new ArrayList<>();
-		ModelInfo modelResource = getById(modelId);
-		if (modelResource != null) {
-			for (ModelId referenceeModelId : modelResource.getReferencedBy()) {
-				ModelInfo referenceeModelResources = getById(referenceeModelId);
-				if (referenceeModelResources.getType() == ModelType.Mapping
-						&& isTargetPlatformMapping(referenceeModelResources, targetPlatform)) {
-					mappingResources.add(referenceeModelResources);
+		try {
+			ModelIdHelper modelIdHelper = new ModelIdHelper(modelId);
+			Node modelFileNode = session.getNode(modelIdHelper.getFullPath()).getNodes(FILE_NODES).nextNode();
+			collectMappingModels(modelFileNode, targetPlatform, new HashSet<>(), mappingResources);
+		} catch (PathNotFoundException e) {
+			return mappingResources;
+		} catch (RepositoryException e) {
+			throw new FatalModelRepositoryException("Something went wrong accessing the repository", e);
+		}
+		return mappingResources;
+	}
+
+	/**
+	 * Walks the reference graph that the sequencer maintains in the repository and collects the mappings of the given
+	 * target platform for the model and all of its dependencies. Only the matching mappings are loaded.
+	 */
+	private void collectMappingModels(Node modelFileNode, String targetPlatform, Set<String> visited,
+			List<ModelInfo> mappingResources) throws RepositoryException {
+		if (!visited.add(modelFileNode.getIdentifier())) {
+			return;
+		}
+
+		PropertyIterator propIter = modelFileNode.getReferences();
+		while (propIter.hasNext()) {
+			Node referencedByFileNode = propIter.nextProperty().getParent();
+			if (isMappingNode(referencedByFileNode) && visited.add(referencedByFileNode.getIdentifier())) {
+				ModelId mappingId = ModelIdHelper.fromPath(referencedByFileNode.getParent().getPath());
+				if (targetPlatform.equalsIgnoreCase(getTargetPlatform(referencedByFileNode, mappingId))) {
+					mappingResources.add(getById(mappingId));
 				}
 			}
-			for (ModelId referencedModelId : modelResource.getReferences()) {
-				mappingResources.addAll(getMappingModelsForTargetPlatform(referencedModelId, targetPlatform));
-			}
 		}
-		return mappingResources;
+
+		for (Node referencedNode : getReferencedNodes(modelFileNode)) {
+			collectMappingModels(referencedNode, targetPlatform, visited, mappingResources);
+		}
 	}
 
-	private boolean isTargetPlatformMapping(ModelInfo model, String targetPlatform) {
+	/**
+	 * @return a copy of the parsed model
+	 * @see #getEMFResourceForUpdate(ModelId)
+	 */
+	public ModelResource getEMFResource(ModelId modelId) {
 		try {
-			ModelResource emfResource = getEMFResource(model.getId());
-			return emfResource.matchesTargetPlatform(targetPlatform);
+			return readModel(modelId).getResource();
 		} catch (Exception e) {
 			throw new FatalModelRepositoryException("Something went wrong accessing the repository", e);
 		}
 	}
-
-	public ModelResource getEMFResource(ModelId modelId) {
+	
+	/**
+	 * @return a newly parsed copy of the model that may be modified and stored via {@link #saveModel(ModelResource)}
+	 */
+	public ModelResource getEMFResourceForUpdate(ModelId modelId) {
 		try {
 			ModelIdHelper modelIdHelper = new ModelIdHelper(modelId);
 
 			Node folderNode = session.getNode(modelIdHelper.getFullPath());
-			Node fileNode = (Node) folderNode.getNodes().next();
+			Node fileNode = (Node) folderNode.getNodes(FILE_NODES).next();
 			Node fileItem = (Node) fileNode.getPrimaryItem();
 			InputStream is = fileItem.getProperty("jcr:data").getBinary().getStream();
 			return (ModelResource) ModelParserFactory.getParser(fileNode.getName()).parse(is);
@@ -356,6 +686,7 @@ public class JcrModelRepository implements IModelRepository {
 			Item item = session.getItem(modelIdHelper.getFullPath());
 			item.remove();
 			session.save();
+			modelCache.invalidate(modelId);
 		} catch (RepositoryException e) {
 			throw new FatalModelRepositoryException("Problem occured removing the model", e);
 		}
@@ -383,6 +714,7 @@ public class JcrModelRepository implements IModelRepository {
 			fileNode.addMixin("mix:lastModified");
 			nodeConsumer.accept(fileNode);
 			session.save();
+			modelCache.invalidate(modelId);
 
 			return modelId;
 		} catch (RepositoryException e) {
@@ -404,6 +736,7 @@ public class JcrModelRepository implements IModelRepository {
 			Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(resource.toDSL()));
 			contentNode.setProperty("jcr:data", binary);
 			session.save();
+			modelCache.invalidate(resource.getId());
 		} catch (Exception e) {
 			throw new FatalModelRepositoryException("Problem occured removing the model", e);
 		}
@@ -444,6 +777,7 @@ public class JcrModelRepository implements IModelRepository {
 			Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(fileContent.getContent()));
 			contentNode.setProperty("jcr:data", binary);
 			session.save();
+			modelCache.invalidate(modelId);
 
 		} catch (PathNotFoundException e) {
 			throw new ModelNotFoundException("Could not find model with the given model id", e);
@@ -479,46 +813,55 @@ public class JcrModelRepository implements IModelRepository {
 	@Override
 	public void attachFile(ModelId modelId, FileContent fileContent, IUserContext userContext, Tag... tags) throws AttachmentException {
 
-		if (Arrays.asList(tags).stream().filter(tag -> tag.equals(Attachment.TAG_IMPORTED)).collect(Collectors.toList()).isEmpty()) {
+		if (!isImportedAttachment(tags)) {
 			attachmentValidator.validateAttachment(fileContent, modelId);
 		}
 		
 		try {
-			ModelIdHelper modelIdHelper = new ModelIdHelper(modelId);
-			Node modelFolderNode = session.getNode(modelIdHelper.getFullPath());
-
-			Node attachmentFolderNode = null;
-			if (!modelFolderNode.hasNode("attachments")) {
-				attachmentFolderNode = modelFolderNode.addNode("attachments", "nt:folder");
-			} else {
-				attachmentFolderNode = modelFolderNode.getNode("attachments");
-			}
-			
-			String[] tagIds = Arrays.asList(tags).stream().map(t -> t.getId()).collect(Collectors.toList())
-					.toArray(new String[tags.length]);
-			
-			Node contentNode = null;
-			if (attachmentFolderNode.hasNode(fileContent.getFileName())) {
-				Node attachmentNode = (Node) attachmentFolderNode.getNode(fileContent.getFileName());
-				attachmentNode.addMixin("vorto:meta");
-				attachmentNode.setProperty("vorto:tags", tagIds, PropertyType.STRING);
-				contentNode = (Node) attachmentNode.getPrimaryItem();
-			} else {
-				Node attachmentNode = attachmentFolderNode.addNode(fileContent.getFileName(), "nt:file");
-				attachmentNode.addMixin("vorto:meta");
-				attachmentNode.setProperty("vorto:tags", tagIds, PropertyType.STRING);
-				contentNode = attachmentNode.addNode("jcr:content", "nt:resource");
-			}
-			
-			Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(fileContent.getContent()));
-			contentNode.setProperty("jcr:data", binary);
+			stageAttachment(modelId, fileContent, tags);
 			session.save();
+			modelCache.invalidate(modelId);
 		} catch (PathNotFoundException e) {
 			throw new ModelNotFoundException("Model with ID "+modelId+" not found");
 		} catch (RepositoryException e) {
 			throw new FatalModelRepositoryException("Something went wrong accessing the repository", e);
 		}
 	}
+
+	private boolean isImportedAttachment(Tag... tags) {
+		return Arrays.asList(tags).stream().anyMatch(tag -> tag.equals(Attachment.TAG_IMPORTED));
+	}
+
+	private void stageAttachment(ModelId modelId, FileContent fileContent, Tag... tags) throws RepositoryException {
+		ModelIdHelper modelIdHelper = new ModelIdHelper(modelId);
+		Node modelFolderNode = session.getNode(modelIdHelper.getFullPath());
+
+		Node attachmentFolderNode = null;
+		if (!modelFolderNode.hasNode("attachments")) {
+			attachmentFolderNode = modelFolderNode.addNode("attachments", "nt:folder");
+		} else {
+			attachmentFolderNode = modelFolderNode.getNode("attachments");
+		}
+		
+		String[] tagIds = Arrays.asList(tags).stream().map(t -> t.getId()).collect(Collectors.toList())
+				.toArray(new String[tags.length]);
+		
+		Node contentNode = null;
+		if (attachmentFolderNode.hasNode(fileContent.getFileName())) {
+			Node attachmentNode = (Node) attachmentFolderNode.getNode(fileContent.getFileName());
+			attachmentNode.addMixin("vorto:meta");
+			attachmentNode.setProperty("vorto:tags", tagIds, PropertyType.STRING);
+			contentNode = (Node) attachmentNode.getPrimaryItem();
+		} else {
+			Node attachmentNode = attachmentFolderNode.addNode(fileContent.getFileName(), "nt:file");
+			attachmentNode.addMixin("vorto:meta");
+			attachmentNode.setProperty("vorto:tags", tagIds, PropertyType.STRING);
+			contentNode = attachmentNode.addNode("jcr:content", "nt:resource");
+		}
+		
+		Binary binary = session.getValueFactory().createBinary(new ByteArrayInputStream(fileContent.getContent()));
+		contentNode.setProperty("jcr:data", binary);
+	}
 	
 	@Override
 	public List<Attachment> getAttachments(ModelId modelId) {
@@ -609,6 +952,7 @@ public class JcrModelRepository implements IModelRepository {
 					Node attachmentNode = attachmentFolderNode.getNode(fileName);
 					attachmentNode.remove();
 					session.save();
+					modelCache.invalidate(modelId);
 					return true;
 				}
 			}
@@ -638,8 +982,7 @@ public class JcrModelRepository implements IModelRepository {
 				throw new ModelAlreadyExistsException();
 			} 
 			
-			ModelFileContent existingModelContent = this.getModelContent(existingId);
-			Model model = existingModelContent.getModel();
+			Model model = this.getEMFResourceForUpdate(existingId).getModel();
 			model.setVersion(newVersion);
 			ModelResource resource = new ModelResource(model);
 			try {
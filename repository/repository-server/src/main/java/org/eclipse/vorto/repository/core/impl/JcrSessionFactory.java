@@ -20,9 +20,15 @@ import javax.jcr.Session;
 
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
+ * Provides a session that delegates to a pooled session bound to the current thread. 
+ * Code running outside of web requests must access the repository within {@link JcrSessionPool#callInSession} 
+ * or {@link JcrSessionPool#runInSession}. Sessions of web requests are returned to the pool by 
+ * {@link org.eclipse.vorto.repository.web.JcrSessionFilter}.
+ * 
  * @author Alexander Edelmann - Robert Bosch (SEA) Pte. Ltd.
  */
 @Component
@@ -30,14 +36,22 @@ public class JcrSessionFactory implements FactoryBean<Session> {
 
     @Autowired
     private Repository repository;
-    private Session session;
+    
+    @Value("${repo.config.maxSessions:" + JcrSessionPool.DEFAULT_MAX_SESSIONS + "}")
+    private int maxSessions = JcrSessionPool.DEFAULT_MAX_SESSIONS;
+    
+    private JcrSessionPool sessionPool;
 
     @Override
     public Session getObject() throws Exception {
-        if (session == null) {
-            session = repository.login();
+        return getSessionPool().threadBoundSession();
+    }
+    
+    public synchronized JcrSessionPool getSessionPool() {
+        if (sessionPool == null) {
+            sessionPool = new JcrSessionPool(repository, maxSessions);
         }
-        return session;
+        return sessionPool;
     }
 
     @Override
@@ -51,8 +65,10 @@ public class JcrSessionFactory implements FactoryBean<Session> {
     }
 
     @PreDestroy
-    public void logout() throws Exception {
-        session.logout();
-        session = null;
+    public synchronized void logout() throws Exception {
+        if (sessionPool != null) {
+            sessionPool.close();
+            sessionPool = null;
+        }
     }
 }
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.jcr.Repository;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+
+import org.apache.log4j.Logger;
+import org.eclipse.vorto.repository.core.FatalModelRepositoryException;
+
+/**
+ * Bounded pool of JCR sessions. Sessions are bound to the calling thread for a unit of work, e.g. a web request, 
+ * so that concurrent requests work on separate sessions instead of sharing a single, non thread-safe session.
+ *
+ * Use {@link #threadBoundSession()} to obtain a session that always delegates to the session of the current thread.
+ * Code that accesses the repository outside of a web request, e.g. background jobs or worker threads, must run 
+ * in {@link #callInSession(Supplier)} or {@link #runInSession(Runnable)}, which return the session to the pool 
+ * when the work is done. Web requests release their session via {@link #releaseCurrentSession()} at the end of the request.
+ * 
+ */
+public class JcrSessionPool {
+
+	public static final int DEFAULT_MAX_SESSIONS = 32;
+	
+	private static final long BORROW_TIMEOUT_SECONDS = 30;
+	
+	private static Logger logger = Logger.getLogger(JcrSessionPool.class);
+	
+	private final Repository repository;
+	
+	private final int maxSessions;
+	
+	private final BlockingQueue<Session> idleSessions = new LinkedBlockingQueue<>();
+	
+	private final List<Session> allSessions = new ArrayList<>();
+	
+	private final AtomicInteger createdSessions = new AtomicInteger(0);
+	
+	private final ThreadLocal<Session> currentSession = new ThreadLocal<>();
+	
+	private final ThreadLocal<Boolean> inScope = new ThreadLocal<>();
+	
+	public JcrSessionPool(Repository repository, int maxSessions) {
+		this.repository = repository;
+		this.maxSessions = maxSessions;
+	}
+	
+	/**
+	 * @return session bound to the current thread, which is borrowed from the pool on first access 
+	 */
+	public Session getCurrentSession() {
+		Session session = currentSession.get();
+		if (session == null) {
+			session = borrow();
+			currentSession.set(session);
+		}
+		return session;
+	}
+	
+	/**
+	 * Returns the session of the current thread to the pool, discarding all changes that were not saved
+	 */
+	public void releaseCurrentSession() {
+		Session session = currentSession.get();
+		if (session != null) {
+			currentSession.remove();
+			release(session);
+		}
+	}
+	
+	/**
+	 * Runs the work with a session bound to the current thread, which is returned to the pool when the work is done.
+	 * If the thread already runs in a session scope or holds a session, e.g. of the current request, the work uses 
+	 * that session and leaves it bound to the thread.
+	 * 
+	 * @return result of the work
+	 */
+	public <T> T callInSession(Supplier<T> work) {
+		if (inScope.get() != null || currentSession.get() != null) {
+			return work.get();
+		}
+		
+		inScope.set(Boolean.TRUE);
+		try {
+			return work.get();
+		} finally {
+			inScope.remove();
+			releaseCurrentSession();
+		}
+	}
+	
+	/**
+	 * @see #callInSession(Supplier)
+	 */
+	public void runInSession(Runnable work) {
+		callInSession(() -> {
+			work.run();
+			return null;
+		});
+	}
+	
+	private Session borrow() {
+		Session session = idleSessions.poll();
+		if (session != null) {
+			return session;
+		}
+		
+		if (createdSessions.incrementAndGet() <= maxSessions) {
+			try {
+				session = repository.login();
+				synchronized (allSessions) {
+					allSessions.add(session);
+				}
+				return session;
+			} catch (RepositoryException e) {
+				createdSessions.decrementAndGet();
+				throw new FatalModelRepositoryException("Could not login to repository", e);
+			}
+		} 
+		createdSessions.decrementAndGet();
+		
+		try {
+			session = idleSessions.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (session == null) {
+			throw new FatalModelRepositoryException("Repository session pool exhausted: all " + maxSessions 
+					+ " sessions were in use for " + BORROW_TIMEOUT_SECONDS + " seconds. Consider increasing repo.config.maxSessions", null);
+		}
+		return session;
+	}
+	
+	private void release(Session session) {
+		try {
+			if (session.isLive() && session.hasPendingChanges()) {
+				session.refresh(false);
+			}
+		} catch (RepositoryException e) {
+			logger.warn("Could not discard pending changes of session, closing it", e);
+			session.logout();
+		}
+		
+		if (session.isLive()) {
+			idleSessions.offer(session);
+		} else {
+			synchronized (allSessions) {
+				allSessions.remove(session);
+			}
+			createdSessions.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * @return number of sessions that were opened by the pool and are not closed yet
+	 */
+	public int getSessionCount() {
+		return createdSessions.get();
+	}
+	
+	/**
+	 * @return number of open sessions that are currently not bound to any thread
+	 */
+	public int getIdleSessionCount() {
+		return idleSessions.size();
+	}
+	
+	public void close() {
+		synchronized (allSessions) {
+			for (Session session : allSessions) {
+				if (session.isLive()) {
+					session.logout();
+				}
+			}
+			allSessions.clear();
+		}
+		idleSessions.clear();
+		createdSessions.set(0);
+	}
+	
+	/**
+	 * @return session that delegates every call to the session of the calling thread. Calling logout 
+	 * on it returns the session of the calling thread to the pool.
+	 */
+	public Session threadBoundSession() {
+		return (Session) Proxy.newProxyInstance(getClass().getClassLoader(), 
+				new Class<?>[] { org.modeshape.jcr.api.Session.class }, new ThreadBoundSessionHandler());
+	}
+	
+	private class ThreadBoundSessionHandler implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "logout":
+					releaseCurrentSession();
+					return null;
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "ThreadBoundSession";
+				default:
+					try {
+						return method.invoke(getCurrentSession(), args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+			}
+		}
+	}
+}
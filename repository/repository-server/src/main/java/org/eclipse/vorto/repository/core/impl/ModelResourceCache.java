@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.vorto.core.api.model.model.Model;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.core.ModelResource;
+
+/**
+ * Bounded cache of parsed models together with their DSL content. Entries are only valid for the 
+ * modification time of the model node they were read from. The cache is bounded by the total size of the 
+ * cached DSL content and evicts the least recently used models first.
+ *
+ * Entries hand out copies of the cached content and model, so callers may modify what they get without 
+ * affecting the cache. The content and the model are copied separately, callers that only need the content do 
+ * not copy the model.
+ *
+ */
+public class ModelResourceCache {
+
+	public static final long DEFAULT_MAX_CONTENT_SIZE = 16 * 1024 * 1024;
+	
+	private final long maxContentSize;
+	
+	private final LinkedHashMap<ModelId, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+	
+	private long contentSize = 0;
+	
+	private long hitCount = 0;
+	
+	private long missCount = 0;
+	
+	private long evictionCount = 0;
+	
+	public ModelResourceCache(long maxContentSize) {
+		this.maxContentSize = maxContentSize;
+	}
+	
+	/**
+	 * @return cached entry or null if the model is not cached or was modified after it has been cached
+	 */
+	public synchronized Entry get(ModelId modelId, long lastModified) {
+		Entry entry = entries.get(modelId);
+		if (entry != null && entry.lastModified == lastModified) {
+			hitCount++;
+			return entry;
+		}
+		missCount++;
+		return null;
+	}
+	
+	/**
+	 * Caches the parsed model, unless its content alone exceeds the maximum content size of the cache
+	 * 
+	 * @return the entry for the given model
+	 */
+	public synchronized Entry put(ModelId modelId, long lastModified, String fileName, byte[] content, ModelResource resource) {
+		remove(modelId);
+		Entry entry = new Entry(lastModified, fileName, content, resource);
+		if (content.length > maxContentSize) {
+			return entry;
+		}
+		
+		entries.put(modelId, entry);
+		contentSize += content.length;
+		
+		Iterator<Map.Entry<ModelId, Entry>> iterator = entries.entrySet().iterator();
+		while (contentSize > maxContentSize && iterator.hasNext()) {
+			contentSize -= iterator.next().getValue().content.length;
+			iterator.remove();
+			evictionCount++;
+		}
+		return entry;
+	}
+	
+	public synchronized void invalidate(ModelId modelId) {
+		remove(modelId);
+	}
+	
+	public synchronized void invalidateAll() {
+		entries.clear();
+		contentSize = 0;
+	}
+	
+	private void remove(ModelId modelId) {
+		Entry removed = entries.remove(modelId);
+		if (removed != null) {
+			contentSize -= removed.content.length;
+		}
+	}
+	
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+	
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * @return total size in bytes of the cached DSL content
+	 */
+	public synchronized long getContentSize() {
+		return contentSize;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		return "ModelResourceCache [size=" + entries.size() + ", contentSize=" + contentSize + ", hitCount=" + hitCount
+				+ ", missCount=" + missCount + ", evictionCount=" + evictionCount + "]";
+	}
+
+	public static class Entry {
+		
+		private final long lastModified;
+		
+		private final String fileName;
+		
+		private final byte[] content;
+		
+		private final ModelResource resource;
+		
+		private Entry(long lastModified, String fileName, byte[] content, ModelResource resource) {
+			this.lastModified = lastModified;
+			this.fileName = fileName;
+			this.content = content;
+			this.resource = resource;
+		}
+
+		public String getFileName() {
+			return fileName;
+		}
+
+		/**
+		 * @return a copy of the cached DSL content
+		 */
+		public byte[] getContent() {
+			return content.clone();
+		}
+
+		/**
+		 * @return a copy of the cached model in a resource of its own, which is cheaper than parsing the content again
+		 */
+		public ModelResource getResource() {
+			Model model = resource.getModel();
+			Model copy = EcoreUtil.copy(model);
+			if (model.eResource() != null) {
+				Resource copyResource = new ResourceSetImpl().createResource(model.eResource().getURI());
+				copyResource.getContents().add(copy);
+			}
+			return new ModelResource(copy);
+		}
+	}
+}
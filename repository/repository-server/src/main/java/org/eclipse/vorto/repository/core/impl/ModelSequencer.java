@@ -27,6 +27,8 @@ import javax.jcr.Value;
 
 import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.api.ModelType;
+import org.eclipse.vorto.repository.core.ModelResource;
 import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
 import org.eclipse.vorto.repository.core.impl.utils.ModelIdHelper;
 import org.eclipse.vorto.repository.core.impl.utils.ModelReferencesHelper;
@@ -37,6 +39,7 @@ import org.springframework.core.io.ClassPathResource;
 
 /**
  * Model Sequencer inspects the uploaded DSL model and extracts all information that is supposed to be added as specific JCR properties and thus indexed for searching.
+ * Besides the references of the model, it stores the target platform of mapping models, so that mappings can be looked up without parsing them.
  * 
  * @author Alexander Edelmann - Robert Bosch (SEA) Pte. Ltd.
  */
@@ -69,6 +72,10 @@ public class ModelSequencer extends Sequencer {
 		outputNode.setProperty("vorto:version", modelResource.getId().getVersion());
 		outputNode.setProperty("vorto:namespace", modelResource.getId().getNamespace());
 		outputNode.setProperty("vorto:name", modelResource.getId().getName());
+		
+		if (modelResource instanceof ModelResource && modelResource.getType() == ModelType.Mapping) {
+			outputNode.setProperty("vorto:targetPlatform", ((ModelResource) modelResource).getTargetPlatform());
+		}
 				
 		ModelReferencesHelper referencesHelper = new ModelReferencesHelper(modelResource.getReferences());
 		if (referencesHelper.hasReferences()) {
@@ -18,6 +18,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
@@ -39,6 +41,8 @@ import com.google.inject.Injector;
  */
 public abstract class AbstractModelParser implements IModelParser {
 
+	private static final Map<Class<?>, Injector> INJECTORS = new ConcurrentHashMap<>();
+
 	private String fileName;
 
 	public AbstractModelParser(String fileName) {
@@ -47,7 +51,7 @@ public abstract class AbstractModelParser implements IModelParser {
 
 	@Override
 	public ModelInfo parse(InputStream is) {
-		XtextResourceSet resourceSet = getInjector().getInstance(XtextResourceSet.class);
+		XtextResourceSet resourceSet = createResourceSet();
 		resourceSet.addLoadOption(XtextResource.OPTION_RESOLVE_ALL, Boolean.TRUE);
 		resourceSet.addLoadOption(XtextResource.OPTION_ENCODING, "UTF-8");
 		Resource resource = resourceSet.createResource(URI.createURI("dummy:/" + fileName));
@@ -103,6 +107,25 @@ public abstract class AbstractModelParser implements IModelParser {
 		return grammarErrors;
 	}
 
-	protected abstract Injector getInjector();
+	private XtextResourceSet createResourceSet() {
+		return getInjector().getInstance(XtextResourceSet.class);
+	}
+
+	/**
+	 * @return the injector of the language, which is created once per parser type and shared by all parsers of
+	 *         that type
+	 */
+	private Injector getInjector() {
+		Injector injector = INJECTORS.get(getClass());
+		if (injector == null) {
+			// creating the injector registers the language in the global EMF registries, which are not thread-safe
+			synchronized (INJECTORS) {
+				injector = INJECTORS.computeIfAbsent(getClass(), parserType -> createInjector());
+			}
+		}
+		return injector;
+	}
+
+	protected abstract Injector createInjector();
 
 }
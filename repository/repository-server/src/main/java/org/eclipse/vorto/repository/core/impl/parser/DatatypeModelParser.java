@@ -28,7 +28,7 @@ public class DatatypeModelParser extends AbstractModelParser {
 	}		
 
 	@Override
-	protected Injector getInjector() {
+	protected Injector createInjector() {
 		return new DatatypeStandaloneSetup().createInjectorAndDoEMFRegistration();
 	}
 	
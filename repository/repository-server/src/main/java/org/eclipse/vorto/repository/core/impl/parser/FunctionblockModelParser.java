@@ -28,7 +28,7 @@ public class FunctionblockModelParser extends AbstractModelParser {
 	}
 
 	@Override
-	protected Injector getInjector() {
+	protected Injector createInjector() {
 		return new FunctionblockStandaloneSetup().createInjectorAndDoEMFRegistration();
 	}
 }
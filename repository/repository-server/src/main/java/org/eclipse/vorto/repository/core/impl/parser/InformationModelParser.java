@@ -28,7 +28,7 @@ public class InformationModelParser extends AbstractModelParser {
 	}
 
 	@Override
-	protected Injector getInjector() {
+	protected Injector createInjector() {
 		return new InformationModelStandaloneSetup().createInjectorAndDoEMFRegistration();
 	}
 }
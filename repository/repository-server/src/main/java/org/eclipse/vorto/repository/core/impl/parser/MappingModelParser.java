@@ -29,7 +29,7 @@ public class MappingModelParser extends AbstractModelParser {
 	}
 
 	@Override
-	protected Injector getInjector() {
+	protected Injector createInjector() {
 		return new MappingStandaloneSetup().createInjectorAndDoEMFRegistration();
 	}
 }
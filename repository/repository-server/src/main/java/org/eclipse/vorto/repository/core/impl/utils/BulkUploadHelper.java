@@ -19,12 +19,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -67,30 +68,52 @@ public class BulkUploadHelper {
 		
 		try {
 			/*
-			 * Create mapping function that will convert from a ModelInfo to an UploadModelResult using validators
+			 * Look up all models which the validators need from the repository at once
 			 */
-			Function<ModelInfo, ValidationReport> convertToValidationReport = createConvertToUploadModelResultFn(constructBulkUploadValidators(parseResult.validModels),
-					InvocationContext.create(user));
+			InvocationContext context = InvocationContext.create(user, resolveFromRepository(parseResult.validModels));
 			
 			/*
-			 * Convert parsed models to ValidationReport
+			 * Create mapping function that will convert from a ModelInfo to an UploadModelResult using validators
 			 */
-			Set<ValidationReport> validatedModelResults = parseResult.validModels.stream().map(convertToValidationReport).collect(Collectors.toSet()); 
+			Function<ModelInfo, ValidationReport> convertToValidationReport = createConvertToUploadModelResultFn(constructBulkUploadValidators(parseResult.validModels),
+					context);
 			
 			/*
-			 * Add everything to a Set to eliminate redundancy
+			 * Convert parsed models to ValidationReport, keeping the order of the zip entries
 			 */
-			Set<ValidationReport> validationReports = new HashSet<>();
-			validationReports.addAll(parseResult.invalidModels);
-			validationReports.addAll(validatedModelResults);
+			List<ValidationReport> validationReports = new ArrayList<>(parseResult.invalidModels);
+			parseResult.validModels.stream().map(convertToValidationReport).forEach(validationReports::add);
 			
-			return new ArrayList<>(validationReports);
+			return validationReports;
 
 		} catch (Exception e) {
 			throw new BulkUploadException("Invalid zip file", e);
 		} 
 	}
 	
+	/**
+	 * Looks up the meta data of the given models and of their direct references in the repository in one batch.
+	 * The references of models in the repository are not followed, because the repository only stores models 
+	 * whose references exist. The looked up models carry no references, so the validators do not walk them either.
+	 * 
+	 * @param models
+	 * @return the looked up models by their id, mapped to null if they do not exist in the repository
+	 */
+	private Map<ModelId, ModelInfo> resolveFromRepository(Set<ModelInfo> models) {
+		Set<ModelId> modelIds = new LinkedHashSet<>();
+		for (ModelInfo model : models) {
+			modelIds.add(model.getId());
+			modelIds.addAll(model.getReferences());
+		}
+		
+		Map<ModelId, ModelInfo> existingModels = repositoryService.getMetadataByIds(modelIds);
+		Map<ModelId, ModelInfo> resolvedModels = new HashMap<>();
+		for (ModelId modelId : modelIds) {
+			resolvedModels.put(modelId, existingModels.get(modelId));
+		}
+		return resolvedModels;
+	}
+	
 	private Function<ModelInfo, ValidationReport> createConvertToUploadModelResultFn(List<IModelValidator> bulkUploadValidators, InvocationContext context) {
 		return (modelInfo) -> {
 			try {
@@ -107,13 +130,43 @@ public class BulkUploadHelper {
 		Set<ModelInfo> validModels;
 	}
 	
+	private static class ZipEntryContent {
+		String fileName;
+		byte[] content;
+		
+		ZipEntryContent(String fileName, byte[] content) {
+			this.fileName = fileName;
+			this.content = content;
+		}
+	}
+	
+	private static class ParsedEntry {
+		ModelInfo model;
+		ValidationReport invalidReport;
+	}
+	
 	private ZipParseResult parseZipFile(byte[] content) {
 		assert(content != null);
 		
 		ZipParseResult parsingResult = new ZipParseResult();
 		
-		parsingResult.invalidModels = new HashSet<>();
-		parsingResult.validModels = new HashSet<>();
+		parsingResult.invalidModels = new LinkedHashSet<>();
+		parsingResult.validModels = new LinkedHashSet<>();
+		
+		List<ParsedEntry> parsedEntries = ParallelTaskRunner.map(readZipEntries(content), entry -> parseEntry(entry));
+		for (ParsedEntry parsedEntry : parsedEntries) {
+			if (parsedEntry.model != null) {
+				parsingResult.validModels.add(parsedEntry.model);
+			} else if (parsedEntry.invalidReport != null) {
+				parsingResult.invalidModels.add(parsedEntry.invalidReport);
+			}
+		}
+		
+		return parsingResult;
+	}
+	
+	private List<ZipEntryContent> readZipEntries(byte[] content) {
+		List<ZipEntryContent> entries = new ArrayList<>();
 		
 		ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(content));
 		ZipEntry entry = null;
@@ -121,20 +174,26 @@ public class BulkUploadHelper {
 		try {
 			while ((entry = zis.getNextEntry()) != null) {
 				if (!entry.isDirectory()) {
-					try {
-						parsingResult.validModels.add(ModelParserFactory.getParser(entry.getName()).parse(new ByteArrayInputStream(copyStream(zis,entry))));
-					} catch (ValidationException grammarProblem) {
-						parsingResult.invalidModels.add(ValidationReport.invalid(trytoCreateModelFromCorruptFile(entry.getName()), grammarProblem.getMessage()));
-					} catch(UnsupportedOperationException fileNotSupportedException) {
-						// Do nothing. Don't process the file
-					}
+					entries.add(new ZipEntryContent(entry.getName(), copyStream(zis, entry)));
 				}
 			}
 		} catch (IOException e) {
 			throw new BulkUploadException("IOException while getting next entry from zip file", e);
 		}
 		
-		return parsingResult;
+		return entries;
+	}
+	
+	private ParsedEntry parseEntry(ZipEntryContent entry) {
+		ParsedEntry parsedEntry = new ParsedEntry();
+		try {
+			parsedEntry.model = ModelParserFactory.getParser(entry.fileName).parse(new ByteArrayInputStream(entry.content));
+		} catch (ValidationException grammarProblem) {
+			parsedEntry.invalidReport = ValidationReport.invalid(trytoCreateModelFromCorruptFile(entry.fileName), grammarProblem.getMessage());
+		} catch(UnsupportedOperationException fileNotSupportedException) {
+			// Do nothing. Don't process the file
+		}
+		return parsedEntry;
 	}
 	
 	private ModelInfo trytoCreateModelFromCorruptFile(String fileName) {
@@ -15,8 +15,12 @@
 package org.eclipse.vorto.repository.core.impl.utils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import javax.jcr.RepositoryException;
@@ -24,7 +28,10 @@ import javax.jcr.Session;
 import javax.jcr.query.Query;
 import javax.jcr.query.QueryManager;
 
+import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.core.FatalModelRepositoryException;
+import org.eclipse.vorto.repository.core.SearchParameters;
+import org.eclipse.vorto.repository.core.SearchParameters.Sort;
 import org.springframework.stereotype.Component;
 
 /**
@@ -40,6 +47,8 @@ import org.springframework.stereotype.Component;
  * <li>version:
  * </ol>
  * 
+ * The utility does not keep any state between calls and can be shared by concurrent searches.
+ * 
  * @author shiv
  *
  */
@@ -80,21 +89,24 @@ public class ModelSearchUtil {
 
 	public final String VORTO_TYPE = "vorto:type";
 
-	public final String SOURCE = "[nt:file]";
+	/**
+	 * Models are selected from the vorto:meta mixin, so that indexes defined on the metadata columns can be used
+	 */
+	public final String SOURCE = "[vorto:meta]";
 
 	public final String SELECT_QUERY = "SELECT * FROM " + SOURCE + " WHERE ";
+	
+	/**
+	 * Metadata columns that are selected by paged searches and lookups by ids, see 
+	 * {@link #createPagedQueryFromExpression(Session, String, SearchParameters)}
+	 */
+	public static final String[] PROJECTED_COLUMNS = { "vorto:namespace", "vorto:name", "vorto:version", "vorto:type",
+			"vorto:displayname", "vorto:description", "vorto:state", "vorto:author", "jcr:created", "jcr:lastModified" };
 
 	public final String AND = "AND";
 
 	public final String OR = "OR";
 
-	/**
-	 * Map to store the search criterion present in the query expression with
-	 * their parameters mentioned in the expression before generating the JCR
-	 * Query search statement.
-	 */
-	private HashMap<String, ArrayList<String>> searchCriteriaParameterMap = new HashMap<>();
-
 	/**
 	 * The column names displayed on the main UI and the names with which the
 	 * corresponding columns are stored at the JCR are different.<br>
@@ -102,14 +114,16 @@ public class ModelSearchUtil {
 	 * JCR.<br>
 	 * This map keeps a track of all such mappings.
 	 */
-	private HashMap<String, String> map = new HashMap<>();
+	private final Map<String, String> map;
 
 	public ModelSearchUtil() {
+		Map<String, String> map = new HashMap<>();
 		map.put(SEARCH_FILTER_KEY_NAME, VORTO_DISPLAYNAME);
 		map.put(SEARCH_FILTER_KEY_NAMESPACE, VORTO_NAMESPACE);
 		map.put(SEARCH_FILTER_KEY_VERSION, VORTO_VERSION);
 		map.put(SEARCH_FILTER_KEY_AUTHOR, VORTO_AUTHOR);
 		map.put(SEARCH_FILTER_KEY_STATE, VORTO_STATE);
+		this.map = Collections.unmodifiableMap(map);
 	}
 
 	/**
@@ -120,7 +134,6 @@ public class ModelSearchUtil {
 	 * @return {@link SearchStrategy}
 	 */
 	public SearchStrategy getSearchStrategy(String queryExpression) {
-		searchCriteriaParameterMap.clear();
 		for (String string : SEARCH_FILTER_KEY_LIST) {
 			if (queryExpression.contains(string)) {
 				return SearchStrategy.FILTERED;
@@ -131,11 +144,12 @@ public class ModelSearchUtil {
 
 	/**
 	 * Parses the queryExpression to extract the relevant search criterion and
-	 * their parameters and creates a statement that can be converted to a
+	 * their parameters and creates a JCR-SQL2 statement that can be converted to a
 	 * {@link Query} by the {@link QueryManager} interface.
 	 * <p>
-	 * Returns the original queryExpression unmodified if no search criterion
-	 * are present. The search criterion currently supported are:-
+	 * If no search criterion are present, the expression is returned as it is, because it is executed as 
+	 * full-text search, see {@link #createQueryFromExpression(Session, String)}. The search criterion currently 
+	 * supported are:-
 	 * <ol>
 	 * <li>name:
 	 * <li>namespace:
@@ -159,64 +173,127 @@ public class ModelSearchUtil {
 	public String getJCRStatementQuery(String queryExpression) {
 		if (getSearchStrategy(queryExpression) == SearchStrategy.FULL_TEXT) {
 			return queryExpression;
+		}
+		StringBuilder stringBuilder = new StringBuilder(SELECT_QUERY);
+		appendConditions(stringBuilder, queryExpression, Collections.emptyList());
+		return stringBuilder.toString();
+	}
+	
+	/**
+	 * Creates a JCR-SQL2 statement for the search criterion as described in {@link #getJCRStatementQuery(String)}, 
+	 * restricted to the states and sorted as given by the search parameters. Only the {@link #PROJECTED_COLUMNS} are 
+	 * selected. A full-text search term is matched with CONTAINS on the metadata, because the full-text search 
+	 * language cannot be sorted.
+	 */
+	public String getJCRStatementQuery(String queryExpression, SearchParameters parameters) {
+		StringBuilder stringBuilder = new StringBuilder();
+		appendProjection(stringBuilder);
+		appendConditions(stringBuilder, queryExpression, parameters.getStates());
+		
+		stringBuilder.append(" ORDER BY ");
+		if (parameters.getSorting().isEmpty()) {
+			stringBuilder.append(SOURCE).append(".[jcr:created] DESC");
 		} else {
-			for (String string : SEARCH_FILTER_TYPE_LIST) {
-				if (queryExpression.contains(string)) {
-					ArrayList<String> arrayList = new ArrayList<>();
-					arrayList.add(string);
-					searchCriteriaParameterMap.put(VORTO_TYPE, arrayList);
-					break;
-				}
+			for (int i = 0; i < parameters.getSorting().size(); i++) {
+				Sort sort = parameters.getSorting().get(i);
+				stringBuilder.append(i > 0 ? ", " : "").append(SOURCE).append(".[")
+						.append(sort.getKey().getProperty()).append("]").append(sort.isAscending() ? " ASC" : " DESC");
+			}
+		}
+		return stringBuilder.toString();
+	}
+	
+	/**
+	 * Appends a select of the {@link #PROJECTED_COLUMNS} up to the WHERE keyword
+	 */
+	private void appendProjection(StringBuilder stringBuilder) {
+		stringBuilder.append("SELECT ");
+		for (int i = 0; i < PROJECTED_COLUMNS.length; i++) {
+			stringBuilder.append(i > 0 ? ", " : "").append(SOURCE).append(".[").append(PROJECTED_COLUMNS[i])
+					.append("] AS [").append(PROJECTED_COLUMNS[i]).append("]");
+		}
+		stringBuilder.append(" FROM ").append(SOURCE).append(" WHERE ");
+	}
+	
+	/**
+	 * Appends the search criterion or the full-text condition of the query expression, the state restriction and 
+	 * the condition that only selects model files
+	 */
+	private void appendConditions(StringBuilder stringBuilder, String queryExpression, List<String> states) {
+		if (getSearchStrategy(queryExpression) == SearchStrategy.FILTERED) {
+			appendSearchCriteria(stringBuilder, SOURCE, getSearchCriteria(queryExpression));
+		} else if (!queryExpression.trim().isEmpty() && !queryExpression.trim().equals("*")) {
+			stringBuilder.append("CONTAINS(").append(SOURCE).append(".*, '").append(escape(queryExpression.trim()))
+					.append("') ").append(AND).append(" ");
+		}
+		
+		if (!states.isEmpty()) {
+			stringBuilder.append(SOURCE).append(".[").append(VORTO_STATE).append("] IN ")
+					.append(getSearchCriteriaParametersAsString(states)).append(" ").append(AND).append(" ");
+		}
+		stringBuilder.append(SOURCE).append(".[").append(VORTO_TYPE).append("] IS NOT NULL");
+	}
+	
+	/**
+	 * Extracts the search criterion present in the query expression together with their parameters
+	 * 
+	 * @param queryExpression
+	 * @return map of search criterion to their parameters
+	 */
+	private Map<String, List<String>> getSearchCriteria(String queryExpression) {
+		Map<String, List<String>> searchCriteriaParameterMap = new HashMap<>();
+		for (String string : SEARCH_FILTER_TYPE_LIST) {
+			if (queryExpression.contains(string)) {
+				List<String> arrayList = new ArrayList<>();
+				arrayList.add(string);
+				searchCriteriaParameterMap.put(VORTO_TYPE, arrayList);
+				break;
 			}
-			String[] array = queryExpression.split("\\s+");
-			for (String string : array) {
-				for (String filter : SEARCH_FILTER_KEY_LIST) {
-					if (string.startsWith(filter)) {
-						addToSearchCriteriaParameterMap(filter, string.replace(filter, ""));
-					}
+		}
+		String[] array = queryExpression.split("\\s+");
+		for (String string : array) {
+			for (String filter : SEARCH_FILTER_KEY_LIST) {
+				if (string.startsWith(filter)) {
+					addToSearchCriteriaParameterMap(searchCriteriaParameterMap, filter, string.replace(filter, ""));
 				}
 			}
-			return buildJCRSearchQuery();
 		}
+		return searchCriteriaParameterMap;
 	}
 
 	/**
 	 * Function to add the search criteria parameters to the map as the query is
 	 * being parsed.
 	 * 
+	 * @param searchCriteriaParameterMap
 	 * @param key
 	 * @param value
 	 */
-	private void addToSearchCriteriaParameterMap(String key, String value) {
+	private void addToSearchCriteriaParameterMap(Map<String, List<String>> searchCriteriaParameterMap, String key,
+			String value) {
 		if (searchCriteriaParameterMap.containsKey(key)) {
-			ArrayList<String> arrayList = searchCriteriaParameterMap.get(key);
+			List<String> arrayList = searchCriteriaParameterMap.get(key);
 			arrayList.add(value);
 			searchCriteriaParameterMap.put(key, arrayList);
 		} else {
-			ArrayList<String> arrayList = new ArrayList<>();
+			List<String> arrayList = new ArrayList<>();
 			arrayList.add(value);
 			searchCriteriaParameterMap.put(key, arrayList);
 		}
 	}
 
 	/**
-	 * Builds a search query that can be converted to {@link Query} by the
-	 * {@link QueryManager} interface. <br>
-	 * This search query is built using the filters and their parameters
-	 * specified in the original query expression.
-	 * 
-	 * @return
+	 * Appends a condition followed by AND for every search criterion
 	 */
-	private String buildJCRSearchQuery() {
-		StringBuilder stringBuilder = new StringBuilder();
-		stringBuilder.append(SELECT_QUERY);
-		Iterator<Entry<String, ArrayList<String>>> iterator = searchCriteriaParameterMap.entrySet().iterator();
+	private void appendSearchCriteria(StringBuilder stringBuilder, String source,
+			Map<String, List<String>> searchCriteriaParameterMap) {
+		Iterator<Entry<String, List<String>>> iterator = searchCriteriaParameterMap.entrySet().iterator();
 		while (iterator.hasNext()) {
-			Entry<String, ArrayList<String>> entry = iterator.next();
+			Entry<String, List<String>> entry = iterator.next();
 			if (entry.getValue().isEmpty()) {
 				continue;
 			} else {
-				stringBuilder.append(SOURCE).append(".");
+				stringBuilder.append(source).append(".");
 				if (map.containsKey(entry.getKey())) {
 					stringBuilder.append("[").append(map.get(entry.getKey())).append("]");
 				} else {
@@ -230,8 +307,6 @@ public class ModelSearchUtil {
 				stringBuilder.append(" ").append(AND).append(" ");
 			}
 		}
-		stringBuilder.replace(stringBuilder.lastIndexOf(AND), stringBuilder.length() - 1, "");
-		return stringBuilder.toString();
 	}
 
 	/**
@@ -246,22 +321,26 @@ public class ModelSearchUtil {
 	 * @param arrayList
 	 * @return
 	 */
-	private String getSearchCriteriaParametersAsString(ArrayList<String> arrayList) {
+	private String getSearchCriteriaParametersAsString(List<String> arrayList) {
 		StringBuilder stringBuilder = new StringBuilder();
 		if (arrayList.isEmpty()) {
 			return "''";
 		} else if (arrayList.size() == 1) {
-			stringBuilder.append("'").append(arrayList.get(0)).append("'");
+			stringBuilder.append("'").append(escape(arrayList.get(0))).append("'");
 		} else {
 			stringBuilder.append("(");
 			for (String string : arrayList) {
-				stringBuilder.append("'").append(string).append("', ");
+				stringBuilder.append("'").append(escape(string)).append("', ");
 			}
 			stringBuilder.replace(stringBuilder.lastIndexOf(","), stringBuilder.length() - 1, "");
 			stringBuilder.append(")");
 		}
 		return stringBuilder.toString();
 	}
+	
+	private static String escape(String literal) {
+		return literal.replace("'", "''");
+	}
 
 	/**
 	 * Specifies the search strategies that can be applied to a model search
@@ -287,14 +366,60 @@ public class ModelSearchUtil {
 	public Query createQueryFromExpression(Session session, String queryExpression) {
 		try {
 			QueryManager queryManager = session.getWorkspace().getQueryManager();
-			String jcrStatementQuery = this.getJCRStatementQuery(queryExpression);
-			if (jcrStatementQuery.equals(queryExpression)) {
-				return queryManager.createQuery(jcrStatementQuery, org.modeshape.jcr.api.query.Query.FULL_TEXT_SEARCH);
-			} else {
-				return queryManager.createQuery(jcrStatementQuery, org.modeshape.jcr.api.query.Query.JCR_SQL2);
+			if (getSearchStrategy(queryExpression) == SearchStrategy.FULL_TEXT) {
+				return queryManager.createQuery(queryExpression, org.modeshape.jcr.api.query.Query.FULL_TEXT_SEARCH);
 			}
+			return queryManager.createQuery(getJCRStatementQuery(queryExpression), Query.JCR_SQL2);
 		} catch (RepositoryException repoException) {
 			throw new FatalModelRepositoryException("Could not create query from expression", repoException);
 		}
 	}
+
+	/**
+	 * Creates a query for the same models as {@link #createQueryFromExpression(Session, String)}, sorted and limited 
+	 * to the requested page
+	 * 
+	 * @param session
+	 * @param queryExpression
+	 * @param parameters
+	 * @return
+	 */
+	public Query createPagedQueryFromExpression(Session session, String queryExpression, SearchParameters parameters) {
+		try {
+			QueryManager queryManager = session.getWorkspace().getQueryManager();
+			Query query = queryManager.createQuery(getJCRStatementQuery(queryExpression, parameters), Query.JCR_SQL2);
+			query.setOffset(parameters.getOffset());
+			query.setLimit(parameters.getLimit());
+			return query;
+		} catch (RepositoryException repoException) {
+			throw new FatalModelRepositoryException("Could not create query from expression", repoException);
+		}
+	}
+	
+	/**
+	 * Creates a query that selects the {@link #PROJECTED_COLUMNS} of all given model ids at once
+	 * 
+	 * @param session
+	 * @param modelIds
+	 * @return
+	 */
+	public Query createQueryForModelIds(Session session, Collection<ModelId> modelIds) {
+		StringBuilder sb = new StringBuilder();
+		appendProjection(sb);
+		Iterator<ModelId> modelIdIterator = modelIds.iterator();
+		while (modelIdIterator.hasNext()) {
+			String path = new ModelIdHelper(modelIdIterator.next()).getFullPath();
+			sb.append("ISCHILDNODE(").append(SOURCE).append(", '").append(path.replace("'", "''")).append("')");
+			if (modelIdIterator.hasNext()) {
+				sb.append(" OR ");
+			}
+		}
+		
+		try {
+			QueryManager queryManager = session.getWorkspace().getQueryManager();
+			return queryManager.createQuery(sb.toString(), Query.JCR_SQL2);
+		} catch (RepositoryException repoException) {
+			throw new FatalModelRepositoryException("Could not create query for model ids", repoException);
+		}
+	}
 }
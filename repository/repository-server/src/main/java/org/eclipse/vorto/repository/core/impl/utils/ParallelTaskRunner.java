@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core.impl.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs CPU bound work, such as parsing uploaded models, on a bounded pool of worker threads.
+ * 
+ * Repository sessions are bound to the calling thread, so tasks accessing the model repository must 
+ * run within {@link org.eclipse.vorto.repository.core.impl.JcrSessionPool#callInSession}.
+ */
+public final class ParallelTaskRunner {
+
+	private static final int MAX_THREADS = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+	private static final ExecutorService EXECUTOR = createExecutor();
+
+	private ParallelTaskRunner() {
+	}
+
+	/**
+	 * Applies the given function to all inputs concurrently
+	 * 
+	 * @param inputs
+	 * @param function
+	 * @return the results in the same order as the given inputs
+	 */
+	public static <T, R> List<R> map(List<T> inputs, Function<T, R> function) {
+		List<R> results = new ArrayList<>(inputs.size());
+		if (inputs.size() <= 1) {
+			inputs.forEach(input -> results.add(function.apply(input)));
+			return results;
+		}
+
+		List<Future<R>> futures = new ArrayList<>(inputs.size());
+		for (T input : inputs) {
+			futures.add(EXECUTOR.submit(() -> function.apply(input)));
+		}
+
+		try {
+			for (Future<R> future : futures) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException("Parallel task failed", e.getCause());
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+		return results;
+	}
+
+	/**
+	 * Applies the given function to batches of the inputs concurrently, with at most the given number of batches. 
+	 * Every batch is processed by a single call of the function, e.g. to access the repository with one pooled 
+	 * session per batch.
+	 * 
+	 * @param inputs
+	 * @param maxBatches
+	 * @param function returns the results of a batch in the order of its inputs
+	 * @return the results in the same order as the given inputs
+	 */
+	public static <T, R> List<R> mapBatches(List<T> inputs, int maxBatches, Function<List<T>, List<R>> function) {
+		if (inputs.isEmpty()) {
+			return new ArrayList<>();
+		}
+		
+		int batchCount = Math.max(1, Math.min(maxBatches, inputs.size()));
+		List<List<T>> batches = new ArrayList<>(batchCount);
+		for (int i = 0; i < batchCount; i++) {
+			batches.add(new ArrayList<>());
+		}
+		for (int i = 0; i < inputs.size(); i++) {
+			batches.get(i % batchCount).add(inputs.get(i));
+		}
+		
+		List<List<R>> batchResults = map(batches, function);
+		List<R> results = new ArrayList<>(inputs.size());
+		for (int i = 0; i < inputs.size(); i++) {
+			results.add(batchResults.get(i % batchCount).get(i / batchCount));
+		}
+		return results;
+	}
+
+	private static ExecutorService createExecutor() {
+		final AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "vorto-parallel-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
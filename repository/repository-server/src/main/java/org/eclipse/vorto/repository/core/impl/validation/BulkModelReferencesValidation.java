@@ -48,7 +48,7 @@ public class BulkModelReferencesValidation extends ModelReferencesValidation {
 	public void validate(ModelInfo modelResource, InvocationContext context) throws ValidationException {
 		validateInRepository(modelResource,context);
 		//Validate other references in zip files.
-		validateInZipFiles(modelResource);
+		validateInZipFiles(modelResource, context);
 	}
 
 	private List<ModelId> validateInRepository(ModelInfo modelResource, InvocationContext context) {
@@ -61,17 +61,17 @@ public class BulkModelReferencesValidation extends ModelReferencesValidation {
 		return missingReferences;
 	}
 
-	private boolean isNotInRepository(ModelId modelId) {
-		return getModelRepository().getById(modelId) == null;
+	private boolean isNotInRepository(ModelId modelId, InvocationContext context) {
+		return context.getModel(modelId, getModelRepository()) == null;
 		
 	}
 
-	private void validateInZipFiles(ModelInfo modelResource) {
+	private void validateInZipFiles(ModelInfo modelResource, InvocationContext context) {
 		List<ModelId> references = modelResource.getReferences();
 		List<ModelId> missingReferences = new ArrayList<ModelId>();
 		for (ModelId modelId : references) {
 			if(!zipModelIds.contains(modelId)) {
-				if(isNotInRepository(modelId)) {
+				if(isNotInRepository(modelId, context)) {
 					missingReferences.add(modelId);
 				}	
 			}
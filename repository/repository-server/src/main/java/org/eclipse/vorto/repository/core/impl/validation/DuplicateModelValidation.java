@@ -38,7 +38,7 @@ public class DuplicateModelValidation implements IModelValidator {
 	@Override
 	public void validate(ModelInfo modelResource, InvocationContext context)
 			throws ValidationException {
-		ModelInfo existingModel = modelRepository.getById(modelResource.getId());
+		ModelInfo existingModel = context.getModel(modelResource.getId(), modelRepository);
 		if (existingModel != null && (!isAdmin(context) && !isAuthor(existingModel, context))) {
 			throw new ValidationException("Model already exists", modelResource);
 		}
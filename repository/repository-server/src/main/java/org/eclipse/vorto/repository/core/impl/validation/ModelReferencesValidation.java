@@ -42,7 +42,7 @@ public class ModelReferencesValidation implements IModelValidator {
 			throws ValidationException {
 		List<ModelId> missingReferences = new ArrayList<ModelId>();
 		if (!modelResource.getReferences().isEmpty()) {
-			checkReferencesRecursive(modelResource, missingReferences);
+			checkReferencesRecursive(modelResource, missingReferences, context);
 		}
 		
 		if (!missingReferences.isEmpty()) {
@@ -50,16 +50,16 @@ public class ModelReferencesValidation implements IModelValidator {
 		}
 	}
 	
-	private void checkReferencesRecursive(ModelInfo modelResource, List<ModelId> accumulator) {
+	private void checkReferencesRecursive(ModelInfo modelResource, List<ModelId> accumulator, InvocationContext context) {
 		for (ModelId modelId : modelResource.getReferences()) {
-			ModelInfo reference = modelRepository.getById(modelId);
+			ModelInfo reference = context.getModel(modelId, modelRepository);
 			if (reference == null) {
 				accumulator.add(modelId);
 			} else if (modelResource.getId().equals(reference.getId())) {
 				throw new ValidationException("Cyclic dependency detected for reference '"+reference.getId()+"'", modelResource);
 			} else {
 				if (modelResource.getType().canHandleReference(reference)) {
-					checkReferencesRecursive(reference, accumulator);
+					checkReferencesRecursive(reference, accumulator, context);
 				} else {
 					throw new ValidationException("Reference '"+reference.getId()+"' is not valid for this model type.", modelResource);
 				}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.generation;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Receives the output of a code generator while it is downloaded from the generator
+ * 
+ * @see IGeneratorService#generate(org.eclipse.vorto.repository.api.ModelId, String, java.util.Map, IGeneratedOutputHandler)
+ */
+@FunctionalInterface
+public interface IGeneratedOutputHandler {
+
+	/**
+	 * Handles the generated output
+	 * @param fileName file name of the generated output
+	 * @param size size of the output in bytes, or -1 if unknown
+	 * @param content stream of the output, only readable during the call
+	 * @throws IOException
+	 */
+	void handle(String fileName, long size, InputStream content) throws IOException;
+}
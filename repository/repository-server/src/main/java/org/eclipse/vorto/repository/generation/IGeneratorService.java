@@ -20,7 +20,6 @@ import java.util.Set;
 
 import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.api.exception.GenerationException;
-import org.eclipse.vorto.repository.api.generation.GeneratedOutput;
 import org.eclipse.vorto.repository.api.generation.GeneratorInfo;
 
 /**
@@ -69,12 +68,13 @@ public interface IGeneratorService {
 	Collection<GeneratorInfo> getMostlyUsedGenerators(int top);
 	
 	/**
-	 * Invokes a code generator for a information model Id 
+	 * Invokes a code generator for a information model Id and passes the output on as it is received, 
+	 * without holding it in memory
 	 * @param modelId information model Id
 	 * @param serviceKey target code generator
 	 * @param requestParams request params, can be null
-	 * @return actual generated output
-	 * @throws GenerationException if something goes wrong during code generation
+	 * @param handler receives the generated output
+	 * @throws GenerationException if something goes wrong during code generation, or the output could not be handled
 	 */
-	GeneratedOutput generate(ModelId modelId, String serviceKey, Map<String, String> requestParams);
+	void generate(ModelId modelId, String serviceKey, Map<String, String> requestParams, IGeneratedOutputHandler handler);
 }
@@ -29,24 +29,22 @@ import org.eclipse.vorto.repository.api.ModelInfo;
 import org.eclipse.vorto.repository.api.ModelType;
 import org.eclipse.vorto.repository.api.exception.GenerationException;
 import org.eclipse.vorto.repository.api.exception.ModelNotFoundException;
-import org.eclipse.vorto.repository.api.generation.GeneratedOutput;
 import org.eclipse.vorto.repository.api.generation.GeneratorInfo;
 import org.eclipse.vorto.repository.core.IModelRepository;
+import org.eclipse.vorto.repository.generation.IGeneratedOutputHandler;
 import org.eclipse.vorto.repository.generation.IGeneratorService;
 import org.modeshape.common.collection.Collections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
 import org.springframework.security.oauth2.provider.authentication.OAuth2AuthenticationDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -109,7 +107,7 @@ public class GenerationDelegateProxyService implements IGeneratorService {
 	}
 
 	@Override
-	public GeneratedOutput generate(ModelId modelId, String serviceKey, Map<String,String> requestParams) {
+	public void generate(ModelId modelId, String serviceKey, Map<String,String> requestParams, IGeneratedOutputHandler handler) {
 		ModelInfo modelResource = modelRepositoryService.getById(modelId);
 		if (modelResource == null) {
 			throw new ModelNotFoundException("Model with the given ID does not exist",null);
@@ -117,7 +115,6 @@ public class GenerationDelegateProxyService implements IGeneratorService {
 		if (modelResource.getType() == ModelType.Datatype || modelResource.getType() == ModelType.Mapping) {
 			throw new GenerationException("Provided model is neither an information model nor a function block model!");
 		}
-		restTemplate.getMessageConverters().add(new ByteArrayHttpMessageConverter());
 		Generator generatorEntity = getGenerator(serviceKey);
 		if (generatorEntity == null) {
 			throw new GenerationException("Generator with key "+serviceKey+" is not a registered generator");
@@ -125,16 +122,19 @@ public class GenerationDelegateProxyService implements IGeneratorService {
 		generatorEntity.increaseInvocationCount();
 		this.registeredGeneratorsRepository.save(generatorEntity);
 		
-		HttpEntity<String> entity = getUserToken().map(token -> {
-			HttpHeaders headers = new HttpHeaders();
-		    headers.add("Authorization", "Bearer " + token);
-		    return new HttpEntity<String>("parameters", headers);
-		}).orElse(null);
+		Optional<String> token = getUserToken();
 		
-	    ResponseEntity<byte[]> response = restTemplate.exchange(generatorEntity.getGenerationEndpointUrl() + attachRequestParams(requestParams), 
-	    		HttpMethod.GET, entity, byte[].class, modelId.getNamespace(), modelId.getName(), modelId.getVersion());
-		
-		return new GeneratedOutput(response.getBody(), extractFileNameFromHeader(response), response.getHeaders().getContentLength());
+		try {
+			restTemplate.execute(generatorEntity.getGenerationEndpointUrl() + attachRequestParams(requestParams), HttpMethod.GET, 
+				request -> token.ifPresent(value -> request.getHeaders().add("Authorization", "Bearer " + value)), 
+				response -> {
+					handler.handle(extractFileNameFromHeader(response.getHeaders()), response.getHeaders().getContentLength(), response.getBody());
+					return null;
+				}, modelId.getNamespace(), modelId.getName(), modelId.getVersion());
+		} catch (RestClientException e) {
+			LOGGER.error("Generation with generator " + serviceKey + " failed for " + modelId.getPrettyFormat(), e);
+			throw new GenerationException("Generator " + serviceKey + " failed to generate " + modelId.getPrettyFormat(), e);
+		}
 	}
 	
 	private Optional<String> getUserToken() {
@@ -166,15 +166,19 @@ public class GenerationDelegateProxyService implements IGeneratorService {
 		}
 	}
 
-	private String extractFileNameFromHeader(ResponseEntity<byte[]> entity) {
-		List<String> values = entity.getHeaders().get("content-disposition");
-		if (values.size() > 0) {
+	private String extractFileNameFromHeader(HttpHeaders headers) {
+		List<String> values = headers.get("content-disposition");
+		if (values != null && values.size() > 0) {
 			int indexOfFileNameStart = values.get(0).indexOf("=");
 			return values.get(0).substring(indexOfFileNameStart+1);
 		}
 		return "generated.output";
 	}
 
+	public void setRestTemplate(RestTemplate restTemplate) {
+		this.restTemplate = restTemplate;
+	}
+
 	private Generator getGenerator(String serviceKey) {
 		List<Generator> generators = this.registeredGeneratorsRepository.findByGeneratorKey(serviceKey);
 		if (!generators.isEmpty()) {
@@ -20,16 +20,21 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.log4j.Logger;
 import org.eclipse.vorto.repository.account.impl.IUserRepository;
 import org.eclipse.vorto.repository.account.impl.User;
+import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.api.ModelInfo;
 import org.eclipse.vorto.repository.api.ModelType;
 import org.eclipse.vorto.repository.api.attachment.Attachment;
@@ -38,12 +43,15 @@ import org.eclipse.vorto.repository.core.IModelRepository;
 import org.eclipse.vorto.repository.core.IUserContext;
 import org.eclipse.vorto.repository.core.ModelResource;
 import org.eclipse.vorto.repository.core.impl.ITemporaryStorage;
+import org.eclipse.vorto.repository.core.impl.JcrSessionFactory;
 import org.eclipse.vorto.repository.core.impl.StorageItem;
 import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
+import org.eclipse.vorto.repository.core.impl.utils.ParallelTaskRunner;
 import org.eclipse.vorto.repository.core.impl.utils.DependencyManager;
 import org.eclipse.vorto.repository.web.core.exceptions.BulkUploadException;
 import org.modeshape.common.collection.Collections;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 /**
  * Extend this class for Implementation of a special importer for Vorto
@@ -53,6 +61,8 @@ public abstract class AbstractModelImporter implements IModelImporter {
 
 	public static final long TTL_TEMP_STORAGE_INSECONDS = 60 * 5;
 	
+	public static final int DEFAULT_MAX_UPLOAD_SESSIONS = 2;
+	
 	private static Logger logger = Logger.getLogger(AbstractModelImporter.class);
 
 	@Autowired
@@ -63,6 +73,11 @@ public abstract class AbstractModelImporter implements IModelImporter {
 
 	@Autowired
 	private IUserRepository userRepository;
+	
+	@Autowired(required = false)
+	private JcrSessionFactory sessionFactory;
+	
+	private int maxUploadSessions = DEFAULT_MAX_UPLOAD_SESSIONS;
 
 	private Set<String> supportedFileExtensions = new HashSet<>();
 
@@ -87,6 +102,7 @@ public abstract class AbstractModelImporter implements IModelImporter {
 
 			ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(fileUpload.getContent()));
 			ZipEntry entry = null;
+			List<FileUpload> extractedFiles = new ArrayList<>();
 
 			try {
 				while ((entry = zis.getNextEntry()) != null) {
@@ -94,15 +110,16 @@ public abstract class AbstractModelImporter implements IModelImporter {
 							&& !entry.getName().substring(entry.getName().lastIndexOf("/") + 1).startsWith(".")) {
 						final FileUpload extractedFile = FileUpload.create(entry.getName(), copyStream(zis, entry));
 						if (getSupportedFileExtensions().contains(extractedFile.getFileExtension())) {
-							List<ValidationReport> validationResult = validate(extractedFile, user);
-							postValidate(validationResult, user);
-							reports.addAll(validationResult);
+							extractedFiles.add(extractedFile);
 						}
 					}
 				}
 			} catch (IOException e) {
 				throw new BulkUploadException("Problem while reading zip file during validation", e);
 			}
+			
+			validateAll(extractedFiles, user).forEach(reports::addAll);
+			postValidate(reports, user);
 		} else if (getSupportedFileExtensions().contains(fileUpload.getFileExtension())) {
 			List<ValidationReport> validationResult = this.validate(fileUpload, user);
 			postValidate(validationResult, user);
@@ -117,6 +134,22 @@ public abstract class AbstractModelImporter implements IModelImporter {
 		}
 	}
 
+	/**
+	 * Validates the extracted files concurrently on at most {@link #setMaxUploadSessions(int) maxUploadSessions} worker 
+	 * threads. Each worker validates its share of the files within one pooled repository session, so that a single 
+	 * upload cannot take all sessions of the pool. Without a session pool the files are validated sequentially on the 
+	 * current thread.
+	 */
+	private List<List<ValidationReport>> validateAll(List<FileUpload> extractedFiles, IUserContext user) {
+		if (sessionFactory == null) {
+			return extractedFiles.stream().map(extractedFile -> validate(extractedFile, user))
+					.collect(Collectors.toList());
+		}
+		return ParallelTaskRunner.mapBatches(extractedFiles, maxUploadSessions, batch -> sessionFactory.getSessionPool()
+				.callInSession(() -> batch.stream().map(extractedFile -> validate(extractedFile, user))
+						.collect(Collectors.toList())));
+	}
+
 	/**
 	 * Checks if the uploaded models already exist in the repository.
 	 * 
@@ -126,17 +159,35 @@ public abstract class AbstractModelImporter implements IModelImporter {
 	 *            currently performing the upload
 	 */
 	private void postValidate(List<ValidationReport> reports, IUserContext user) {
+		Map<ModelId, ModelInfo> existingModels = null;
+		try {
+			existingModels = findExistingModels(reports);
+		} catch (Exception e) {
+			logger.error("Error while looking up the uploaded models in the repository", e);
+			reports.stream().filter(report -> report.getModel() != null).forEach(report -> {
+				report.setMessage(new StatusMessage("Internal error while trying to import model [" + report.getModel().getId() + "]", MessageSeverity.WARNING));
+				report.setValid(false);
+			});
+			return;
+		}
+		
+		if (existingModels.isEmpty()) {
+			return;
+		}
+		
+		final Map<ModelId, ModelInfo> models = existingModels;
+		final boolean isAdmin = isAdmin(user);
 		reports.forEach(report -> {
 			if (report.getModel() != null) {
 				try {
-					ModelInfo m = this.modelRepository.getById(report.getModel().getId());
+					ModelInfo m = models.get(report.getModel().getId());
 					if (m != null) {
 						if (m.isReleased()) {
 							report.setMessage(ValidationReport.ERROR_MODEL_ALREADY_RELEASED);
 							report.setValid(false);
 						} else {
 							//TODO : Checking for hashedUsername is legacy and needs to be removed once full migration has taken place
-							if (isAdmin(user) || m.getAuthor().equals(user.getHashedUsername()) || m.getAuthor().equals(user.getUsername())) {
+							if (isAdmin || m.getAuthor().equals(user.getHashedUsername()) || m.getAuthor().equals(user.getUsername())) {
 								report.setMessage(ValidationReport.WARNING_MODEL_ALREADY_EXISTS);
 								report.setValid(true);
 							} else {
@@ -154,6 +205,15 @@ public abstract class AbstractModelImporter implements IModelImporter {
 
 		});
 	}
+	
+	private Map<ModelId, ModelInfo> findExistingModels(List<ValidationReport> reports) {
+		List<ModelId> modelIds = reports.stream().filter(report -> report.getModel() != null)
+				.map(report -> report.getModel().getId()).collect(Collectors.toList());
+		if (modelIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		return this.modelRepository.getMetadataByIds(modelIds);
+	}
 
 	private boolean isAdmin(IUserContext userContext) {
 		User user = getUserRepository().findByUsername(userContext.getUsername());
@@ -194,7 +254,8 @@ public abstract class AbstractModelImporter implements IModelImporter {
 			throw new ModelImporterException("No uploaded file found for handleId '" + uploadHandleId + "'");
 		}
 
-		List<ModelInfo> importedModels = new ArrayList<>();
+		List<ModelResource> resources = new ArrayList<>();
+		Map<ModelId, FileContent> importedFiles = new HashMap<>();
 
 		try {
 
@@ -207,47 +268,50 @@ public abstract class AbstractModelImporter implements IModelImporter {
 						if (!entry.isDirectory()
 								&& !entry.getName().substring(entry.getName().lastIndexOf("/") + 1).startsWith(".")) {
 							final FileUpload extractedFile = FileUpload.create(entry.getName(), copyStream(zis, entry));
-							List<ModelResource> resources = this.convert(extractedFile, user);
-
-							importedModels.addAll(sortAndSaveToRepository(resources, extractedFile, user));
-
+							addConverted(this.convert(extractedFile, user), extractedFile, resources, importedFiles);
 						}
 					}
 				} catch (IOException e) {
 					throw new BulkUploadException("Problem while reading zip file during validation", e);
 				}
 			} else {
-				List<ModelResource> resources = this.convert(uploadedItem.getValue(), user);
-				importedModels.addAll(sortAndSaveToRepository(resources, uploadedItem.getValue(), user));
+				addConverted(this.convert(uploadedItem.getValue(), user), uploadedItem.getValue(), resources,
+						importedFiles);
 			}
+
+			return sortAndSaveToRepository(resources, importedFiles, user);
 		} finally {
 			this.uploadStorage.remove(uploadHandleId);
 		}
+	}
 
-		return importedModels;
+	private void addConverted(List<ModelResource> converted, FileUpload originalFile, List<ModelResource> resources,
+			Map<ModelId, FileContent> importedFiles) {
+		for (ModelResource resource : converted) {
+			resources.add(resource);
+			getImportedFileAttachment(resource, originalFile)
+					.ifPresent(attachment -> importedFiles.put(resource.getId(), attachment));
+		}
 	}
 
-	private List<ModelInfo> sortAndSaveToRepository(List<ModelResource> resources, FileUpload extractedFile,
-			IUserContext user) {
-		List<ModelInfo> savedModels = new ArrayList<ModelInfo>();
+	/**
+	 * Saves all converted models in one batch, so that a bulk import results in a single repository commit.
+	 */
+	private List<ModelInfo> sortAndSaveToRepository(List<ModelResource> resources,
+			Map<ModelId, FileContent> importedFiles, IUserContext user) {
 		DependencyManager dm = new DependencyManager();
 		for (ModelResource resource : resources) {
 			dm.addResource(resource);
 		}
 
-		dm.getSorted().stream().forEach(resource -> {
-			try {
-				ModelInfo importedModel = this.modelRepository.save(resource.getId(),
-						((ModelResource) resource).toDSL(), createFileName(resource), user);
-				savedModels.add(importedModel);
-				postProcessImportedModel(importedModel,
-						new FileContent(extractedFile.getFileName(), extractedFile.getContent()),user);
-			} catch (Exception e) {
-				throw new ModelImporterException("Problem importing model", e);
-			}
-		});
+		List<ModelResource> sorted = dm.getSorted().stream().map(resource -> (ModelResource) resource)
+				.collect(Collectors.toList());
 
-		return savedModels;
+		try {
+			return this.modelRepository.saveAll(sorted, importedFiles, user, Attachment.TAG_IMPORTED);
+		} catch (Exception e) {
+			throw new ModelImporterException("Problem importing model", e);
+		}
 	}
 
 	protected boolean handleZipUploads() {
@@ -269,17 +333,20 @@ public abstract class AbstractModelImporter implements IModelImporter {
 
 	}
 
-	private String createFileName(ModelInfo resource) {
-		return resource.getId().getName() + resource.getType().getExtension();
-	}
-
-	protected void postProcessImportedModel(ModelInfo importedModel, FileContent originalFileContent, IUserContext user) {
-		getModelRepository().attachFile(importedModel.getId(), originalFileContent,user,Attachment.TAG_IMPORTED);
-		importedModel.setImported(true);
+	/**
+	 * Returns the original file which is attached to the imported model
+	 * 
+	 * @param importedModel the converted model
+	 * @param originalFile the uploaded file the model was converted from
+	 * @return the file to attach or empty if the original file should not be kept
+	 */
+	protected Optional<FileContent> getImportedFileAttachment(ModelResource importedModel, FileUpload originalFile) {
+		return Optional.of(new FileContent(originalFile.getFileName(), originalFile.getContent()));
 	}
 
 	/**
-	 * validates the given fileUpload content
+	 * validates the given fileUpload content. The files of a zip upload are validated concurrently, so
+	 * implementations must be thread-safe.
 	 * 
 	 * @param content
 	 * @param fileName
@@ -308,6 +375,17 @@ public abstract class AbstractModelImporter implements IModelImporter {
 	public void setUserRepository(IUserRepository userRepository) {
 		this.userRepository = userRepository;
 	}
+	
+	/**
+	 * @param maxUploadSessions maximum number of pooled repository sessions that a single upload validates with
+	 */
+	@Value("${repo.config.maxUploadSessions:" + DEFAULT_MAX_UPLOAD_SESSIONS + "}")
+	public void setMaxUploadSessions(int maxUploadSessions) {
+		if (maxUploadSessions <= 0) {
+			throw new IllegalArgumentException("maxUploadSessions must be positive");
+		}
+		this.maxUploadSessions = maxUploadSessions;
+	}
 
 	public ITemporaryStorage getUploadStorage() {
 		return uploadStorage;
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -132,7 +133,8 @@ public class VortoModelImporter extends AbstractModelImporter {
 	}
 
 	@Override
-	protected void postProcessImportedModel(ModelInfo importedModel, FileContent originalFileContent, IUserContext user) {
-		// no need to process the imported file further
+	protected Optional<FileContent> getImportedFileAttachment(ModelResource importedModel, FileUpload originalFile) {
+		// no need to keep the imported file
+		return Optional.empty();
 	}
 }
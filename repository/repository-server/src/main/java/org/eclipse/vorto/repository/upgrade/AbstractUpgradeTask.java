@@ -38,7 +38,7 @@ public abstract class AbstractUpgradeTask implements IUpgradeTask {
 	}
 	
 	protected ModelResource getModel(ModelId modelId) {
-		return ((JcrModelRepository)modelRepository).getEMFResource(modelId);
+		return ((JcrModelRepository)modelRepository).getEMFResourceForUpdate(modelId);
 	}
 	
 	protected void saveModel(ModelResource resource) {
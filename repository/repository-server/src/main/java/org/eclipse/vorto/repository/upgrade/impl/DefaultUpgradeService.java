@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 import javax.annotation.PostConstruct;
 
 import org.eclipse.vorto.repository.account.impl.User;
+import org.eclipse.vorto.repository.core.impl.JcrSessionFactory;
 import org.eclipse.vorto.repository.upgrade.IUpgradeService;
 import org.eclipse.vorto.repository.upgrade.IUpgradeTask;
 import org.eclipse.vorto.repository.upgrade.IUserUpgradeTask;
@@ -41,11 +42,23 @@ public class DefaultUpgradeService implements IUpgradeService {
 	@Autowired(required = false)
 	private List<IUserUpgradeTask> userUpgradeTasks;
 	
+	@Autowired(required = false)
+	private JcrSessionFactory sessionFactory;
+	
 	private static final Logger logger = LoggerFactory.getLogger(DefaultUpgradeService.class);
 	
 	@Override
 	@PostConstruct
 	public void installUpgrades() {
+		if (sessionFactory != null) {
+			// runs during startup, outside of any request that would return the repository session to the pool
+			sessionFactory.getSessionPool().runInSession(this::executeUpgradeTasks);
+		} else {
+			executeUpgradeTasks();
+		}
+	}
+	
+	private void executeUpgradeTasks() {
 		logger.info("Performing upgrade to the Vorto Repository and its content...");
 		for (IUpgradeTask task : tasks) {
 			if (!task.condition().isPresent() || task.condition().get().shouldExecuteTask()) {
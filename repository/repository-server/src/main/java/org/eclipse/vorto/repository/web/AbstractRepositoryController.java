@@ -15,12 +15,22 @@
 package org.eclipse.vorto.repository.web;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
@@ -37,6 +47,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.ServletWebRequest;
 
 public abstract class AbstractRepositoryController {
 	
@@ -96,46 +107,85 @@ public abstract class AbstractRepositoryController {
 	}
 
 	protected void addModelToZip(ZipOutputStream zipOutputStream, ModelId modelId) throws Exception {
-		ModelFileContent modelFile = modelRepository.getModelContent(modelId);
-		ModelInfo modelResource = modelRepository.getById(modelId);
-
-		try {
-			ZipEntry zipEntry = new ZipEntry(modelFile.getFileName());
-			zipOutputStream.putNextEntry(zipEntry);
-			zipOutputStream.write(modelFile.getContent());
-			zipOutputStream.closeEntry();
-		} catch (Exception ex) {
-			// entry possible exists already, so skipping TODO: ugly hack!!
+		writeZip(zipOutputStream, getModelIdsWithDependencies(Collections.singletonList(modelId)));
+	}
+	
+	/**
+	 * @return the given models followed by all their direct and indirect references, each model only once
+	 * @throws ModelNotFoundException if one of the models or one of their references does not exist
+	 */
+	protected Collection<ModelId> getModelIdsWithDependencies(Collection<ModelId> modelIds) {
+		return modelRepository.getLastModifiedWithDependencies(modelIds).keySet();
+	}
+	
+	/**
+	 * Reads the given models one after the other and writes each of them to the zip as soon as it is read
+	 */
+	protected void writeZip(ZipOutputStream zipOutputStream, Collection<ModelId> modelIds) throws IOException {
+		Set<String> entryNames = new HashSet<>();
+		for (ModelId modelId : modelIds) {
+			ModelFileContent modelFile = modelRepository.getModelContent(modelId);
+			if (entryNames.add(modelFile.getFileName())) {
+				zipOutputStream.putNextEntry(new ZipEntry(modelFile.getFileName()));
+				zipOutputStream.write(modelFile.getContent());
+				zipOutputStream.closeEntry();
+			}
 		}
-
-		for (ModelId reference : modelResource.getReferences()) {
-			addModelToZip(zipOutputStream, reference);
+	}
+	
+	protected void sendAsZipFile(final HttpServletRequest request, final HttpServletResponse response, 
+			final String fileName, List<ModelInfo> modelInfos) {
+		List<ModelId> modelIds = new ArrayList<>(modelInfos.size());
+		for (ModelInfo modelInfo : modelInfos) {
+			modelIds.add(modelInfo.getId());
 		}
+		sendZipWithAllDependencies(request, response, fileName, modelIds);
 	}
 	
-	protected void sendAsZipFile(final HttpServletResponse response, final String fileName, List<ModelInfo> modelInfos) {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		ZipOutputStream zos = new ZipOutputStream(baos);
-
-		try {
-			for (ModelInfo modelInfo : modelInfos) {
-				addModelToZip(zos, modelInfo.getId());
-			}
-
-			zos.close();
-			baos.close();
-		} catch (Exception ex) {
-			throw new RuntimeException(ex);
+	/**
+	 * Streams the zip containing the given models and their dependencies to the response. The response carries an ETag 
+	 * derived from the modification times of the model files, so that clients can revalidate the archive and receive 304 
+	 * without any model being read. The zip never keeps more than one model in memory.
+	 */
+	protected void sendZipWithAllDependencies(final HttpServletRequest request, final HttpServletResponse response, 
+			final String fileName, Collection<ModelId> modelIds) {
+		Map<ModelId, Long> lastModified = modelRepository.getLastModifiedWithDependencies(modelIds);
+		
+		// zip entries carry the time of the download, hence the archive is only semantically equivalent and the ETag is weak
+		String eTag = "W/\"" + createVersionDigest(lastModified) + "\"";
+		if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+			return;
 		}
 
 		response.setHeader(CONTENT_DISPOSITION, ATTACHMENT_FILENAME + fileName);
 		response.setContentType(APPLICATION_OCTET_STREAM);
 		try {
-			IOUtils.copy(new ByteArrayInputStream(baos.toByteArray()), response.getOutputStream());
+			ZipOutputStream zos = new ZipOutputStream(response.getOutputStream());
+			writeZip(zos, lastModified.keySet());
+			zos.finish();
 			response.flushBuffer();
 		} catch (IOException e) {
 			throw new RuntimeException("Error copying file.", e);
 		}
 	}
+	
+	/**
+	 * @return digest over the ids and modification times of the given models
+	 */
+	protected static String createVersionDigest(Map<ModelId, Long> lastModified) {
+		MessageDigest digest = newDigest();
+		for (Map.Entry<ModelId, Long> entry : lastModified.entrySet()) {
+			digest.update((entry.getKey().getPrettyFormat() + "@" + entry.getValue() + "\n").getBytes(StandardCharsets.UTF_8));
+		}
+		return new BigInteger(1, digest.digest()).toString(16);
+	}
+	
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 
 }
@@ -17,6 +17,8 @@ package org.eclipse.vorto.repository.web.api.v1;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -80,38 +82,34 @@ public class GeneratorController extends AbstractRepositoryController {
 	public void generateAndExtract(@ApiParam(value = "The iD of vorto model, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId, 
 							@ApiParam(value = "Service key for a specified platform, e.g. lwm2m", required = true) @PathVariable String serviceKey,
 							final HttpServletRequest request,
-							final HttpServletResponse response) {
+							final HttpServletResponse response) throws UnsupportedEncodingException {
 		
-		try {
-			GeneratedOutput generatedOutput = generatorService.generate(ModelId.fromPrettyFormat(modelId), 
-					URLDecoder.decode(serviceKey, "utf-8"), getRequestParams(request));
-			
-			String extractPath = getExtractPath(request);
+		String extractPath = getExtractPath(request);
 
+		generatorService.generate(ModelId.fromPrettyFormat(modelId), URLDecoder.decode(serviceKey, "utf-8"), getRequestParams(request), 
+				(fileName, size, content) -> {
 			if (extractPath == null || extractPath.trim().isEmpty()) {
-				writeToResponse(response, generatedOutput);
+				writeToResponse(response, fileName, size, content);
 				return;
 			}
 			 
-			if (generatedOutput.getFileName().endsWith(ZIPFILE_EXTENSION)) {
-				Optional<GeneratedOutput> extractionResult = extractFromZip(generatedOutput.getContent(), extractPath);
+			if (fileName.endsWith(ZIPFILE_EXTENSION)) {
+				Optional<GeneratedOutput> extractionResult = extractFromZip(content, extractPath);
 				if (extractionResult.isPresent()) {
 					writeToResponse(response, extractionResult.get());
 					return;
 				}
 			}
 			
-			response.sendError(HttpServletResponse.SC_NOT_FOUND);		
-		} catch (IOException e) {
-			throw new RuntimeException("Error copying file.", e);
-		}	
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+		});
 	}
 	
-	private Optional<GeneratedOutput> extractFromZip(byte[] zipFile, String filenameInZip) throws IOException {
+	private Optional<GeneratedOutput> extractFromZip(InputStream zipFile, String filenameInZip) throws IOException {
 		Objects.requireNonNull(zipFile);
 		Objects.requireNonNull(filenameInZip);
 		
-		ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zipFile));
+		ZipInputStream zipInputStream = new ZipInputStream(zipFile);
 		ZipEntry ze = null;
 		while ((ze = zipInputStream.getNextEntry()) != null) {
 			if (ze.getName().equals(filenameInZip)) {
@@ -147,25 +145,28 @@ public class GeneratorController extends AbstractRepositoryController {
 	public void generate( 	@ApiParam(value = "the vorto model ID, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId, 
 							@ApiParam(value = "generator key, e.g. lwm2m", required = true) @PathVariable String serviceKey, 
 							final HttpServletRequest request,
-							final HttpServletResponse response) {
+							final HttpServletResponse response) throws UnsupportedEncodingException {
 		Objects.requireNonNull(modelId, "modelID must not be null");
 		Objects.requireNonNull(serviceKey, "generator Key must not be null");
 
-		try {
-			GeneratedOutput generatedOutput = generatorService.generate(ModelId.fromPrettyFormat(modelId), URLDecoder.decode(serviceKey, "utf-8"), getRequestParams(request));
-			writeToResponse(response, generatedOutput);
-		} catch (IOException e) {
-			throw new RuntimeException("Error copying file.", e);
-		}
+		generatorService.generate(ModelId.fromPrettyFormat(modelId), URLDecoder.decode(serviceKey, "utf-8"), getRequestParams(request), 
+				(fileName, size, content) -> writeToResponse(response, fileName, size, content));
 	}
 
 	private void writeToResponse(final HttpServletResponse response, GeneratedOutput generatedOutput)
 			throws IOException {
-		response.setHeader(CONTENT_DISPOSITION, ATTACHMENT_FILENAME + generatedOutput.getFileName());
-		response.setContentLengthLong(generatedOutput.getSize());
+		writeToResponse(response, generatedOutput.getFileName(), generatedOutput.getSize(), new ByteArrayInputStream(generatedOutput.getContent()));
+	}
+	
+	private void writeToResponse(final HttpServletResponse response, String fileName, long size, InputStream content)
+			throws IOException {
+		response.setHeader(CONTENT_DISPOSITION, ATTACHMENT_FILENAME + fileName);
+		if (size >= 0) {
+			response.setContentLengthLong(size);
+		}
 		response.setContentType(APPLICATION_OCTET_STREAM);
 
-		IOUtils.copy(new ByteArrayInputStream(generatedOutput.getContent()), response.getOutputStream());
+		IOUtils.copy(content, response.getOutputStream());
 		response.flushBuffer();
 	}
 	
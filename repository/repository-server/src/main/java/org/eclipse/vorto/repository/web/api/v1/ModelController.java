@@ -15,28 +15,35 @@
 package org.eclipse.vorto.repository.web.api.v1;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.log4j.Logger;
 import org.eclipse.vorto.core.api.model.mapping.MappingModel;
+import org.eclipse.vorto.core.api.model.model.Model;
 import org.eclipse.vorto.repository.api.AbstractModel;
 import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.api.ModelType;
 import org.eclipse.vorto.repository.api.exception.ModelNotFoundException;
+import org.eclipse.vorto.repository.core.ModelFileContent;
 import org.eclipse.vorto.repository.core.impl.UserContext;
 import org.eclipse.vorto.repository.web.AbstractRepositoryController;
+import org.eclipse.vorto.repository.web.core.ModelContentCache;
 import org.eclipse.vorto.repository.web.core.ModelDtoFactory;
 import org.eclipse.vorto.repository.web.core.ModelRepositoryController;
 import org.eclipse.vorto.utilities.reader.IModelWorkspace;
+import org.eclipse.vorto.utilities.reader.ModelWorkspaceReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -44,6 +51,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -61,6 +72,12 @@ public class ModelController extends AbstractRepositoryController {
 
 	private static Logger logger = Logger.getLogger(ModelRepositoryController.class);
 	
+	@Autowired
+	private ModelContentCache contentCache;
+	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
 	@ApiOperation(value = "Returns a model by its full qualified model ID")
 	@ApiResponses(value = { @ApiResponse(code = 200, message = "Successful retrieval of model info"), @ApiResponse(code = 400, message = "Wrong input"),
 			@ApiResponse(code = 404, message = "Model not found"),
@@ -81,110 +98,101 @@ public class ModelController extends AbstractRepositoryController {
 				UserContext.user(SecurityContextHolder.getContext().getAuthentication().getName()));
 	}
 
-	@ApiOperation(value = "Returns the model content")
+	@ApiOperation(value = "Returns the model content", response = AbstractModel.class)
 	@ApiResponses(value = {@ApiResponse(code = 200, message = "Successful retrieval of model content"), @ApiResponse(code = 400, message = "Wrong input"),
 			@ApiResponse(code = 404, message = "Model not found") })
 	@PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN') or hasPermission(T(org.eclipse.vorto.repository.api.ModelId).fromPrettyFormat(#modelId),'model:get')")
 	@RequestMapping(value = "/{modelId:.+}/content", method = RequestMethod.GET)
-	public AbstractModel getModelContent(
-			@ApiParam(value = "The modelId of vorto model, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId) {
-
-		final ModelId modelID = ModelId.fromPrettyFormat(modelId);
-		if (this.modelRepository.getById(modelID) == null) {
-			throw new ModelNotFoundException("Model does not exist", null);
-		}
-		
-		byte[] modelContent = createZipWithAllDependencies(modelID);
+	public ResponseEntity<byte[]> getModelContent(
+			@ApiParam(value = "The modelId of vorto model, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId,
+			final HttpServletRequest request, final HttpServletResponse response) {
 
-		IModelWorkspace workspace = IModelWorkspace.newReader()
-				.addZip(new ZipInputStream(new ByteArrayInputStream(modelContent))).read();
-		return ModelDtoFactory.createResource(
-				workspace.get().stream().filter(p -> p.getName().equals(modelID.getName())).findFirst().get(), Optional.empty());
+		return getResolvedContent(ModelId.fromPrettyFormat(modelId), Optional.empty(), request, response);
 	}
 	
-	@ApiOperation(value = "Returns the model content including target platform specific attributes")
+	@ApiOperation(value = "Returns the model content including target platform specific attributes", response = AbstractModel.class)
 	@ApiResponses(value = {@ApiResponse(code = 200, message = "Successful retrieval of model content"), @ApiResponse(code = 400, message = "Wrong input"),
 			@ApiResponse(code = 404, message = "Model not found") })
 	@PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN') or hasPermission(T(org.eclipse.vorto.repository.api.ModelId).fromPrettyFormat(#modelId),'model:get')")
 	@RequestMapping(value = "/{modelId:.+}/content/{targetplatformKey}", method = RequestMethod.GET)
-	public AbstractModel getModelContentForTargetPlatform(
+	public ResponseEntity<byte[]> getModelContentForTargetPlatform(
 			@ApiParam(value = "The modelId of vorto model, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId,
-			@ApiParam(value = "The key of the targetplatform, e.g. lwm2m", required = true) final @PathVariable String targetplatformKey) {
+			@ApiParam(value = "The key of the targetplatform, e.g. lwm2m", required = true) final @PathVariable String targetplatformKey,
+			final HttpServletRequest request, final HttpServletResponse response) {
 
 		final ModelId modelID = ModelId.fromPrettyFormat(modelId);
 		List<ModelInfo> mappingResource = modelRepository
 				.getMappingModelsForTargetPlatform(modelID, targetplatformKey);
 		if (!mappingResource.isEmpty()) {
-			byte[] mappingContentZip = createZipWithAllDependencies(mappingResource.get(0).getId());
-			IModelWorkspace workspace = IModelWorkspace.newReader()
-					.addZip(new ZipInputStream(new ByteArrayInputStream(mappingContentZip))).read();
-
-			MappingModel mappingModel = (MappingModel) workspace.get().stream().filter(p -> p instanceof MappingModel)
-					.findFirst().get();
-
-			byte[] modelContent = createZipWithAllDependencies(modelID);
-
-			workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(new ByteArrayInputStream(modelContent)))
-					.read();
-
-			return ModelDtoFactory.createResource(
-					workspace.get().stream().filter(p -> p.getName().equals(modelID.getName())).findFirst().get(),
-					Optional.of(mappingModel));
+			return getResolvedContent(modelID, Optional.of(mappingResource.get(0).getId()), request, response);
 		} else {
-			return getModelContent(modelId);
+			return getModelContent(modelId, request, response);
 		}
 	}
 
-	private byte[] createZipWithAllDependencies(ModelId modelId) {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		ZipOutputStream zos = new ZipOutputStream(baos);
-
-		try {
-			addModelToZip(zos, modelId);
-
-			zos.close();
-			baos.close();
+	/**
+	 * Parses the model and the mapping together with all their dependencies in one workspace and creates the content 
+	 * from it. The content is cached as JSON for as long as the model files do not change. The version of the model 
+	 * files is derived from their modification times and sent as ETag, so that neither a cache hit nor the revalidation 
+	 * of a client reads any model file.
+	 * 
+	 * @return the JSON content or null if the content of the client is not modified
+	 */
+	private ResponseEntity<byte[]> getResolvedContent(ModelId modelId, Optional<ModelId> mappingId, HttpServletRequest request,
+			HttpServletResponse response) {
+		List<ModelId> modelIds = new ArrayList<>(2);
+		modelIds.add(modelId);
+		mappingId.ifPresent(modelIds::add);
+		Map<ModelId, Long> lastModified = modelRepository.getLastModifiedWithDependencies(modelIds);
+		String version = createVersionDigest(lastModified);
+		if (new ServletWebRequest(request, response).checkNotModified("\"" + version + "\"")) {
+			return null;
+		}
 
-			return baos.toByteArray();
+		byte[] content = contentCache.get(modelId, mappingId, version);
+		if (content == null) {
+			ModelWorkspaceReader reader = IModelWorkspace.newReader();
+			for (ModelId id : lastModified.keySet()) {
+				ModelFileContent modelFile = modelRepository.getModelContent(id);
+				reader.addFile(new ByteArrayInputStream(modelFile.getContent()),
+						ModelType.fromFileName(modelFile.getFileName()));
+			}
+			List<Model> models = reader.read().get();
 
-		} catch (Exception ex) {
-			throw new RuntimeException(ex);
+			Optional<MappingModel> mappingModel = mappingId.map(id -> (MappingModel) findModel(models, id));
+			content = toJson(ModelDtoFactory.createResource(findModel(models, modelId), mappingModel));
+			contentCache.put(modelId, mappingId, version, content);
 		}
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(content);
 	}
 	
-	@ApiOperation(value = "Returns the model content including target platform specific attributes for the given model- and mapping modelID")
+	private byte[] toJson(AbstractModel content) {
+		try {
+			return objectMapper.writeValueAsBytes(content);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Could not serialize model content", e);
+		}
+	}
+
+	private static Model findModel(List<Model> models, ModelId modelId) {
+		return models.stream()
+				.filter(p -> p.getName().equals(modelId.getName()) && p.getNamespace().equals(modelId.getNamespace())
+						&& p.getVersion().equals(modelId.getVersion()))
+				.findFirst().get();
+	}
+
+	@ApiOperation(value = "Returns the model content including target platform specific attributes for the given model- and mapping modelID", response = AbstractModel.class)
 	@ApiResponses(value = {@ApiResponse(code = 200, message = "Successful retrieval of model content"), @ApiResponse(code = 400, message = "Wrong input"),
 			@ApiResponse(code = 404, message = "Model not found") })
 	@PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN') or hasPermission(T(org.eclipse.vorto.repository.api.ModelId).fromPrettyFormat(#modelId),'model:get')")
 	@RequestMapping(value = "/{modelId:.+}/content/mappings/{mappingId:.+}", method = RequestMethod.GET)
-	public AbstractModel getModelContentByModelAndMappingId(
+	public ResponseEntity<byte[]> getModelContentByModelAndMappingId(
 			@ApiParam(value = "The model ID (prettyFormat)", required = true) final @PathVariable String modelId,
-			@ApiParam(value = "The mapping Model ID (prettyFormat)", required = true) final @PathVariable String mappingId) {
-
-		ModelInfo vortoModelInfo = modelRepository.getById(ModelId.fromPrettyFormat(modelId));
-		ModelInfo mappingModelInfo = modelRepository.getById(ModelId.fromPrettyFormat(mappingId));
-
-		if (vortoModelInfo == null) {
-			throw new ModelNotFoundException("Could not find vorto model with ID: " + modelId);
-		} else if (mappingModelInfo == null) {
-			throw new ModelNotFoundException("Could not find mapping with ID: " + mappingId);
-
-		}
-
-		byte[] mappingContentZip = createZipWithAllDependencies(mappingModelInfo.getId());
-		IModelWorkspace workspace = IModelWorkspace.newReader()
-				.addZip(new ZipInputStream(new ByteArrayInputStream(mappingContentZip))).read();
-		MappingModel mappingModel = (MappingModel) workspace.get().stream().filter(p -> p instanceof MappingModel)
-				.findFirst().get();
-
-		byte[] modelContent = createZipWithAllDependencies(vortoModelInfo.getId());
-		workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(new ByteArrayInputStream(modelContent)))
-				.read();
-
-		return ModelDtoFactory.createResource(workspace.get().stream()
-				.filter(p -> p.getName().equals(vortoModelInfo.getId().getName())).findFirst().get(),
-				Optional.of(mappingModel));
+			@ApiParam(value = "The mapping Model ID (prettyFormat)", required = true) final @PathVariable String mappingId,
+			final HttpServletRequest request, final HttpServletResponse response) {
 
+		return getResolvedContent(ModelId.fromPrettyFormat(modelId), Optional.of(ModelId.fromPrettyFormat(mappingId)),
+				request, response);
 	}
 	
 	@ApiOperation(value = "Downloads the model file")
@@ -195,7 +203,7 @@ public class ModelController extends AbstractRepositoryController {
 	public void downloadModelById(
 			@ApiParam(value = "The modelId of vorto model, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId,
 			@ApiParam(value = "Set true if dependencies shall be included", required = false) final @RequestParam(value = "includeDependencies", required = false) boolean includeDependencies,
-			final HttpServletResponse response) {
+			final HttpServletRequest request, final HttpServletResponse response) {
 
 		Objects.requireNonNull(modelId, "modelId must not be null");
 
@@ -204,16 +212,8 @@ public class ModelController extends AbstractRepositoryController {
 		logger.info("Download of Model file : [" + modelID.toString() + "]");
 
 		if (includeDependencies) {
-			byte[] zipContent = createZipWithAllDependencies(modelID);
-			response.setHeader(CONTENT_DISPOSITION, ATTACHMENT_FILENAME + modelID.getNamespace() + "_"
-					+ modelID.getName() + "_" + modelID.getVersion() + ".zip");
-			response.setContentType(APPLICATION_OCTET_STREAM);
-			try {
-				IOUtils.copy(new ByteArrayInputStream(zipContent), response.getOutputStream());
-				response.flushBuffer();
-			} catch (IOException e) {
-				throw new RuntimeException("Error copying file.", e);
-			}
+			sendZipWithAllDependencies(request, response, modelID.getNamespace() + "_" + modelID.getName() + "_"
+					+ modelID.getVersion() + ".zip", Collections.singletonList(modelID));
 		} else {
 			createSingleModelContent(modelID, response);
 		}
@@ -21,8 +21,12 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.eclipse.vorto.repository.api.ModelInfo;
 import org.eclipse.vorto.repository.core.IUserContext;
+import org.eclipse.vorto.repository.core.SearchParameters;
+import org.eclipse.vorto.repository.core.SearchParameters.SortKey;
 import org.eclipse.vorto.repository.core.impl.UserContext;
 import org.eclipse.vorto.repository.web.AbstractRepositoryController;
 import org.eclipse.vorto.repository.web.core.ModelDtoFactory;
@@ -52,6 +56,14 @@ import io.swagger.annotations.ApiResponses;
 @RequestMapping(value = "/api/v1/search/models")
 public class ModelSearchController extends AbstractRepositoryController {
 	
+	/**
+	 * Response headers carrying the offset and limit of a paged search, so that the response body has the same 
+	 * shape with and without paging
+	 */
+	public static final String HEADER_PAGE_OFFSET = "X-Page-Offset";
+	
+	public static final String HEADER_PAGE_LIMIT = "X-Page-Limit";
+	
 	@Value("${server.config.authenticatedSearchMode:#{false}}")
 	private boolean authenticatedSearchMode = false;
 	
@@ -60,9 +72,21 @@ public class ModelSearchController extends AbstractRepositoryController {
 	@RequestMapping(method = RequestMethod.GET)
 	@PreAuthorize("!@modelSearchController.isAuthenticatedSearchMode() || isAuthenticated()")
 	public List<ModelInfo> searchByExpression(
-			@ApiParam(value = "a free-text search expression", required = true) @RequestParam("expression") String expression)
+			@ApiParam(value = "a free-text search expression", required = true) @RequestParam("expression") String expression,
+			@ApiParam(value = "index of the first model to return, enables paging", required = false) @RequestParam(value = "offset", required = false) Integer offset,
+			@ApiParam(value = "maximum number of models to return, enables paging", required = false) @RequestParam(value = "limit", required = false) Integer limit,
+			@ApiParam(value = "comma separated sort keys with optional direction, e.g. name:asc,created:desc", required = false) @RequestParam(value = "sort", required = false) String sort,
+			final HttpServletResponse response)
 			throws UnsupportedEncodingException {
 		IUserContext userContext = UserContext.user(SecurityContextHolder.getContext().getAuthentication().getName());
+		if (offset != null || limit != null || sort != null) {
+			SearchParameters parameters = createSearchParameters(offset, limit, sort);
+			response.setHeader(HEADER_PAGE_OFFSET, String.valueOf(parameters.getOffset()));
+			response.setHeader(HEADER_PAGE_LIMIT, String.valueOf(parameters.getLimit()));
+			return modelRepository.search(URLDecoder.decode(expression, "utf-8"), parameters).stream()
+					.map(resource -> ModelDtoFactory.createDto(resource, userContext)).collect(Collectors.toList());
+		}
+		
 		List<ModelInfo> modelResources = modelRepository.search(URLDecoder.decode(expression, "utf-8"));
 		return modelResources.stream()
 				.filter(model -> isReleased(model)
@@ -78,6 +102,24 @@ public class ModelSearchController extends AbstractRepositoryController {
 				}).collect(Collectors.toList());
 	}
 
+	private SearchParameters createSearchParameters(Integer offset, Integer limit, String sort) {
+		SearchParameters parameters = SearchParameters.page(offset != null ? offset : 0,
+				limit != null ? limit : SearchParameters.DEFAULT_LIMIT);
+		if (sort != null) {
+			for (String sortKey : sort.split(",")) {
+				String[] keyAndDirection = sortKey.trim().split(":");
+				boolean ascending = keyAndDirection.length < 2 || !"desc".equalsIgnoreCase(keyAndDirection[1]);
+				parameters.sortBy(SortKey.valueOf(keyAndDirection[0].toUpperCase()), ascending);
+			}
+		}
+		
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (!isUser(authentication) && !isAdmin(authentication)) {
+			parameters.withState(SimpleWorkflowModel.STATE_RELEASED.getName());
+		}
+		return parameters;
+	}
+
 	private boolean isAdmin(Authentication authentication) {
 		Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
 		return authorities.contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
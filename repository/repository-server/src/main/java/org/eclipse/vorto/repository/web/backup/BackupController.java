@@ -24,6 +24,7 @@ import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.vorto.repository.backup.IModelBackupService;
 import org.eclipse.vorto.repository.web.AbstractRepositoryController;
+import org.eclipse.vorto.repository.web.core.ModelContentCache;
 import org.eclipse.vorto.repository.web.core.exceptions.UploadTooLargeException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,6 +41,9 @@ public class BackupController extends AbstractRepositoryController {
 	
 	@Autowired
 	private IModelBackupService backupService;
+	
+	@Autowired
+	private ModelContentCache contentCache;
 		
 	@Value("${repo.config.maxBackupSize}")
 	private long maxBackupSize;
@@ -72,6 +76,7 @@ public class BackupController extends AbstractRepositoryController {
 			throw new UploadTooLargeException("backup", maxBackupSize);
 		}
 		
-		this.backupService.restore(file.getBytes());		
+		this.backupService.restore(file.getBytes());
+		contentCache.invalidateAll();
 	}
 }
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.web.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.vorto.repository.api.ModelId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the resolved content of a model, optionally enriched by a mapping, as the serialized JSON returned by the 
+ * content endpoints. Every entry remembers the version of the model files it was created from, i.e. a digest over
+ * their ids and modification times, and is only returned as long as the same version is requested. The least recently 
+ * used entries are evicted first. Entries of models that are changed or removed through the web endpoints are 
+ * invalidated right away, so that they do not occupy the cache.
+ * 
+ * Cached content is shared and must not be modified by callers.
+ */
+@Component
+public class ModelContentCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+	
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+	
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(64, 0.75f, true) {
+		
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > maxEntries;
+		}
+	};
+	
+	/**
+	 * @return cached JSON content or null if the content is not cached or was created from another version of the model files
+	 */
+	public synchronized byte[] get(ModelId modelId, Optional<ModelId> mappingId, String version) {
+		Entry entry = entries.get(createKey(modelId, mappingId));
+		if (entry != null && entry.version.equals(version)) {
+			return entry.content;
+		}
+		return null;
+	}
+	
+	public synchronized void put(ModelId modelId, Optional<ModelId> mappingId, String version, byte[] content) {
+		entries.put(createKey(modelId, mappingId), new Entry(modelId, mappingId, version, content));
+	}
+	
+	/**
+	 * Removes the content of the given model and all content that was created with the given model as mapping
+	 */
+	public synchronized void invalidate(ModelId modelId) {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (entry.modelId.equals(modelId) || entry.mappingId.map(modelId::equals).orElse(false)) {
+				iterator.remove();
+			}
+		}
+	}
+	
+	public synchronized void invalidateAll() {
+		entries.clear();
+	}
+	
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	@Value("${repo.config.contentCacheSize:" + DEFAULT_MAX_ENTRIES + "}")
+	public synchronized void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+	
+	private static String createKey(ModelId modelId, Optional<ModelId> mappingId) {
+		return modelId.getPrettyFormat() + "|" + mappingId.map(ModelId::getPrettyFormat).orElse("");
+	}
+	
+	private static class Entry {
+		
+		private final ModelId modelId;
+		
+		private final Optional<ModelId> mappingId;
+		
+		private final String version;
+		
+		private final byte[] content;
+		
+		private Entry(ModelId modelId, Optional<ModelId> mappingId, String version, byte[] content) {
+			this.modelId = modelId;
+			this.mappingId = mappingId;
+			this.version = version;
+			this.content = content;
+		}
+	}
+}
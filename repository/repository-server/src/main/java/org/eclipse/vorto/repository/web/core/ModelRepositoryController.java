@@ -20,6 +20,7 @@ import java.security.Principal;
 import java.util.List;
 import java.util.Objects;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
@@ -72,6 +73,9 @@ public class ModelRepositoryController extends AbstractRepositoryController  {
 
 	@Autowired
 	private IWorkflowService workflowService;
+	
+	@Autowired
+	private ModelContentCache contentCache;
 
 	private static Logger logger = Logger.getLogger(ModelRepositoryController.class);
 
@@ -141,6 +145,7 @@ public class ModelRepositoryController extends AbstractRepositoryController  {
 			if (validationReport.isValid()) {
 				this.modelRepository.save(modelInfo.getId(), content.getContentDsl().getBytes(),
 						modelInfo.getId().getName() + modelInfo.getType().getExtension(), userContext);
+				contentCache.invalidate(modelInfo.getId());
 			}
 			return validationReport;
 		} catch (ValidationException validationException) {
@@ -192,13 +197,14 @@ public class ModelRepositoryController extends AbstractRepositoryController  {
 	public void deleteModelResource(final @PathVariable String modelId) {
 		Objects.requireNonNull(modelId, "modelId must not be null");
 		this.modelRepository.removeModel(ModelId.fromPrettyFormat(modelId));
+		contentCache.invalidate(ModelId.fromPrettyFormat(modelId));
 	}
 	
 	
 	// ##################### Downloads ################################
 
 	@RequestMapping(value = { "/mine/download" }, method = RequestMethod.GET)
-	public void getUserModels(Principal user, final HttpServletResponse response) {
+	public void getUserModels(Principal user, final HttpServletRequest request, final HttpServletResponse response) {
 		//TODO : Checking for hashedUsername is legacy and needs to be removed once full migration has taken place
 		List<ModelInfo> userModels = this.modelRepository
 				.search("author:" + UserContext.user(user.getName()).getHashedUsername());
@@ -208,7 +214,7 @@ public class ModelRepositoryController extends AbstractRepositoryController  {
 
 		logger.info("Exporting information models for " + user.getName() + " results: " + userModels.size());
 
-		sendAsZipFile(response, user.getName() + "-models.zip", userModels);
+		sendAsZipFile(request, response, user.getName() + "-models.zip", userModels);
 	}
 	
 	@ApiOperation(value = "Getting all mapping resources for the given model")
@@ -217,7 +223,7 @@ public class ModelRepositoryController extends AbstractRepositoryController  {
 	public void downloadMappingsForPlatform(
 			@ApiParam(value = "The model ID of vorto model, e.g. com.mycompany.Car:1.0.0", required = true) final @PathVariable String modelId,
 			@ApiParam(value = "The name of target platform, e.g. lwm2m", required = true) final @PathVariable String targetPlatform,
-			final HttpServletResponse response) {
+			final HttpServletRequest request, final HttpServletResponse response) {
 		Objects.requireNonNull(modelId, "model ID must not be null");
 
 		final ModelId modelID = ModelId.fromPrettyFormat(modelId);
@@ -226,6 +232,6 @@ public class ModelRepositoryController extends AbstractRepositoryController  {
 
 		final String fileName = modelID.getNamespace() + "_" + modelID.getName() + "_" + modelID.getVersion() + ".zip";
 
-		sendAsZipFile(response, fileName, mappingResources);
+		sendAsZipFile(request, response, fileName, mappingResources);
 	}
 }
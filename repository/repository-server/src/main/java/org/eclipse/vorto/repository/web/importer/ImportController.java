@@ -25,6 +25,7 @@ import org.eclipse.vorto.repository.importer.FileUpload;
 import org.eclipse.vorto.repository.importer.IModelImportService;
 import org.eclipse.vorto.repository.importer.IModelImporter;
 import org.eclipse.vorto.repository.importer.UploadModelResult;
+import org.eclipse.vorto.repository.web.core.ModelContentCache;
 import org.eclipse.vorto.repository.web.core.exceptions.UploadTooLargeException;
 import org.eclipse.vorto.repository.web.importer.dto.ImporterInfo;
 import org.eclipse.vorto.repository.web.importer.dto.UploadModelResponse;
@@ -67,6 +68,9 @@ public class ImportController {
 
 	@Autowired
 	private IWorkflowService workflowService;
+	
+	@Autowired
+	private ModelContentCache contentCache;
 
 	@RequestMapping(method = RequestMethod.POST)
 	public ResponseEntity<UploadModelResponse> uploadModel(
@@ -119,6 +123,7 @@ public class ImportController {
 
 			List<ModelInfo> importedModels = importer.doImport(handleId, getUserContext());
 			for (ModelInfo modelInfo : importedModels) {
+				contentCache.invalidate(modelInfo.getId());
 				workflowService.start(modelInfo.getId());
 			}
 
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.jcr.Session;
+
+import org.apache.log4j.Logger;
+import org.eclipse.vorto.repository.AbstractIntegrationTest;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.core.impl.JcrSessionPool;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Runs concurrent reads against the repository through pooled, thread bound sessions
+ */
+public class ConcurrentModelRepositoryTest extends AbstractIntegrationTest {
+
+	private static final int THREADS = 8;
+	
+	private static final int REQUESTS = 200;
+	
+	private static Logger logger = Logger.getLogger(ConcurrentModelRepositoryTest.class);
+	
+	private static final ModelId COLOR = ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0");
+	
+	private static final ModelId COLOR_LIGHT = ModelId.fromReference("org.eclipse.vorto.examples.fb.ColorLight", "1.0.0");
+	
+	private JcrSessionPool sessionPool;
+	
+	@After
+	public void closePool() {
+		if (sessionPool != null) {
+			sessionPool.close();
+		}
+	}
+	
+	@Test
+	public void testConcurrentReadsWithPooledSessions() throws Exception {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		
+		sessionPool = new JcrSessionPool(repository(), THREADS);
+		modelRepository.setSession(sessionPool.threadBoundSession());
+		
+		final byte[] expectedContent = sessionPool.callInSession(() -> modelRepository.getModelContent(COLOR).getContent());
+		
+		long sequential = runRequests(1, expectedContent);
+		long parallel = runRequests(THREADS, expectedContent);
+		
+		assertTrue(sessionPool.getSessionCount() <= THREADS);
+		assertEquals(sessionPool.getSessionCount(), sessionPool.getIdleSessionCount());
+		logger.info("Served " + REQUESTS + " requests sequentially in " + sequential + " ms and with " + THREADS
+				+ " threads in " + parallel + " ms using " + sessionPool.getSessionCount() + " sessions");
+	}
+	
+	@Test
+	public void testConcurrentReadersUseSeparateSessions() throws Exception {
+		importModel("Color.type");
+		
+		sessionPool = new JcrSessionPool(repository(), THREADS);
+		modelRepository.setSession(sessionPool.threadBoundSession());
+		
+		final CyclicBarrier allReading = new CyclicBarrier(THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Callable<Session>> readers = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				readers.add(() -> sessionPool.callInSession(() -> {
+					assertNotNull(modelRepository.getById(COLOR));
+					try {
+						// every reader holds its session until all readers hold one
+						allReading.await(30, TimeUnit.SECONDS);
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+					return sessionPool.getCurrentSession();
+				}));
+			}
+			
+			Set<Session> sessions = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Future<Session> session : executor.invokeAll(readers)) {
+				sessions.add(session.get());
+			}
+			assertEquals(THREADS, sessions.size());
+			assertEquals(THREADS, sessionPool.getSessionCount());
+			assertEquals(THREADS, sessionPool.getIdleSessionCount());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testReleasedSessionIsReused() throws Exception {
+		importModel("Color.type");
+		
+		sessionPool = new JcrSessionPool(repository(), 1);
+		modelRepository.setSession(sessionPool.threadBoundSession());
+		
+		assertNotNull(sessionPool.callInSession(() -> modelRepository.getById(COLOR)));
+		assertEquals(1, sessionPool.getIdleSessionCount());
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertNotNull(executor.submit(() -> sessionPool.callInSession(() -> modelRepository.getById(COLOR))).get());
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, sessionPool.getSessionCount());
+		assertEquals(1, sessionPool.getIdleSessionCount());
+	}
+	
+	@Test
+	public void testNestedScopeKeepsSession() throws Exception {
+		importModel("Color.type");
+		
+		sessionPool = new JcrSessionPool(repository(), 1);
+		modelRepository.setSession(sessionPool.threadBoundSession());
+		
+		sessionPool.runInSession(() -> {
+			assertNotNull(modelRepository.getById(COLOR));
+			assertNotNull(sessionPool.callInSession(() -> modelRepository.getById(COLOR)));
+			assertEquals(0, sessionPool.getIdleSessionCount());
+		});
+		assertEquals(1, sessionPool.getIdleSessionCount());
+	}
+	
+	private long runRequests(int threads, byte[] expectedContent) throws Exception {
+		final Set<ModelId> expectedIds = new HashSet<>(Arrays.asList(COLOR, COLOR_LIGHT));
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Boolean>> requests = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				final boolean search = i % 2 == 0;
+				requests.add(() -> sessionPool.callInSession(() -> {
+					if (search) {
+						assertEquals(expectedIds, modelRepository.search("*").stream().map(ModelInfo::getId)
+								.collect(Collectors.toSet()));
+					} else {
+						assertArrayEquals(expectedContent, modelRepository.getModelContent(COLOR).getContent());
+					}
+					return true;
+				}));
+			}
+			
+			long start = System.currentTimeMillis();
+			for (Future<Boolean> result : executor.invokeAll(requests)) {
+				assertTrue(result.get());
+			}
+			return System.currentTimeMillis() - start;
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -92,6 +92,20 @@ public class MappingTest extends AbstractIntegrationTest {
 				ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0"), "ios").size());
 	}
 
+	@Test
+	public void testGetMappingsOfDependenciesForTargetPlatform() throws Exception {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		importModel("ColorLightIM.infomodel");
+		importModel("sample.mapping");
+		Thread.sleep(2000);
+		ModelId infomodelId = ModelId.fromReference("com.mycompany.ColorLightIM", "1.0.0");
+		assertEquals(1, modelRepository.getMappingModelsForTargetPlatform(infomodelId, "ios").size());
+		assertEquals("org.eclipse.vorto.examples.type.Color_ios:1.0.0", modelRepository
+				.getMappingModelsForTargetPlatform(infomodelId, "IOS").get(0).getId().getPrettyFormat());
+		assertEquals(0, modelRepository.getMappingModelsForTargetPlatform(infomodelId, "lwm2m").size());
+	}
+
 	@Test
 	public void testUsedByMappingOfEntity() throws Exception {
 		importModel("Color.type");
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Parses models concurrently with the injectors shared by all parsers of a model type
+ */
+public class ModelParserTest {
+
+	private static final String[] MODELS = { "Color.type", "Colorlight.fbmodel", "HueLightStrips.infomodel",
+			"sample.mapping" };
+
+	@Test
+	public void testConcurrentParsing() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<ModelResource>> results = new ArrayList<>();
+			for (int i = 0; i < 40; i++) {
+				final String fileName = MODELS[i % MODELS.length];
+				final byte[] content = IOUtils
+						.toByteArray(new ClassPathResource("sample_models/" + fileName).getInputStream());
+				results.add(executor.submit(() -> (ModelResource) ModelParserFactory.getParser(fileName)
+						.parse(new ByteArrayInputStream(content))));
+			}
+
+			for (int i = 0; i < results.size(); i++) {
+				ModelResource resource = results.get(i).get();
+				ModelResource expected = (ModelResource) ModelParserFactory.getParser(MODELS[i % MODELS.length])
+						.parse(new ByteArrayInputStream(resource.toDSL()));
+				assertEquals(expected.getId(), resource.getId());
+				assertEquals(expected.getType(), resource.getType());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -14,10 +14,18 @@
  */
 package org.eclipse.vorto.repository.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.io.IOUtils;
@@ -25,9 +33,12 @@ import org.eclipse.vorto.core.api.model.datatype.Entity;
 import org.eclipse.vorto.repository.AbstractIntegrationTest;
 import org.eclipse.vorto.repository.api.ModelId;
 import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.api.ModelType;
 import org.eclipse.vorto.repository.api.attachment.Attachment;
 import org.eclipse.vorto.repository.api.exception.ModelNotFoundException;
+import org.eclipse.vorto.repository.core.SearchParameters.SortKey;
 import org.eclipse.vorto.repository.core.impl.UserContext;
+import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
  
@@ -51,6 +62,21 @@ public class ModelRepositoryTest extends AbstractIntegrationTest {
 		assertNotNull(result);
 	}
 	
+	@Test
+	public void testGetMetadataByIds() throws Exception {
+		importModel("Color.type");
+		importModel("Switcher.fbmodel");
+		ModelId color = ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0");
+		ModelId switcher = ModelId.fromReference("com.mycompany.fb.Switcher", "1.0.0");
+		ModelId unknown = ModelId.fromReference("org.eclipse.vorto.examples.type.Unknown", "1.0.0");
+		
+		Map<ModelId, ModelInfo> result = modelRepository.getMetadataByIds(Arrays.asList(switcher, unknown, color, switcher));
+		assertEquals(Arrays.asList(switcher, color), new ArrayList<>(result.keySet()));
+		assertEquals(ModelType.Functionblock, result.get(switcher).getType());
+		assertEquals(ModelType.Datatype, result.get(color).getType());
+		assertEquals(modelRepository.getById(color).getAuthor(), result.get(color).getAuthor());
+	}
+	
 	@Test
 	public void testGetDSLEncoding() throws Exception {
 		importModel("Color_encoding.type");
@@ -198,6 +224,55 @@ public class ModelRepositoryTest extends AbstractIntegrationTest {
 		assertEquals(2, modelRepository.search("Functionblock").size());
 	}
 
+	@Test
+	public void testPagedSearchSortedByName() {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		importModel("Switcher.fbmodel");
+		importModel("HueLightStrips.infomodel");
+		List<ModelInfo> firstPage = modelRepository.search("*", SearchParameters.page(0, 2).sortBy(SortKey.NAME, true));
+		assertEquals(2, firstPage.size());
+		assertEquals("Color", firstPage.get(0).getId().getName());
+		assertEquals("ColorLight", firstPage.get(1).getId().getName());
+		
+		List<ModelInfo> secondPage = modelRepository.search("*", SearchParameters.page(2, 2).sortBy(SortKey.NAME, true));
+		assertEquals(2, secondPage.size());
+		assertEquals("HueLightStrips", secondPage.get(0).getId().getName());
+		assertEquals("Switcher", secondPage.get(1).getId().getName());
+		assertEquals("org.eclipse.vorto.examples.type", firstPage.get(0).getId().getNamespace());
+		assertNotNull(firstPage.get(0).getCreationDate());
+	}
+	
+	@Test
+	public void testPagedSearchWithExpression() {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		importModel("Switcher.fbmodel");
+		importModel("HueLightStrips.infomodel");
+		assertEquals(2, modelRepository.search("color", SearchParameters.page(0, 10)).size());
+		assertEquals(2, modelRepository.search("name:Color name:Switcher name:HueLightStrips", SearchParameters.page(0, 2)).size());
+		assertEquals(1, modelRepository.search("name:Switcher Functionblock", SearchParameters.page(0, 10)).size());
+		assertEquals(0, modelRepository.search("*", SearchParameters.page(0, 10).withState("Released")).size());
+	}
+	
+	@Test
+	public void testPagedSearchReturnsSameMetadataAsSearch() {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		importModel("Switcher.fbmodel");
+		ModelInfo expected = modelRepository.search("name:Switcher").get(0);
+		ModelInfo actual = modelRepository.search("name:Switcher", SearchParameters.page(0, 10)).get(0);
+		
+		assertEquals(expected.getId(), actual.getId());
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getDisplayName(), actual.getDisplayName());
+		assertEquals(expected.getDescription(), actual.getDescription());
+		assertEquals(expected.getAuthor(), actual.getAuthor());
+		assertEquals(expected.getState(), actual.getState());
+		assertEquals(expected.getCreationDate(), actual.getCreationDate());
+		assertEquals(expected.getModificationDate(), actual.getModificationDate());
+	}
+
 	@Test
 	public void testSearchModelsByCreator() {
 		IUserContext alex = UserContext.user("alex");
@@ -284,4 +359,70 @@ public class ModelRepositoryTest extends AbstractIntegrationTest {
 		final String newVersion = "1.0.0";
 		this.modelRepository.createVersion(new ModelId("Some","demo","1.0.0"),newVersion,alex);
 	}
+	
+	@Test
+	public void testParsedModelIsCached() {
+		importModel("Color.type");
+		ModelId modelId = ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0");
+		ModelFileContent first = modelRepository.getModelContent(modelId);
+		long hits = modelRepository.getModelCache().getHitCount();
+		ModelFileContent second = modelRepository.getModelContent(modelId);
+		assertArrayEquals(first.getContent(), second.getContent());
+		assertSame(first.getModel(), first.getModel());
+		assertNotSame(first.getModel(), second.getModel());
+		assertEquals(first.getModel().getName(), modelRepository.getEMFResource(modelId).getModel().getName());
+		assertEquals(hits + 2, modelRepository.getModelCache().getHitCount());
+	}
+	
+	@Test
+	public void testModelCacheInvalidatedOnSave() {
+		importModel("Color.type");
+		ModelId modelId = ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0");
+		modelRepository.getEMFResource(modelId);
+		
+		ModelResource resource = modelRepository.getEMFResourceForUpdate(modelId);
+		resource.getModel().setDescription("changed");
+		modelRepository.saveModel(resource);
+		
+		assertEquals("changed", modelRepository.getEMFResource(modelId).getModel().getDescription());
+	}
+	
+	@Test
+	public void testCreateVersionDoesNotModifyCachedModel() {
+		IUserContext alex = UserContext.user("alex");
+		importModel("Color.type");
+		ModelInfo model = importModel("Colorlight.fbmodel", alex);
+		modelRepository.getEMFResource(model.getId());
+		
+		this.modelRepository.createVersion(model.getId(), "2.0.0", alex);
+		
+		assertEquals("1.0.0", modelRepository.getEMFResource(model.getId()).getModel().getVersion());
+	}
+	
+	@Test
+	public void testSaveAllStoresModelsAndAttachmentsInOneBatch() throws Exception {
+		ModelResource color = parseSampleModel("Color.type");
+		ModelResource switcher = parseSampleModel("Switcher.fbmodel");
+		FileContent original = new FileContent("Color.type",
+				IOUtils.toByteArray(new ClassPathResource("sample_models/Color.type").getInputStream()));
+		
+		List<ModelInfo> saved = this.modelRepository.saveAll(Arrays.asList(color, switcher),
+				Collections.singletonMap(color.getId(), original), UserContext.user("alex"), Attachment.TAG_IMPORTED);
+		
+		assertEquals(2, saved.size());
+		assertNotSame(color, saved.get(0));
+		assertNotSame(switcher, saved.get(1));
+		assertEquals(true, saved.get(0).getImported());
+		assertEquals(false, saved.get(1).getImported());
+		assertEquals("alex", saved.get(1).getAuthor());
+		assertEquals(2, this.modelRepository.search("*").size());
+		assertEquals(true, this.modelRepository.getById(color.getId()).getImported());
+		assertEquals(false, this.modelRepository.getById(switcher.getId()).getImported());
+		assertEquals("alex", this.modelRepository.getById(switcher.getId()).getAuthor());
+	}
+	
+	private ModelResource parseSampleModel(String fileName) throws Exception {
+		return (ModelResource) ModelParserFactory.getParser(fileName)
+				.parse(new ClassPathResource("sample_models/" + fileName).getInputStream());
+	}
 }
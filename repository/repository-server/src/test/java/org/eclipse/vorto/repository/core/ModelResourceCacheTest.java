@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.io.ByteArrayInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.core.impl.ModelResourceCache;
+import org.eclipse.vorto.repository.core.impl.parser.ModelParserFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+
+public class ModelResourceCacheTest {
+
+	private static final String FILE_NAME = "Colorlight.fbmodel";
+	
+	private ModelResourceCache cache = new ModelResourceCache(ModelResourceCache.DEFAULT_MAX_CONTENT_SIZE);
+	
+	private byte[] content;
+	
+	private ModelId modelId;
+	
+	@Before
+	public void setUp() throws Exception {
+		content = IOUtils.toByteArray(new ClassPathResource("sample_models/" + FILE_NAME).getInputStream());
+		ModelResource resource = (ModelResource) ModelParserFactory.getParser(FILE_NAME).parse(new ByteArrayInputStream(content));
+		modelId = resource.getId();
+		cache.put(modelId, 1L, FILE_NAME, content, resource);
+	}
+	
+	@Test
+	public void testModifyingContentDoesNotChangeCache() throws Exception {
+		byte[] cached = cache.get(modelId, 1L).getContent();
+		cached[0] = (byte) '#';
+		
+		assertArrayEquals(content, cache.get(modelId, 1L).getContent());
+	}
+	
+	@Test
+	public void testModifyingModelDoesNotChangeCache() throws Exception {
+		ModelResource cached = cache.get(modelId, 1L).getResource();
+		cached.getModel().setDescription("modified");
+		cached.getModel().getReferences().clear();
+		
+		ModelResource again = cache.get(modelId, 1L).getResource();
+		assertNotSame(cached.getModel(), again.getModel());
+		assertEquals("Function block model for ColorLight", again.getDescription());
+		assertEquals(1, again.getReferences().size());
+		assertEquals(modelId, again.getId());
+	}
+}
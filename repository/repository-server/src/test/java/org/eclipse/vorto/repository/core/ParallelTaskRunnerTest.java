@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.vorto.repository.core.impl.utils.ParallelTaskRunner;
+import org.junit.Test;
+
+public class ParallelTaskRunnerTest {
+
+	@Test
+	public void testMapBatchesKeepsOrderOfInputs() {
+		List<Integer> inputs = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+		
+		List<Integer> results = ParallelTaskRunner.mapBatches(inputs, 3,
+				batch -> batch.stream().map(input -> input * 10).collect(Collectors.toList()));
+		
+		assertEquals(Arrays.asList(10, 20, 30, 40, 50, 60, 70), results);
+	}
+	
+	@Test
+	public void testMapBatchesLimitsNumberOfBatches() {
+		List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+		
+		ParallelTaskRunner.mapBatches(Arrays.asList(1, 2, 3, 4, 5), 2, batch -> {
+			batchSizes.add(batch.size());
+			return batch;
+		});
+		
+		Collections.sort(batchSizes);
+		assertEquals(Arrays.asList(2, 3), batchSizes);
+	}
+	
+	@Test
+	public void testMapBatchesWithoutInputs() {
+		assertEquals(Collections.emptyList(), ParallelTaskRunner.mapBatches(Collections.<Integer>emptyList(), 2, batch -> batch));
+	}
+}
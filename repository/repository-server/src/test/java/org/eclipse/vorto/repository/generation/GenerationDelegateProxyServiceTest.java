@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.generation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.ModelInfo;
+import org.eclipse.vorto.repository.api.ModelType;
+import org.eclipse.vorto.repository.api.exception.GenerationException;
+import org.eclipse.vorto.repository.core.IModelRepository;
+import org.eclipse.vorto.repository.generation.impl.GenerationDelegateProxyService;
+import org.eclipse.vorto.repository.generation.impl.Generator;
+import org.eclipse.vorto.repository.generation.impl.IGeneratorLookupRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+public class GenerationDelegateProxyServiceTest {
+	
+	private static final ModelId MODEL_ID = ModelId.fromPrettyFormat("com.mycompany.Car:1.0.0");
+	
+	private static final String GENERATION_URL = "http://localhost:8081/rest/generators/java/generate/com.mycompany/Car/1.0.0";
+	
+	private static final byte[] OUTPUT = "generated".getBytes(StandardCharsets.UTF_8);
+	
+	@InjectMocks
+	private GenerationDelegateProxyService generatorService = new GenerationDelegateProxyService();
+	
+	@Mock
+	private IGeneratorLookupRepository registeredGeneratorsRepository = Mockito.mock(IGeneratorLookupRepository.class);
+	
+	@Mock
+	private IModelRepository modelRepositoryService = Mockito.mock(IModelRepository.class);
+	
+	private MockRestServiceServer generatorServer;
+	
+	@Before
+	public void setUp() {
+		MockitoAnnotations.initMocks(this);
+		
+		RestTemplate restTemplate = new RestTemplate();
+		generatorServer = MockRestServiceServer.bindTo(restTemplate).build();
+		generatorService.setRestTemplate(restTemplate);
+		
+		Mockito.when(modelRepositoryService.getById(MODEL_ID)).thenReturn(new ModelInfo(MODEL_ID, ModelType.InformationModel));
+		Mockito.when(registeredGeneratorsRepository.findByGeneratorKey("java")).thenReturn(Collections.singletonList(
+				new Generator("java", "http://localhost:8081/rest/generators/java/generate", "platform")));
+	}
+	
+	@Test
+	public void testGeneratedOutputIsPassedOnToHandler() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("content-disposition", "attachment; filename = Car.zip");
+		headers.setContentLength(OUTPUT.length);
+		generatorServer.expect(requestTo(GENERATION_URL)).andExpect(method(HttpMethod.GET))
+				.andRespond(withSuccess(OUTPUT, MediaType.APPLICATION_OCTET_STREAM).headers(headers));
+		
+		generatorService.generate(MODEL_ID, "java", Collections.emptyMap(), (fileName, size, content) -> {
+			assertEquals("Car.zip", fileName);
+			assertEquals(OUTPUT.length, size);
+			assertArrayEquals(OUTPUT, IOUtils.toByteArray(content));
+		});
+		
+		generatorServer.verify();
+	}
+	
+	@Test
+	public void testGeneratorErrorIsReportedAsGenerationException() {
+		generatorServer.expect(requestTo(GENERATION_URL)).andRespond(withServerError());
+		
+		try {
+			generatorService.generate(MODEL_ID, "java", Collections.emptyMap(), (fileName, size, content) -> {
+				fail("the output of a failed generation must not be handled");
+			});
+			fail("expected a GenerationException");
+		} catch (GenerationException e) {
+			// expected
+		}
+	}
+	
+	@Test
+	public void testHandlerErrorIsReportedAsGenerationException() {
+		generatorServer.expect(requestTo(GENERATION_URL))
+				.andRespond(withSuccess(OUTPUT, MediaType.APPLICATION_OCTET_STREAM));
+		
+		try {
+			generatorService.generate(MODEL_ID, "java", Collections.emptyMap(), (fileName, size, content) -> {
+				throw new IOException("connection reset by client");
+			});
+			fail("expected a GenerationException");
+		} catch (GenerationException e) {
+			assertEquals("connection reset by client", e.getCause().getCause().getMessage());
+		}
+	}
+}
@@ -19,7 +19,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.vorto.repository.AbstractIntegrationTest;
@@ -60,6 +62,26 @@ public class ModelBulkImportTest extends AbstractIntegrationTest {
 		verifyAllModelsAreValid(uploadResults);
 	}
 
+	@Test
+	public void testUploadValidModelsKeepsOrderOfZipEntries() throws IOException {
+		String fileName = "sample_models/valid-models.zip";
+		List<ValidationReport> uploadResults = bulkUploadHelper.uploadMultiple(loadContentForFile(fileName), fileName,
+				UserContext.user("admin"));
+		assertEquals(Arrays.asList("Color", "ColorLight", "ColorLightIM"), uploadResults.stream()
+				.map(r -> r.getModel().getId().getName()).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testUploadModelsReferencingModelsInRepository() throws IOException {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		String fileName = "sample_models/missing-models.zip";
+		List<ValidationReport> uploadResults = bulkUploadHelper.uploadMultiple(loadContentForFile(fileName), fileName,
+				UserContext.user("admin"));
+		assertEquals(2, uploadResults.size());
+		verifyAllModelsAreValid(uploadResults);
+	}
+
 	@Test
 	public void testUploadOneMissingModels() throws IOException {
 		String fileName = "sample_models/missing-models.zip";
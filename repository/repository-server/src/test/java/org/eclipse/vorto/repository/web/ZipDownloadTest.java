@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.vorto.repository.AbstractIntegrationTest;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.api.exception.ModelNotFoundException;
+import org.eclipse.vorto.repository.core.ModelResource;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Downloads models together with their dependencies as zip and revalidates them with the ETag of the response
+ */
+public class ZipDownloadTest extends AbstractIntegrationTest {
+
+	private static final ModelId COLOR_LIGHT = ModelId.fromReference("org.eclipse.vorto.examples.fb.ColorLight", "1.0.0");
+	
+	private static final ModelId COLOR = ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0");
+	
+	private AbstractRepositoryController controller = new AbstractRepositoryController() {
+	};
+	
+	@Test
+	public void testZipContainsModelAndDependencies() throws Exception {
+		importModels();
+		
+		MockHttpServletResponse response = download(null);
+		
+		assertEquals(200, response.getStatus());
+		assertNotNull(response.getHeader("ETag"));
+		assertEquals(new HashSet<>(Arrays.asList("ColorLight.fbmodel", "Color.type")), readEntryNames(response));
+	}
+	
+	@Test
+	public void testNotModifiedForMatchingETag() throws Exception {
+		importModels();
+		
+		String eTag = download(null).getHeader("ETag");
+		MockHttpServletResponse response = download(eTag);
+		
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+	
+	@Test
+	public void testModifiedDependencyChangesETag() throws Exception {
+		importModels();
+		
+		String eTag = download(null).getHeader("ETag");
+		
+		ModelResource color = modelRepository.getEMFResourceForUpdate(COLOR);
+		color.getModel().setDescription("Modified color");
+		modelRepository.saveModel(color);
+		
+		MockHttpServletResponse response = download(eTag);
+		assertEquals(200, response.getStatus());
+		assertNotEquals(eTag, response.getHeader("ETag"));
+	}
+	
+	@Test(expected = ModelNotFoundException.class)
+	public void testMissingModelIsNotFound() throws Exception {
+		importModels();
+		
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		controller.sendZipWithAllDependencies(new MockHttpServletRequest(), response, "Missing.zip", 
+				Arrays.asList(COLOR_LIGHT, ModelId.fromReference("org.eclipse.vorto.examples.fb.Missing", "1.0.0")));
+	}
+	
+	private void importModels() {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		controller.modelRepository = modelRepository;
+	}
+	
+	private MockHttpServletResponse download(String ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/models/" + COLOR_LIGHT.getPrettyFormat() + "/file");
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		controller.sendZipWithAllDependencies(request, response, "ColorLight.zip", Collections.singletonList(COLOR_LIGHT));
+		return response;
+	}
+	
+	private static Set<String> readEntryNames(MockHttpServletResponse response) throws Exception {
+		Set<String> entryNames = new HashSet<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entryNames.add(entry.getName());
+			}
+		}
+		return entryNames;
+	}
+}
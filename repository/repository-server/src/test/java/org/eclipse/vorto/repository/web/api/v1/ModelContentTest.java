@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.web.api.v1;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.vorto.repository.AbstractIntegrationTest;
+import org.eclipse.vorto.repository.api.ModelId;
+import org.eclipse.vorto.repository.core.ModelResource;
+import org.eclipse.vorto.repository.web.core.ModelContentCache;
+import org.junit.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Requests the resolved content of a model and revalidates it with the ETag of the response
+ */
+public class ModelContentTest extends AbstractIntegrationTest {
+
+	private static final ModelId COLOR_LIGHT = ModelId.fromReference("org.eclipse.vorto.examples.fb.ColorLight", "1.0.0");
+	
+	private static final ModelId COLOR = ModelId.fromReference("org.eclipse.vorto.examples.type.Color", "1.0.0");
+	
+	private ModelController controller = new ModelController();
+	
+	@Test
+	public void testCachedContentIsReturnedWithoutReadingModels() throws Exception {
+		importModels();
+		
+		ResponseEntity<byte[]> first = getContent(null, new MockHttpServletResponse());
+		assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("\"ColorLight\""));
+		
+		long modelReads = getModelReads();
+		ResponseEntity<byte[]> second = getContent(null, new MockHttpServletResponse());
+		
+		assertArrayEquals(first.getBody(), second.getBody());
+		assertEquals(modelReads, getModelReads());
+	}
+	
+	@Test
+	public void testNotModifiedWithoutReadingModels() throws Exception {
+		importModels();
+		
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		getContent(null, firstResponse);
+		
+		long modelReads = getModelReads();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		
+		assertNull(getContent(firstResponse.getHeader("ETag"), response));
+		assertEquals(304, response.getStatus());
+		assertEquals(modelReads, getModelReads());
+	}
+	
+	@Test
+	public void testModifiedDependencyChangesContentVersion() throws Exception {
+		importModels();
+		
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		getContent(null, firstResponse);
+		
+		ModelResource color = modelRepository.getEMFResourceForUpdate(COLOR);
+		color.getModel().setDescription("Modified color");
+		modelRepository.saveModel(color);
+		
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ResponseEntity<byte[]> content = getContent(firstResponse.getHeader("ETag"), response);
+		
+		assertEquals(200, content.getStatusCodeValue());
+		assertNotEquals(firstResponse.getHeader("ETag"), response.getHeader("ETag"));
+	}
+	
+	private void importModels() {
+		importModel("Color.type");
+		importModel("Colorlight.fbmodel");
+		ReflectionTestUtils.setField(controller, "modelRepository", modelRepository);
+		ReflectionTestUtils.setField(controller, "contentCache", new ModelContentCache());
+		ReflectionTestUtils.setField(controller, "objectMapper", new ObjectMapper());
+	}
+	
+	private ResponseEntity<byte[]> getContent(String ifNoneMatch, MockHttpServletResponse response) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/models/" + COLOR_LIGHT.getPrettyFormat() + "/content");
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		return controller.getModelContent(COLOR_LIGHT.getPrettyFormat(), request, response);
+	}
+	
+	/**
+	 * @return number of model files that were read from the repository, either parsed or taken from its cache
+	 */
+	private long getModelReads() {
+		return modelRepository.getModelCache().getHitCount() + modelRepository.getModelCache().getMissCount();
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.repository.web.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.eclipse.vorto.repository.api.ModelId;
+import org.junit.Test;
+
+public class ModelContentCacheTest {
+
+	private static final ModelId MODEL = ModelId.fromPrettyFormat("org.eclipse.vorto.examples.fb.ColorLight:1.0.0");
+	
+	private static final ModelId MAPPING = ModelId.fromPrettyFormat("org.eclipse.vorto.examples.mapping.ColorLightMapping:1.0.0");
+	
+	private static final byte[] CONTENT = "{\"name\":\"ColorLight\"}".getBytes(StandardCharsets.UTF_8);
+	
+	private ModelContentCache cache = new ModelContentCache();
+	
+	@Test
+	public void testHitForSameVersion() {
+		cache.put(MODEL, Optional.empty(), "version1", CONTENT);
+		
+		assertSame(CONTENT, cache.get(MODEL, Optional.empty(), "version1"));
+		assertNull(cache.get(MODEL, Optional.of(MAPPING), "version1"));
+	}
+	
+	@Test
+	public void testMissAfterVersionChanged() {
+		cache.put(MODEL, Optional.empty(), "version1", CONTENT);
+		
+		assertNull(cache.get(MODEL, Optional.empty(), "version2"));
+	}
+	
+	@Test
+	public void testInvalidateModel() {
+		cache.put(MODEL, Optional.empty(), "version1", CONTENT);
+		cache.put(MODEL, Optional.of(MAPPING), "version2", CONTENT);
+		
+		cache.invalidate(MODEL);
+		
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testInvalidateMapping() {
+		cache.put(MODEL, Optional.empty(), "version1", CONTENT);
+		cache.put(MODEL, Optional.of(MAPPING), "version2", CONTENT);
+		
+		cache.invalidate(MAPPING);
+		
+		assertEquals(1, cache.size());
+		assertSame(CONTENT, cache.get(MODEL, Optional.empty(), "version1"));
+	}
+	
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		ModelId other = ModelId.fromPrettyFormat("org.eclipse.vorto.examples.type.Color:1.0.0");
+		cache.setMaxEntries(1);
+		cache.put(MODEL, Optional.empty(), "version1", CONTENT);
+		cache.put(other, Optional.empty(), "version2", CONTENT);
+		
+		assertEquals(1, cache.size());
+		assertNull(cache.get(MODEL, Optional.empty(), "version1"));
+	}
+}
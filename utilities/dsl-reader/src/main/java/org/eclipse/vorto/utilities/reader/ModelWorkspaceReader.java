@@ -15,15 +15,15 @@
 package org.eclipse.vorto.utilities.reader;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.emf.common.util.URI;
@@ -71,65 +71,114 @@ public class ModelWorkspaceReader {
 		return workspace;
 	}
 	
-	private static class WorkspaceZipReader {
-		private ZipInputStream zis;
+	private static XtextResourceSet createResourceSet() {
+		XtextResourceSet resourceSet = InjectorHolder.INJECTOR.getInstance(XtextResourceSet.class);
+		resourceSet.addLoadOption(XtextResource.OPTION_ENCODING, "UTF-8");
+		return resourceSet;
+	}
+	
+	/**
+	 * Parses the given files concurrently, each into a resource set of its own, as parsing does not depend on other 
+	 * models. The parsed resources are then added to a common resource set in the given order, where the references 
+	 * between the models are resolved.
+	 */
+	private static List<Model> readModels(List<ModelFile> files) {
+		List<Resource> resources = files.parallelStream()
+				.map(file -> parse(file.fileName, file.content))
+				.collect(Collectors.toList());
 		
-		public WorkspaceZipReader(ZipInputStream zis) {
-			this.zis = zis;
+		XtextResourceSet resourceSet = createResourceSet();
+		resourceSet.getResources().addAll(resources);
+		return resolveModels(resourceSet, resources);
+	}
+	
+	private static Resource parse(String fileName, byte[] content) {
+		XtextResourceSet resourceSet = createResourceSet();
+		Resource resource = resourceSet.createResource(URI.createURI("fake:/" + fileName));
+		try {
+			resource.load(new ByteArrayInputStream(content), resourceSet.getLoadOptions());
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Problem reading " + fileName, ex);
+		}
+		return resource;
+	}
+	
+	private static List<Model> resolveModels(XtextResourceSet resourceSet, List<Resource> resources) {
+		EcoreUtil2.resolveAll(resourceSet);	
+		return resources.stream()
+                .map(r -> (Model)r.getContents().get(0))
+                .collect(Collectors.toList());
+	}
+	
+	/**
+	 * Holds the injector of the languages, which is created once on first use. Setting up the languages registers 
+	 * them in the global EMF registries and takes much longer than reading a workspace.
+	 */
+	private static class InjectorHolder {
+		
+		private static final Injector INJECTOR = createInjector();
+		
+		private static Injector createInjector() {
 			FunctionblockPackage.eINSTANCE.eClass();
 			InformationModelPackage.eINSTANCE.eClass();
 			MappingPackage.eINSTANCE.eClass();
 			
 			FunctionblockStandaloneSetup.doSetup();
 			InformationModelStandaloneSetup.doSetup();
+			
+			return new MappingStandaloneSetup().createInjectorAndDoEMFRegistration();
+		}
+	}
+	
+	/**
+	 * A file to read into the workspace. Files are kept in a list rather than by name, as a zip may contain several 
+	 * entries of the same name, which are all read.
+	 */
+	private static class ModelFile {
+		private final String fileName;
+		
+		private final byte[] content;
+		
+		private ModelFile(String fileName, byte[] content) {
+			this.fileName = fileName;
+			this.content = content;
+		}
+	}
+	
+	private static class WorkspaceZipReader {
+		private ZipInputStream zis;
+		
+		public WorkspaceZipReader(ZipInputStream zis) {
+			this.zis = zis;
 		}
 		
 		public List<Model> read() {
 			ZipEntry entry = null;
 
-			Injector injector = new MappingStandaloneSetup().createInjectorAndDoEMFRegistration();
-			XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
-			resourceSet.addLoadOption(XtextResource.OPTION_RESOLVE_ALL, Boolean.TRUE);
-			resourceSet.addLoadOption(XtextResource.OPTION_ENCODING, "UTF-8");
-
-			List<Resource> infoModelResources = new ArrayList<>();
+			List<ModelFile> files = new ArrayList<>();
 			try {
 				while ((entry = zis.getNextEntry()) != null) {
-					Resource resource = resourceSet.createResource(URI.createURI("fake:/" + entry.getName()));
-					ByteArrayOutputStream baos = new ByteArrayOutputStream();
-					IOUtils.copy(zis, baos);
-					resource.load(new ByteArrayInputStream(baos.toByteArray()), resourceSet.getLoadOptions());
-					infoModelResources.add(resource);
+					files.add(new ModelFile(entry.getName(), IOUtils.toByteArray(zis)));
 				}
 			} catch (Exception ex) {
 				throw new RuntimeException("Problem reading zip file",ex);
 			}
 
-			EcoreUtil2.resolveAll(resourceSet);	
-			return infoModelResources.stream()
-	                .map(r -> (Model)r.getContents().get(0))
-	                .collect(Collectors.toList());
+			return readModels(files);
 		}
 	}
 	
+	/**
+	 * Loads the added files directly into a resource set, without packing them into a zip first
+	 */
 	private static class WorkspaceFileReader {
-		private ByteArrayOutputStream baos;
-		private ZipOutputStream zaos;
+		private List<ModelFile> files = new ArrayList<>();
 
 		private int counter = 0;
 		
-		public WorkspaceFileReader() {
-			baos = new ByteArrayOutputStream();
-			zaos = new ZipOutputStream(baos);
-		}
-		
 		public void addFile(InputStream input, ModelType type) {
 			try {
-				ZipEntry zipEntry = new ZipEntry(getNextFileName(type));
-				zaos.putNextEntry(zipEntry);
-				byte[] entrycontent = IOUtils.toByteArray(input);
-				zaos.write(entrycontent);
-				zaos.closeEntry();
+				files.add(new ModelFile(getNextFileName(type), IOUtils.toByteArray(input)));
 			} catch (Exception ex) {
 				throw new IllegalArgumentException("Could not add model", ex);
 			}
@@ -140,11 +189,11 @@ public class ModelWorkspaceReader {
 		}
 		
 		public List<Model> read() {
-			if (baos.size() > 0) {
-				WorkspaceZipReader reader =  new WorkspaceZipReader(new ZipInputStream(new ByteArrayInputStream(baos.toByteArray())));
-				return reader.read();
+			if (files.isEmpty()) {
+				return Collections.emptyList();
 			}
-			return Collections.emptyList();
+			
+			return readModels(files);
 		}
 	}
 
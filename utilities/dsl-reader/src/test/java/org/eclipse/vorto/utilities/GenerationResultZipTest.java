@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.vorto.codegen.api.Generated;
+import org.eclipse.vorto.codegen.api.GenerationResultZip;
+import org.eclipse.vorto.codegen.api.InvocationContext;
+import org.eclipse.vorto.core.api.model.informationmodel.InformationModel;
+import org.eclipse.vorto.utilities.reader.IModelWorkspace;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GenerationResultZipTest {
+
+	private InformationModel model;
+
+	@Before
+	public void setUp() {
+		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(getClass().getClassLoader().getResourceAsStream("models.zip"))).read();
+		model = (InformationModel)workspace.get().stream().filter(p -> p instanceof InformationModel).findAny().get();
+	}
+
+	@Test
+	public void testStreamedResultIsWrittenToTarget() throws IOException {
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		InvocationContext context = InvocationContext.simpleInvocationContext();
+		context.setGenerationTarget((fileName, mediatype) -> target);
+
+		GenerationResultZip result = GenerationResultZip.create(model, "test", context);
+		result.write(new Generated("a.txt", "/generated", "a"));
+		result.write(new Generated("a.txt", "/generated", "duplicate"));
+		result.write(new Generated("b.txt", "/generated", "b"));
+
+		assertEquals(0,result.getContent().length);
+		try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+			assertEquals("generated/a.txt",zis.getNextEntry().getName());
+			assertEquals("generated/b.txt",zis.getNextEntry().getName());
+		}
+	}
+
+	@Test
+	public void testFailingTargetStopsGeneration() {
+		InvocationContext context = InvocationContext.simpleInvocationContext();
+		context.setGenerationTarget((fileName, mediatype) -> new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Client disconnected");
+			}
+		});
+
+		GenerationResultZip result = GenerationResultZip.create(model, "test", context);
+		try {
+			result.write(new Generated("a.txt", "/generated", "a"));
+			fail("Expected the failure of the target to be rethrown");
+		} catch (UncheckedIOException e) {
+			assertEquals("Client disconnected",e.getCause().getMessage());
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.vorto.codegen.api.InvocationContext;
+import org.eclipse.vorto.codegen.api.mapping.IMapped;
+import org.eclipse.vorto.core.api.model.datatype.Entity;
+import org.eclipse.vorto.core.api.model.datatype.Property;
+import org.eclipse.vorto.core.api.model.functionblock.FunctionblockModel;
+import org.eclipse.vorto.core.api.model.mapping.MappingModel;
+import org.eclipse.vorto.core.api.model.mapping.ModelAttribute;
+import org.eclipse.vorto.repository.api.ModelType;
+import org.eclipse.vorto.utilities.reader.IModelWorkspace;
+import org.junit.Test;
+
+public class InvocationContextTest {
+
+	@Test
+	public void testGetMappedFunctionblockProperty() {
+		IModelWorkspace workspace = IModelWorkspace.newReader()
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.ipso.smartobjects_Push_button_0_0_1.fbmodel"),ModelType.Functionblock)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.aws_Button1Mapping_1_0_0.mapping"),ModelType.Mapping).read();
+
+		InvocationContext context = createContext(workspace);
+		FunctionblockModel button = (FunctionblockModel)workspace.get().stream().filter(p -> p instanceof FunctionblockModel).findAny().get();
+
+		IMapped<Property> mapped = context.getMappedElement(getStatusProperty(button, "digital_input_count"), "source");
+		assertTrue(mapped.isMapped());
+		assertEquals("/@button1",mapped.getAttributeValue("xpath", null));
+
+		assertFalse(context.getMappedElement(getStatusProperty(button, "digital_input_state"), "source").isMapped());
+		assertFalse(context.getMappedElement(getStatusProperty(button, "digital_input_count"), "target").isMapped());
+	}
+
+	@Test
+	public void testGetMappedElementIgnoresCaseOfStereoType() {
+		IModelWorkspace workspace = IModelWorkspace.newReader()
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.ipso.smartobjects_Push_button_0_0_1.fbmodel"),ModelType.Functionblock)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.aws_Button1Mapping_1_0_0.mapping"),ModelType.Mapping)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.type_Color_1_0_0.type"),ModelType.Datatype)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.mapping_ColorMapping_1_0_0.mapping"),ModelType.Mapping).read();
+
+		InvocationContext context = createContext(workspace);
+		FunctionblockModel button = (FunctionblockModel)workspace.get().stream().filter(p -> p instanceof FunctionblockModel).findAny().get();
+		Entity color = (Entity)workspace.get().stream().filter(p -> p instanceof Entity).findAny().get();
+
+		assertTrue(context.getMappedElement(getStatusProperty(button, "digital_input_count"), "SOURCE").isMapped());
+		assertTrue(context.getMappedElement(getProperty(color, "r"), "channel").isMapped());
+		assertTrue(context.getMappedModelAttribute(color, ModelAttribute.NAME, "OBJECTID").isMapped());
+	}
+
+	@Test
+	public void testGetMappedElementReturnsFirstMatchingRule() {
+		IModelWorkspace workspace = IModelWorkspace.newReader()
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.ipso.smartobjects_Push_button_0_0_1.fbmodel"),ModelType.Functionblock)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.aws_Button1Mapping_1_0_0.mapping"),ModelType.Mapping)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.aws_Button2Mapping_1_0_0.mapping"),ModelType.Mapping).read();
+
+		InvocationContext context = createContext(workspace);
+		FunctionblockModel button = (FunctionblockModel)workspace.get().stream().filter(p -> p instanceof FunctionblockModel).findAny().get();
+
+		assertEquals("/@button1",context.getMappedElement(getStatusProperty(button, "digital_input_count"), "source").getAttributeValue("xpath", null));
+	}
+
+	@Test
+	public void testGetMappedEntityProperty() {
+		IModelWorkspace workspace = IModelWorkspace.newReader()
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.type_Color_1_0_0.type"),ModelType.Datatype)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.mapping_ColorMapping_1_0_0.mapping"),ModelType.Mapping).read();
+
+		InvocationContext context = createContext(workspace);
+		Entity color = (Entity)workspace.get().stream().filter(p -> p instanceof Entity).findAny().get();
+
+		IMapped<Property> red = context.getMappedElement(getProperty(color, "r"), "Channel");
+		assertTrue(red.isMapped());
+		assertEquals("0",red.getAttributeValue("index", null));
+		assertEquals("1",context.getMappedElement(getProperty(color, "g"), "Channel").getAttributeValue("index", null));
+		assertFalse(context.getMappedElement(getProperty(color, "b"), "Channel").isMapped());
+	}
+
+	@Test
+	public void testGetMappedEntityAttribute() {
+		IModelWorkspace workspace = IModelWorkspace.newReader()
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.type_Color_1_0_0.type"),ModelType.Datatype)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example.mapping_ColorMapping_1_0_0.mapping"),ModelType.Mapping).read();
+
+		InvocationContext context = createContext(workspace);
+		Entity color = (Entity)workspace.get().stream().filter(p -> p instanceof Entity).findAny().get();
+
+		IMapped<ModelAttribute> name = context.getMappedModelAttribute(color, ModelAttribute.NAME, "ObjectId");
+		assertTrue(name.isMapped());
+		assertEquals("color",name.getAttributeValue("value", null));
+		assertFalse(context.getMappedModelAttribute(color, ModelAttribute.NAMESPACE, "ObjectId").isMapped());
+	}
+
+	private InvocationContext createContext(IModelWorkspace workspace) {
+		List<MappingModel> mappingModels = workspace.get().stream()
+				.filter(p -> p instanceof MappingModel)
+				.map(p -> (MappingModel) p)
+				.collect(Collectors.toList());
+		return new InvocationContext(mappingModels, null, Collections.emptyMap());
+	}
+
+	private Property getStatusProperty(FunctionblockModel model, String name) {
+		return model.getFunctionblock().getStatus().getProperties().stream().filter(p -> p.getName().equals(name)).findAny().get();
+	}
+
+	private Property getProperty(Entity entity, String name) {
+		return entity.getProperties().stream().filter(p -> p.getName().equals(name)).findAny().get();
+	}
+}
@@ -15,14 +15,21 @@
 package org.eclipse.vorto.utilities;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
 
 import org.eclipse.vorto.core.api.model.datatype.Entity;
 import org.eclipse.vorto.core.api.model.functionblock.FunctionblockModel;
+import org.eclipse.vorto.core.api.model.informationmodel.FunctionblockProperty;
 import org.eclipse.vorto.core.api.model.informationmodel.InformationModel;
 import org.eclipse.vorto.core.api.model.mapping.MappingModel;
 import org.eclipse.vorto.core.api.model.model.Model;
@@ -48,6 +55,18 @@ public class ModelReaderTest {
 		assertEquals("AWSButtonMapping",workspace.get().stream().filter(p -> p.getName().equals("AWSButtonMapping")).findAny().get().getName());
 	}
 	
+	@Test
+	public void testReadFromFileResolvesReferences() {
+		IModelWorkspace workspace = IModelWorkspace.newReader()
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.example_AWSIoTButton_1_0_0.infomodel"),ModelType.InformationModel)
+		.addFile(getClass().getClassLoader().getResourceAsStream("dsls/com.ipso.smartobjects_Push_button_0_0_1.fbmodel"),ModelType.Functionblock).read();
+		
+		InformationModel model = (InformationModel)workspace.get().stream().filter(p -> p instanceof InformationModel).findAny().get();
+		FunctionblockModel button = model.getProperties().get(0).getType();
+		assertFalse(button.eIsProxy());
+		assertEquals("Push_button",button.getName());
+	}
+	
 	@Test
 	public void testReadFromFile_Encoding() {
 		IModelWorkspace workspace = IModelWorkspace.newReader()
@@ -90,4 +109,39 @@ public class ModelReaderTest {
 		
 		assertEquals(10,workspace.get().size());
 	}
+	
+	@Test
+	public void testReadFromZipFileResolvesReferences() {
+		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(getClass().getClassLoader().getResourceAsStream("models.zip"))).read();
+		
+		assertEquals("TI_SensorTag_CC2650",workspace.get().get(0).getName());
+		InformationModel model = (InformationModel)workspace.get().get(0);
+		assertEquals(2,model.getProperties().size());
+		for (FunctionblockProperty property : model.getProperties()) {
+			assertFalse(property.getType().eIsProxy());
+		}
+	}
+	
+	@Test
+	public void testReadZipFilesConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<IModelWorkspace>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> IModelWorkspace.newReader()
+						.addZip(new ZipInputStream(getClass().getClassLoader().getResourceAsStream("mappings.zip")))
+						.addZip(new ZipInputStream(getClass().getClassLoader().getResourceAsStream("models.zip")))
+						.read()));
+			}
+			
+			for (Future<IModelWorkspace> result : results) {
+				IModelWorkspace workspace = result.get();
+				assertEquals(10,workspace.get().size());
+				InformationModel model = (InformationModel)workspace.get().stream().filter(p -> p instanceof InformationModel).findAny().get();
+				assertFalse(model.getProperties().get(0).getType().eIsProxy());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 }
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2015-2016 Bosch Software Innovations GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * The Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ * Bosch Software Innovations GmbH - Please refer to git log
+ */
+package org.eclipse.vorto.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.vorto.codegen.api.ChainedCodeGeneratorTask;
+import org.eclipse.vorto.codegen.api.Generated;
+import org.eclipse.vorto.codegen.api.GenerationResultZip;
+import org.eclipse.vorto.codegen.api.InvocationContext;
+import org.eclipse.vorto.codegen.api.ParallelCodeGeneratorTask;
+import org.eclipse.vorto.core.api.model.datatype.Property;
+import org.eclipse.vorto.core.api.model.functionblock.FunctionblockModel;
+import org.eclipse.vorto.core.api.model.informationmodel.FunctionblockProperty;
+import org.eclipse.vorto.core.api.model.informationmodel.InformationModel;
+import org.eclipse.vorto.utilities.reader.IModelWorkspace;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelCodeGeneratorTaskTest {
+
+	private ForkJoinPool pool;
+
+	private Set<ForkJoinPool> usedPools = ConcurrentHashMap.newKeySet();
+
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void testParallelOutputEqualsSequentialOutput() throws Exception {
+		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(getClass().getClassLoader().getResourceAsStream("models.zip"))).read();
+		InformationModel model = (InformationModel)workspace.get().stream().filter(p -> p instanceof InformationModel).findAny().get();
+
+		GenerationResultZip sequential = new GenerationResultZip(model, "test");
+		createGenerator(model, ChainedCodeGeneratorTask::new, ChainedCodeGeneratorTask::new)
+				.generate(model, InvocationContext.simpleInvocationContext(), sequential);
+
+		GenerationResultZip parallel = new GenerationResultZip(model, "test");
+		createGenerator(model, () -> new ParallelCodeGeneratorTask<>(pool), () -> new ParallelCodeGeneratorTask<>(pool))
+				.generate(model, InvocationContext.simpleInvocationContext(), parallel);
+
+		List<ZipEntryContent> expected = readEntries(sequential.getContent());
+		List<ZipEntryContent> actual = readEntries(parallel.getContent());
+
+		assertEquals(10 + 2 * 10,expected.size());
+		assertEquals(expected.size(),actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).name,actual.get(i).name);
+			assertArrayEquals(expected.get(i).content,actual.get(i).content);
+		}
+	}
+
+	@Test
+	public void testTasksRunOnConfiguredPool() throws Exception {
+		IModelWorkspace workspace = IModelWorkspace.newReader().addZip(new ZipInputStream(getClass().getClassLoader().getResourceAsStream("models.zip"))).read();
+		InformationModel model = (InformationModel)workspace.get().stream().filter(p -> p instanceof InformationModel).findAny().get();
+
+		ChainedCodeGeneratorTask<InformationModel> generator = createGenerator(model,
+				() -> new ParallelCodeGeneratorTask<>(pool), () -> new ParallelCodeGeneratorTask<>(pool));
+
+		// started from a worker of another pool, the tasks must still run on the configured pool
+		ForkJoinPool.commonPool().submit(() -> generator.generate(model, InvocationContext.simpleInvocationContext(), new GenerationResultZip(model, "test"))).get();
+
+		assertEquals(Collections.singleton(pool),usedPools);
+	}
+
+	/**
+	 * Creates a generator with ten tasks for the information model and a nested generator for each function block,
+	 * which renders ten files for the status properties of the function block
+	 */
+	private ChainedCodeGeneratorTask<InformationModel> createGenerator(InformationModel model,
+			Supplier<ChainedCodeGeneratorTask<InformationModel>> infomodelGenerator,
+			Supplier<ChainedCodeGeneratorTask<FunctionblockModel>> functionblockGenerator) {
+		ChainedCodeGeneratorTask<InformationModel> generator = infomodelGenerator.get();
+		for (int i = 0; i < 10; i++) {
+			final int index = i;
+			generator.addTask((infomodel, context, writer) -> {
+				usedPools.add(ForkJoinTask.getPool());
+				writer.write(new Generated(infomodel.getName() + index + ".txt", "/" + infomodel.getNamespace() + "/",
+						infomodel.getDisplayname() + " " + index));
+			});
+		}
+
+		for (FunctionblockProperty fbProperty : model.getProperties()) {
+			ChainedCodeGeneratorTask<FunctionblockModel> fbGenerator = functionblockGenerator.get();
+			for (int i = 0; i < 10; i++) {
+				final int index = i;
+				fbGenerator.addTask((fbModel, context, writer) -> {
+					usedPools.add(ForkJoinTask.getPool());
+					StringBuilder content = new StringBuilder();
+					for (Property property : fbModel.getFunctionblock().getStatus().getProperties()) {
+						content.append(property.getName()).append(index).append('\n');
+					}
+					writer.write(new Generated(fbProperty.getName() + index + ".txt", fbModel.getName(), content.toString()));
+				});
+			}
+			generator.addTask((infomodel, context, writer) -> fbGenerator.generate(fbProperty.getType(), context, writer));
+		}
+		return generator;
+	}
+
+	private List<ZipEntryContent> readEntries(byte[] zip) throws IOException {
+		List<ZipEntryContent> entries = new ArrayList<>();
+		try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+			ZipEntry entry;
+			while ((entry = zis.getNextEntry()) != null) {
+				entries.add(new ZipEntryContent(entry.getName(), IOUtils.toByteArray(zis)));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Zip entries are compared by name and content, their modification times differ between two archives
+	 */
+	private static class ZipEntryContent {
+
+		private final String name;
+
+		private final byte[] content;
+
+		private ZipEntryContent(String name, byte[] content) {
+			this.name = name;
+			this.content = content;
+		}
+	}
+}